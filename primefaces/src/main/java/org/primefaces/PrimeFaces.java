@@ -28,6 +28,8 @@ import org.primefaces.context.PrimeApplicationContext;
 import org.primefaces.context.PrimeRequestContext;
 import org.primefaces.expression.ComponentNotFoundException;
 import org.primefaces.expression.SearchExpressionFacade;
+import org.primefaces.multiviewstate.MultiViewStateKey;
+import org.primefaces.multiviewstate.MultiViewStateStore;
 import org.primefaces.util.ComponentUtils;
 import org.primefaces.util.Constants;
 import org.primefaces.util.EscapeUtils;
@@ -45,9 +47,7 @@ import javax.faces.context.ExternalContext;
 import javax.faces.context.FacesContext;
 import javax.faces.context.PartialViewContext;
 import javax.faces.lifecycle.ClientWindow;
-import java.io.Serializable;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.logging.Level;
@@ -57,6 +57,7 @@ import java.util.stream.Collectors;
 public class PrimeFaces {
 
     private static final Logger LOGGER = Logger.getLogger(PrimeFaces.class.getName());
+    private static final String MVS_ACCESSED_KEY = PrimeFaces.class.getName() + ".MVS_ACCESSED";
 
     // There are 2 possible solutions
     // 1) the current static solution + use Faces/RequestContext#getCurrentInstance each time
@@ -420,11 +421,13 @@ public class PrimeFaces {
          */
         public void clearAll(boolean reset, Consumer<String> clientIdConsumer) {
             if (reset || clientIdConsumer != null) {
-                Set<MVSKey> keys = Collections.unmodifiableSet(getMVSKeys());
+                Set<MultiViewStateKey> keys = getMVSKeys();
                 clearMVSKeys(keys, reset, clientIdConsumer);
             }
 
-            getFacesContext().getExternalContext().getSessionMap().remove(Constants.MULTI_VIEW_STATES);
+            FacesContext context = getFacesContext();
+            getMVSAccessed(context).clear();
+            PrimeApplicationContext.getCurrentInstance(context).getMultiViewStateStore().clear(context);
         }
 
         /**
@@ -445,8 +448,8 @@ public class PrimeFaces {
          * @param clientIdConsumer operation to execute for every clientId after multiview state has been cleared
          */
         public void clearAll(String viewId, boolean reset, Consumer<String> clientIdConsumer) {
-            Set<MVSKey> keys = getMVSKeys().stream()
-                    .filter(k -> Objects.equals(k.viewId, viewId))
+            Set<MultiViewStateKey> keys = getMVSKeys().stream()
+                    .filter(k -> Objects.equals(k.getViewId(), viewId))
                     .collect(Collectors.toSet());
             if (!keys.isEmpty()) {
                 clearMVSKeys(keys, reset, clientIdConsumer);
@@ -471,12 +474,13 @@ public class PrimeFaces {
          * @param reset indicates whether or not the component should be reset
          */
         public void clear(String viewId, String clientId, boolean reset) {
-            MVSKey key = MVSKey.of(viewId, clientId);
+            MultiViewStateKey key = MultiViewStateKey.of(viewId, clientId);
             clearMVSKeys(Collections.singleton(key), reset, null);
         }
 
         /**
          * Gets multiview state attached to a component in a specific view.
+         * Getting a state with <code>create</code> marks it as changed, so it is stored again at the end of the request.
          *
          * @param viewId viewId of a page
          * @param clientId clientId of a component
@@ -487,13 +491,28 @@ public class PrimeFaces {
          * @return multiview state bean attached to a component
          */
         public <T> T get(String viewId, String clientId, boolean create, Supplier<T> supplier) {
-            Map<MVSKey, Object> mvsMap = getMVSStore(create);
-            MVSKey mvsKey = MVSKey.of(viewId, clientId);
+            FacesContext context = getFacesContext();
+            MultiViewStateKey mvsKey = MultiViewStateKey.of(viewId, clientId);
+            Map<MultiViewStateKey, AccessedState> accessed = getMVSAccessed(context);
+
+            AccessedState accessedState = accessed.get(mvsKey);
+            if (accessedState != null) {
+                accessedState.changed |= create;
+                return (T) accessedState.state;
+            }
+
+            MultiViewStateStore store = PrimeApplicationContext.getCurrentInstance(context).getMultiViewStateStore();
+            String windowId = getWindowId(context);
 
-            T state = (T) mvsMap.get(mvsKey);
+            T state = (T) store.get(context, windowId, mvsKey);
             if (state == null && create) {
                 state = supplier.get();
-                mvsMap.put(mvsKey, state);
+                store.put(context, windowId, mvsKey, state);
+            }
+
+            if (state != null) {
+                // components get the state with create before changing it, those are stored again at the end of the request
+                accessed.put(mvsKey, new AccessedState(state, create));
             }
 
             return state;
@@ -526,14 +545,42 @@ public class PrimeFaces {
             return get(viewId, clientId, false, null);
         }
 
-        private Set<MVSKey> getMVSKeys() {
-            return getMVSStore(false).keySet();
+        /**
+         * Stores the states used in the current request again, if the components changed them.
+         * Called at the end of the request.
+         */
+        public void flush() {
+            FacesContext context = getFacesContext();
+            Map<MultiViewStateKey, AccessedState> accessed = (Map) context.getAttributes().remove(MVS_ACCESSED_KEY);
+            if (accessed == null || accessed.isEmpty()) {
+                return;
+            }
+
+            // the response may already be committed, never create a session here
+            if (context.getExternalContext().getSession(false) == null) {
+                return;
+            }
+
+            MultiViewStateStore store = PrimeApplicationContext.getCurrentInstance(context).getMultiViewStateStore();
+            String windowId = getWindowId(context);
+            for (Map.Entry<MultiViewStateKey, AccessedState> entry : accessed.entrySet()) {
+                AccessedState accessedState = entry.getValue();
+                if (accessedState.changed) {
+                    store.put(context, windowId, entry.getKey(), accessedState.state);
+                }
+            }
+        }
+
+        private Set<MultiViewStateKey> getMVSKeys() {
+            FacesContext context = getFacesContext();
+            return PrimeApplicationContext.getCurrentInstance(context).getMultiViewStateStore().getKeys(context, getWindowId(context));
         }
 
-        private Map<MVSKey, Object> getMVSStore(boolean create) {
-            FacesContext fc = getFacesContext();
-            Map<String, Object> sessionMap = fc.getExternalContext().getSessionMap();
+        private Map<MultiViewStateKey, AccessedState> getMVSAccessed(FacesContext context) {
+            return (Map) context.getAttributes().computeIfAbsent(MVS_ACCESSED_KEY, k -> new HashMap<>());
+        }
 
+        private String getWindowId(FacesContext fc) {
             PrimeApplicationContext primeApplicationContext = PrimeApplicationContext.getCurrentInstance(fc);
             String clientWindowId = "session";
             if (primeApplicationContext.getEnvironment().isAtLeastJsf22() &&
@@ -544,26 +591,7 @@ public class PrimeFaces {
                     clientWindowId = clientWindow.getId();
                 }
             }
-
-            Map<String, Map<MVSKey, Object>> clientWindowMap = (Map) sessionMap.get(Constants.MULTI_VIEW_STATES);
-            if (clientWindowMap == null) {
-                clientWindowMap = new ConcurrentHashMap<>();
-                sessionMap.put(Constants.MULTI_VIEW_STATES, clientWindowMap);
-            }
-
-            Map<MVSKey, Object> mvsMap = clientWindowMap.get(clientWindowId);
-
-            if (mvsMap == null) {
-                if (create) {
-                    mvsMap = new ConcurrentHashMap<>();
-                    clientWindowMap.put(clientWindowId, mvsMap);
-                }
-                else {
-                    mvsMap = Collections.emptyMap();
-                }
-            }
-
-            return mvsMap;
+            return clientWindowId;
         }
 
         private void reset(String clientId) {
@@ -576,71 +604,42 @@ public class PrimeFaces {
             });
         }
 
-        private void clearMVSKeys(Set<MVSKey> keysToRemove, boolean reset, Consumer<String> clientIdConsumer) {
-            Set<MVSKey> mvsKeys = getMVSKeys();
-            for (MVSKey mvsKey : keysToRemove) {
-                if (!mvsKeys.remove(mvsKey)) {
+        private void clearMVSKeys(Set<MultiViewStateKey> keysToRemove, boolean reset, Consumer<String> clientIdConsumer) {
+            FacesContext context = getFacesContext();
+            MultiViewStateStore store = PrimeApplicationContext.getCurrentInstance(context).getMultiViewStateStore();
+            String windowId = getWindowId(context);
+            Map<MultiViewStateKey, AccessedState> accessed = getMVSAccessed(context);
+            for (MultiViewStateKey mvsKey : keysToRemove) {
+                accessed.remove(mvsKey);
+                if (!store.remove(context, windowId, mvsKey)) {
                     LOGGER.log(Level.WARNING,
                             "Multiview state for viewId: \"{0}\" and clientId \"{1}\" not found",
-                            new Object[]{mvsKey.viewId, mvsKey.clientId});
+                            new Object[]{mvsKey.getViewId(), mvsKey.getClientId()});
                     continue;
                 }
 
                 if (reset) {
-                    reset(mvsKey.clientId);
+                    reset(mvsKey.getClientId());
                 }
 
                 if (clientIdConsumer != null) {
-                    clientIdConsumer.accept(mvsKey.clientId);
+                    clientIdConsumer.accept(mvsKey.getClientId());
                 }
             }
         }
     }
 
-    private static class MVSKey implements Serializable {
-
-        private static final long serialVersionUID = 1L;
-
-        private String viewId;
-        private String clientId;
-
-        // serialization
-        private MVSKey() {
-            // NOOP
-        }
-
-        private MVSKey(String viewId, String clientId) {
-            this.viewId = viewId;
-            this.clientId = clientId;
-        }
-
-        public static MVSKey of(String viewId, String clientId) {
-            return new MVSKey(viewId, clientId);
-        }
-
-        @Override
-        public int hashCode() {
-            int hash = 7;
-            hash = 23 * hash + Objects.hashCode(viewId);
-            hash = 23 * hash + Objects.hashCode(clientId);
-            return hash;
-        }
+    /**
+     * A state used in the current request and if it might have been changed.
+     */
+    private static final class AccessedState {
 
-        @Override
-        public boolean equals(Object obj) {
-            if (this == obj) return true;
-            if (obj == null || getClass() != obj.getClass()) return false;
-            MVSKey other = (MVSKey) obj;
-            return Objects.equals(viewId, other.viewId) &&
-                    Objects.equals(clientId, other.clientId);
-        }
+        private final Object state;
+        private boolean changed;
 
-        @Override
-        public String toString() {
-            return "MVSKey{" +
-                    "viewId='" + viewId + '\'' +
-                    ", clientId='" + clientId + '\'' +
-                    '}';
+        AccessedState(Object state, boolean changed) {
+            this.state = state;
+            this.changed = changed;
         }
     }
 }
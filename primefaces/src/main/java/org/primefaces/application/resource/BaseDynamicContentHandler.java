@@ -23,6 +23,7 @@
  */
 package org.primefaces.application.resource;
 
+import java.io.IOException;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.Calendar;
@@ -30,7 +31,9 @@ import java.util.Locale;
 import java.util.TimeZone;
 
 import javax.faces.context.ExternalContext;
+import javax.servlet.http.HttpServletResponse;
 
+import org.primefaces.util.LangUtils;
 import org.primefaces.util.ResourceUtils;
 
 public abstract class BaseDynamicContentHandler implements DynamicContentHandler {
@@ -48,4 +51,80 @@ public abstract class BaseDynamicContentHandler implements DynamicContentHandler
             ResourceUtils.addNoCacheControl(externalContext);
         }
     }
+
+    /**
+     * Sends generated content with its content based ETag, a matching <code>If-None-Match</code> is answered with 304.
+     *
+     * @param externalContext the {@link ExternalContext}
+     * @param content the content
+     * @param cache if the content should be cached by the browser
+     * @throws IOException if the content could not be sent
+     */
+    protected void send(ExternalContext externalContext, GeneratedContent content, boolean cache) throws IOException {
+        handleCache(externalContext, cache);
+        externalContext.setResponseHeader("ETag", content.getETag());
+
+        String ifNoneMatch = externalContext.getRequestHeaderMap().get("If-None-Match");
+        if (ifNoneMatch != null && matchesETag(ifNoneMatch, content.getETag(), false)) {
+            externalContext.setResponseStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        externalContext.setResponseContentType(content.getContentType());
+        externalContext.setResponseContentLength(content.getData().length);
+        externalContext.setResponseStatus(HttpServletResponse.SC_OK);
+        externalContext.getResponseOutputStream().write(content.getData());
+    }
+
+    protected static boolean matchesETag(String header, String eTag, boolean strong) {
+        if (strong && eTag.startsWith("W/")) {
+            return false;
+        }
+
+        String opaqueTag = eTag.startsWith("W/") ? eTag.substring(2) : eTag;
+        for (String candidate : header.split(",")) {
+            candidate = candidate.trim();
+            if ("*".equals(candidate)) {
+                return true;
+            }
+            if (candidate.startsWith("W/")) {
+                if (strong) {
+                    continue;
+                }
+                candidate = candidate.substring(2);
+            }
+            if (candidate.equals(opaqueTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Content generated on the server, e.g. a barcode image, which can be shared between requests.
+     */
+    public static class GeneratedContent {
+
+        private final byte[] data;
+        private final String contentType;
+        private final String eTag;
+
+        public GeneratedContent(byte[] data, String contentType) {
+            this.data = data;
+            this.contentType = contentType;
+            this.eTag = "\"" + LangUtils.md5Hex(data) + "\"";
+        }
+
+        public byte[] getData() {
+            return data;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getETag() {
+            return eTag;
+        }
+    }
 }
@@ -0,0 +1,135 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2021 PrimeTek
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.application.resource;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.logging.Logger;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import javax.faces.FacesException;
+
+import org.primefaces.util.Constants;
+import org.primefaces.util.LangUtils;
+
+/**
+ * Builds and verifies the resource keys of stateless dynamic content URLs
+ * (see {@link org.primefaces.util.Constants.ContextParams#DYNAMIC_CONTENT_STATELESS}).
+ * <p>
+ * The key contains the expression itself plus its HMAC, so the {@link StreamedContentHandler} can evaluate it
+ * without a mapping in the session, while only expressions rendered by the application itself are accepted.
+ */
+public class DynamicContentSigner {
+
+    public static final char SEPARATOR = '.';
+
+    /**
+     * Minimum length of the secret in bytes, the length of the HMAC-SHA256 output.
+     */
+    public static final int MIN_SECRET_LENGTH = 32;
+
+    private static final Logger LOGGER = Logger.getLogger(DynamicContentSigner.class.getName());
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final SecretKeySpec secretKey;
+
+    /**
+     * @param secret the secret of at least {@link #MIN_SECRET_LENGTH} bytes, must be the same on all nodes of a cluster.
+     *               If <code>null</code>, a random one is used, so URLs are only valid until the application restarts.
+     * @throws FacesException if the secret is too short
+     */
+    public DynamicContentSigner(String secret) {
+        byte[] key;
+        if (LangUtils.isBlank(secret)) {
+            LOGGER.warning(Constants.ContextParams.DYNAMIC_CONTENT_SECRET + " is not set, a random secret is used."
+                    + " Stateless dynamic content URLs become invalid after a restart and are not valid on other cluster nodes.");
+            key = new byte[MIN_SECRET_LENGTH];
+            new SecureRandom().nextBytes(key);
+        }
+        else {
+            key = secret.getBytes(StandardCharsets.UTF_8);
+            if (key.length < MIN_SECRET_LENGTH) {
+                throw new FacesException(Constants.ContextParams.DYNAMIC_CONTENT_SECRET + " must have at least "
+                        + MIN_SECRET_LENGTH + " bytes, but has " + key.length);
+            }
+        }
+        secretKey = new SecretKeySpec(key, ALGORITHM);
+    }
+
+    /**
+     * @param expression the EL expression string
+     * @return the resource key, containing the expression and its signature
+     */
+    public String sign(String expression) {
+        byte[] value = expression.getBytes(StandardCharsets.UTF_8);
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString(value) + SEPARATOR + encoder.encodeToString(hmac(value));
+    }
+
+    /**
+     * @param resourceKey the resource key built by {@link #sign(String)}
+     * @return the expression string or <code>null</code>, if the key is malformed or the signature doesn't match
+     */
+    public String verify(String resourceKey) {
+        int separator = resourceKey == null ? -1 : resourceKey.indexOf(SEPARATOR);
+        if (separator <= 0) {
+            return null;
+        }
+
+        try {
+            Base64.Decoder decoder = Base64.getUrlDecoder();
+            byte[] value = decoder.decode(resourceKey.substring(0, separator));
+            byte[] signature = decoder.decode(resourceKey.substring(separator + 1));
+
+            // constant time comparison
+            if (!MessageDigest.isEqual(hmac(value), signature)) {
+                return null;
+            }
+            return new String(value, StandardCharsets.UTF_8);
+        }
+        catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    public static boolean isSigned(String resourceKey) {
+        return resourceKey != null && resourceKey.indexOf(SEPARATOR) > 0;
+    }
+
+    protected byte[] hmac(byte[] value) {
+        try {
+            // Mac is not thread-safe
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(secretKey);
+            return mac.doFinal(value);
+        }
+        catch (GeneralSecurityException e) {
+            throw new FacesException(e);
+        }
+    }
+}
@@ -24,7 +24,10 @@
 package org.primefaces.application.resource;
 
 import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
 
@@ -34,12 +37,20 @@ import javax.imageio.ImageIO;
 
 import org.primefaces.util.Constants;
 import org.primefaces.util.LangUtils;
+import org.primefaces.util.LimitedSizeHashMap;
 
 import io.nayuki.qrcodegen.QrCode;
 import io.nayuki.qrcodegen.QrCode.Ecc;
 
 public class QRCodeHandler extends BaseDynamicContentHandler {
 
+    private static final int CACHE_SIZE = 1000;
+
+    /**
+     * Rendered images by value and options, shared by all users as the image only depends on them.
+     */
+    private final Map<String, GeneratedContent> contents = Collections.synchronizedMap(new LimitedSizeHashMap<>(CACHE_SIZE, true));
+
     @Override
     public void handle(FacesContext context) throws IOException {
         Map<String, String> params = context.getExternalContext().getRequestParameterMap();
@@ -51,23 +62,35 @@ public class QRCodeHandler extends BaseDynamicContentHandler {
 
         if (value != null) {
             boolean cache = Boolean.parseBoolean(params.get(Constants.DYNAMIC_CONTENT_CACHE_PARAM));
+            Ecc errorCorrection = getErrorCorrection(params.get("qrec"));
+            boolean png = "png".equals(params.get("fmt"));
 
-            QrCode qrCode = QrCode.encodeText(value, getErrorCorrection(params.get("qrec")));
-            if ("png".equals(params.get("fmt"))) {
-                externalContext.setResponseContentType("image/png");
-                ImageIO.write(toImage(qrCode, 12, 0), "png", externalContext.getResponseOutputStream());
-            }
-            else {
-                externalContext.setResponseContentType("image/svg+xml");
-                externalContext.getResponseOutputWriter().write(toSvgString(qrCode, 0, "#FFFFFF", "#000000"));
+            String key = errorCorrection.name() + '\u0000' + png + '\u0000' + value;
+            GeneratedContent content = contents.get(key);
+            if (content == null) {
+                content = generate(value, errorCorrection, png);
+                contents.put(key, content);
             }
-            handleCache(externalContext, cache);
-            externalContext.setResponseStatus(200);
+
+            send(externalContext, content, cache);
             externalContext.responseFlushBuffer();
             context.responseComplete();
         }
     }
 
+    protected GeneratedContent generate(String value, Ecc errorCorrection, boolean png) throws IOException {
+        QrCode qrCode = QrCode.encodeText(value, errorCorrection);
+        if (png) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ImageIO.write(toImage(qrCode, 12, 0), "png", out);
+            return new GeneratedContent(out.toByteArray(), "image/png");
+        }
+        else {
+            return new GeneratedContent(toSvgString(qrCode, 0, "#FFFFFF", "#000000").getBytes(StandardCharsets.UTF_8),
+                    "image/svg+xml");
+        }
+    }
+
     protected Ecc getErrorCorrection(final String value) {
         switch (LangUtils.isNotBlank(value) ? value : Constants.EMPTY_STRING) {
             case "M":
@@ -24,8 +24,12 @@
 package org.primefaces.application.resource;
 
 import java.io.ByteArrayInputStream;
+import org.primefaces.context.PrimeApplicationContext;
+import org.primefaces.model.DefaultStreamedContent;
 import org.primefaces.model.StreamedContent;
 import org.primefaces.util.Constants;
+import org.primefaces.util.LangUtils;
+import org.primefaces.util.StreamedContentRegistry;
 
 import javax.el.ELContext;
 import javax.el.ValueExpression;
@@ -36,7 +40,23 @@ import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -46,6 +66,11 @@ public class StreamedContentHandler extends BaseDynamicContentHandler {
 
     private static final Logger LOGGER = Logger.getLogger(StreamedContentHandler.class.getName());
 
+    private static final int BUFFER_SIZE = 8192;
+    private static final int MAX_RANGES = 16;
+    private static final DateTimeFormatter HTTP_DATE_FORMATTER =
+            DateTimeFormatter.ofPattern("EEE, dd MMM yyyy HH:mm:ss 'GMT'", Locale.US).withZone(ZoneOffset.UTC);
+
     @Override
     public void handle(FacesContext context) throws IOException {
         Map<String, String> params = context.getExternalContext().getRequestParameterMap();
@@ -57,11 +82,27 @@ public class StreamedContentHandler extends BaseDynamicContentHandler {
 
             try {
                 ExternalContext externalContext = context.getExternalContext();
-                Map<String, Object> session = externalContext.getSessionMap();
-                Map<String, String> dynamicResourcesMapping = (Map) session.get(Constants.DYNAMIC_RESOURCES_MAPPING);
+                boolean signed = DynamicContentSigner.isSigned(resourceKey);
+                // stateless URLs must not create a session
+                Map<String, Object> session = signed ? null : externalContext.getSessionMap();
+                Map<String, String> dynamicResourcesMapping = session == null
+                        ? null
+                        : (Map) session.get(Constants.DYNAMIC_RESOURCES_MAPPING);
+                StreamedContent registeredContent = session == null ? null : removeRegisteredContent(session, resourceKey);
+
+                if (registeredContent != null) {
+                    streamRegisteredContent(externalContext, registeredContent, cache);
+                }
+                else if (signed || dynamicResourcesMapping != null) {
+                    String dynamicContentEL = signed
+                            ? PrimeApplicationContext.getCurrentInstance(context).getDynamicContentSigner().verify(resourceKey)
+                            : dynamicResourcesMapping.get(resourceKey);
 
-                if (dynamicResourcesMapping != null) {
-                    String dynamicContentEL = dynamicResourcesMapping.get(resourceKey);
+                    if (signed && dynamicContentEL == null) {
+                        LOGGER.log(Level.WARNING, "Invalid signature of dynamic content - skip streaming resource: {0}", resourceKey);
+                        sendNotFound(externalContext);
+                        return;
+                    }
 
                     if (dynamicContentEL != null) {
                         ELContext eLContext = context.getELContext();
@@ -85,6 +126,9 @@ public class StreamedContentHandler extends BaseDynamicContentHandler {
                                 setResponseHeaders(streamedContent, externalContext);
                                 stream(externalContext, streamedContent.getWriter(), cache);
                             }
+                            else if (streamedContent.getPath() != null) {
+                                stream(externalContext, streamedContent, null, cache);
+                            }
                             else {
                                 if (streamedContent.getStream() == null) {
                                     if (context.isProjectStage(ProjectStage.Development)) {
@@ -106,8 +150,7 @@ public class StreamedContentHandler extends BaseDynamicContentHandler {
                                         sendNotFound(externalContext);
                                         return;
                                     }
-                                    setResponseHeaders(streamedContent, externalContext);
-                                    stream(externalContext, inputStream, cache);
+                                    stream(externalContext, streamedContent, inputStream, cache);
                                 }
                             }
                         }
@@ -117,8 +160,14 @@ public class StreamedContentHandler extends BaseDynamicContentHandler {
                             }
                         }
                         else if (value instanceof byte[]) {
-                            try (InputStream inputStream = new ByteArrayInputStream((byte[]) value)) {
-                                stream(externalContext, inputStream, cache);
+                            byte[] bytes = (byte[]) value;
+                            StreamedContent streamedContent = DefaultStreamedContent.builder()
+                                    .stream(() -> new ByteArrayInputStream(bytes))
+                                    .contentLength(bytes.length)
+                                    .eTag("\"" + LangUtils.md5Hex(bytes) + "\"")
+                                    .build();
+                            try (InputStream inputStream = streamedContent.getStream().get()) {
+                                stream(externalContext, streamedContent, inputStream, cache);
                             }
                         }
                     }
@@ -133,11 +182,49 @@ public class StreamedContentHandler extends BaseDynamicContentHandler {
         }
     }
 
+    /**
+     * Removes content registered via {@link org.primefaces.util.DynamicContentSrcBuilder#buildStreaming(FacesContext, StreamedContent)}
+     * from the session, as it is streamed only once.
+     */
+    protected StreamedContent removeRegisteredContent(Map<String, Object> session, String resourceKey) {
+        Map<String, StreamedContent> streamedContents = (Map) session.get(Constants.DYNAMIC_STREAMED_CONTENTS);
+        if (streamedContents == null) {
+            return null;
+        }
+
+        synchronized (streamedContents) {
+            return streamedContents.remove(resourceKey);
+        }
+    }
+
+    protected void streamRegisteredContent(ExternalContext externalContext, StreamedContent streamedContent, boolean cache)
+            throws IOException {
+        try {
+            if (streamedContent.getWriter() != null) {
+                setResponseHeaders(streamedContent, externalContext);
+                stream(externalContext, streamedContent.getWriter(), cache);
+            }
+            else {
+                try (InputStream inputStream = streamedContent.getStream().get()) {
+                    stream(externalContext, streamedContent, inputStream, cache);
+                }
+            }
+        }
+        finally {
+            // it's streamed only once, e.g. delete its temporary file
+            StreamedContentRegistry.release(streamedContent);
+        }
+    }
+
     protected void setResponseHeaders(StreamedContent streamedContent, ExternalContext externalContext) {
+        setResponseHeaders(streamedContent, externalContext, true);
+    }
+
+    protected void setResponseHeaders(StreamedContent streamedContent, ExternalContext externalContext, boolean contentLength) {
         if (streamedContent.getContentType() != null) {
             externalContext.setResponseContentType(streamedContent.getContentType());
         }
-        if (streamedContent.getContentLength() != null) {
+        if (contentLength && streamedContent.getContentLength() != null) {
             externalContext.setResponseContentLength(streamedContent.getContentLength());
         }
         if (streamedContent.getContentEncoding() != null) {
@@ -153,11 +240,269 @@ public class StreamedContentHandler extends BaseDynamicContentHandler {
 
         handleCache(externalContext, cache);
 
-        byte[] buffer = new byte[2048];
+        copy(inputStream, externalContext.getResponseOutputStream(), Long.MAX_VALUE);
+    }
+
+    /**
+     * Streams a {@link StreamedContent} with support for conditional requests (<code>If-None-Match</code>,
+     * <code>If-Modified-Since</code>) and, if the content length is known, byte-range requests.
+     *
+     * @param externalContext the {@link ExternalContext}
+     * @param streamedContent the content
+     * @param inputStream the opened stream of the content or <code>null</code>, if the content is file-backed
+     * @param cache if the content should be cached by the browser
+     * @throws IOException if the content could not be streamed
+     */
+    protected void stream(ExternalContext externalContext, StreamedContent streamedContent, InputStream inputStream, boolean cache)
+            throws IOException {
+        Path path = inputStream == null ? streamedContent.getPath() : null;
+        Long length = path == null
+                ? (streamedContent.getContentLength() == null ? null : streamedContent.getContentLength().longValue())
+                : Files.size(path);
+        Long lastModified = streamedContent.getLastModified();
+        String eTag = resolveETag(streamedContent, length, lastModified);
+
+        setResponseHeaders(streamedContent, externalContext, false);
+        handleCache(externalContext, cache);
+        if (eTag != null) {
+            externalContext.setResponseHeader("ETag", eTag);
+        }
+        if (lastModified != null) {
+            externalContext.setResponseHeader("Last-Modified", HTTP_DATE_FORMATTER.format(Instant.ofEpochMilli(lastModified)));
+        }
 
+        if (isNotModified(externalContext, eTag, lastModified)) {
+            externalContext.setResponseStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        if (length == null) {
+            externalContext.setResponseStatus(HttpServletResponse.SC_OK);
+            copy(inputStream, externalContext.getResponseOutputStream(), Long.MAX_VALUE);
+            return;
+        }
+
+        externalContext.setResponseHeader("Accept-Ranges", "bytes");
+
+        List<long[]> ranges = null;
+        if (isRangeApplicable(externalContext, eTag, lastModified)) {
+            ranges = parseRanges(externalContext.getRequestHeaderMap().get("Range"), length, path != null);
+        }
+
+        OutputStream out;
+        if (ranges == null) {
+            externalContext.setResponseStatus(HttpServletResponse.SC_OK);
+            externalContext.setResponseHeader("Content-Length", String.valueOf(length));
+            out = externalContext.getResponseOutputStream();
+            transfer(path, inputStream, out, 0, length);
+        }
+        else if (ranges.isEmpty()) {
+            externalContext.setResponseHeader("Content-Range", "bytes */" + length);
+            externalContext.setResponseStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+        }
+        else if (ranges.size() == 1) {
+            long[] range = ranges.get(0);
+            externalContext.setResponseStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            externalContext.setResponseHeader("Content-Range", "bytes " + range[0] + "-" + range[1] + "/" + length);
+            externalContext.setResponseHeader("Content-Length", String.valueOf(range[1] - range[0] + 1));
+            out = externalContext.getResponseOutputStream();
+            transfer(path, inputStream, out, range[0], range[1] - range[0] + 1);
+        }
+        else {
+            String boundary = UUID.randomUUID().toString();
+            String contentType = streamedContent.getContentType();
+            externalContext.setResponseStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            externalContext.setResponseContentType("multipart/byteranges; boundary=" + boundary);
+            out = externalContext.getResponseOutputStream();
+
+            long position = 0;
+            for (long[] range : ranges) {
+                StringBuilder partHeader = new StringBuilder("\r\n--").append(boundary).append("\r\n");
+                if (contentType != null) {
+                    partHeader.append("Content-Type: ").append(contentType).append("\r\n");
+                }
+                partHeader.append("Content-Range: bytes ").append(range[0]).append('-').append(range[1]).append('/').append(length)
+                        .append("\r\n\r\n");
+                out.write(partHeader.toString().getBytes(StandardCharsets.US_ASCII));
+
+                // streams can only be read forward, parseRanges ensures ascending ranges for them
+                transfer(path, inputStream, out, path == null ? range[0] - position : range[0], range[1] - range[0] + 1);
+                position = range[1] + 1;
+            }
+            out.write(("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII));
+        }
+    }
+
+    /**
+     * Writes <code>count</code> bytes, starting at <code>offset</code>, either from the file via {@link FileChannel}
+     * or from the current position (plus <code>offset</code>) of the stream.
+     */
+    protected void transfer(Path path, InputStream inputStream, OutputStream out, long offset, long count) throws IOException {
+        if (path != null) {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                WritableByteChannel target = Channels.newChannel(out);
+                long position = offset;
+                long remaining = count;
+                while (remaining > 0) {
+                    long transferred = channel.transferTo(position, remaining, target);
+                    if (transferred <= 0) {
+                        break;
+                    }
+                    position += transferred;
+                    remaining -= transferred;
+                }
+            }
+        }
+        else {
+            long skipped = 0;
+            while (skipped < offset) {
+                long n = inputStream.skip(offset - skipped);
+                if (n <= 0) {
+                    if (inputStream.read() < 0) {
+                        return;
+                    }
+                    n = 1;
+                }
+                skipped += n;
+            }
+            copy(inputStream, out, count);
+        }
+    }
+
+    protected void copy(InputStream inputStream, OutputStream out, long count) throws IOException {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        long remaining = count;
         int length;
-        while ((length = (inputStream.read(buffer))) >= 0) {
-            externalContext.getResponseOutputStream().write(buffer, 0, length);
+        while (remaining > 0 && (length = inputStream.read(buffer, 0, (int) Math.min(buffer.length, remaining))) >= 0) {
+            out.write(buffer, 0, length);
+            remaining -= length;
+        }
+    }
+
+    protected String resolveETag(StreamedContent streamedContent, Long length, Long lastModified) {
+        String eTag = streamedContent.getETag();
+        if (eTag != null) {
+            return eTag.startsWith("\"") || eTag.startsWith("W/\"") ? eTag : "\"" + eTag + "\"";
+        }
+        if (length != null && lastModified != null) {
+            return "W/\"" + length + "-" + lastModified + "\"";
+        }
+        return null;
+    }
+
+    protected boolean isNotModified(ExternalContext externalContext, String eTag, Long lastModified) {
+        Map<String, String> headers = externalContext.getRequestHeaderMap();
+
+        String ifNoneMatch = headers.get("If-None-Match");
+        if (ifNoneMatch != null) {
+            // weak comparison, see RFC 7232 section 3.2
+            return eTag != null && matchesETag(ifNoneMatch, eTag, false);
+        }
+
+        String ifModifiedSince = headers.get("If-Modified-Since");
+        if (ifModifiedSince != null && lastModified != null) {
+            Long since = parseHttpDate(ifModifiedSince);
+            return since != null && lastModified / 1000 <= since / 1000;
+        }
+
+        return false;
+    }
+
+    protected boolean isRangeApplicable(ExternalContext externalContext, String eTag, Long lastModified) {
+        String ifRange = externalContext.getRequestHeaderMap().get("If-Range");
+        if (ifRange == null) {
+            return true;
+        }
+
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/\"")) {
+            // strong comparison, see RFC 7233 section 3.2
+            return eTag != null && matchesETag(ifRange, eTag, true);
+        }
+
+        Long date = parseHttpDate(ifRange);
+        return date != null && lastModified != null && lastModified / 1000 == date / 1000;
+    }
+
+    /**
+     * Parses a <code>Range</code> header.
+     *
+     * @param header the header value
+     * @param length the length of the content
+     * @param randomAccess if the ranges can be served in any order (e.g. file-backed content)
+     * @return <code>null</code> if the header is missing, invalid or should be ignored (full content),
+     *         an empty list if no range is satisfiable, otherwise the ranges as <code>[first, last]</code> (inclusive)
+     */
+    protected static List<long[]> parseRanges(String header, long length, boolean randomAccess) {
+        if (header == null || !header.startsWith("bytes=")) {
+            return null;
+        }
+
+        String[] specs = header.substring("bytes=".length()).split(",");
+        if (specs.length > MAX_RANGES) {
+            return null;
+        }
+
+        List<long[]> ranges = new ArrayList<>(specs.length);
+        for (String spec : specs) {
+            spec = spec.trim();
+            int dash = spec.indexOf('-');
+            if (dash < 0) {
+                return null;
+            }
+
+            try {
+                String firstValue = spec.substring(0, dash).trim();
+                String lastValue = spec.substring(dash + 1).trim();
+                long first;
+                long last;
+
+                if (firstValue.isEmpty()) {
+                    // suffix range, e.g. "-500" for the last 500 bytes
+                    long suffixLength = Long.parseLong(lastValue);
+                    if (suffixLength <= 0) {
+                        continue;
+                    }
+                    first = Math.max(0, length - suffixLength);
+                    last = length - 1;
+                }
+                else {
+                    first = Long.parseLong(firstValue);
+                    last = lastValue.isEmpty() ? length - 1 : Math.min(Long.parseLong(lastValue), length - 1);
+                    if (last < first) {
+                        if (!lastValue.isEmpty() && Long.parseLong(lastValue) < first) {
+                            return null;
+                        }
+                        continue;
+                    }
+                }
+
+                if (first < length) {
+                    ranges.add(new long[] {first, last});
+                }
+            }
+            catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        if (!randomAccess) {
+            // streams can only be read forward, so ignore overlapping or unordered ranges
+            for (int i = 1; i < ranges.size(); i++) {
+                if (ranges.get(i)[0] <= ranges.get(i - 1)[1]) {
+                    return null;
+                }
+            }
+        }
+
+        return ranges;
+    }
+
+    protected static Long parseHttpDate(String value) {
+        try {
+            return ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+        }
+        catch (DateTimeParseException e) {
+            return null;
         }
     }
 
@@ -24,10 +24,12 @@
 package org.primefaces.application.resource.barcode;
 
 import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.OutputStream;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import javax.faces.context.ExternalContext;
@@ -43,27 +45,38 @@ import org.krysalis.barcode4j.output.bitmap.BitmapCanvasProvider;
 import org.krysalis.barcode4j.output.svg.SVGCanvasProvider;
 import org.primefaces.application.resource.BaseDynamicContentHandler;
 import org.primefaces.util.Constants;
+import org.primefaces.util.LimitedSizeHashMap;
 import org.w3c.dom.DocumentFragment;
 
 public class BarcodeHandler extends BaseDynamicContentHandler {
 
     private static final Logger LOGGER = Logger.getLogger(BarcodeHandler.class.getName());
 
-    private final Map<String, BarcodeGenerator> generators;
+    private static final int CACHE_SIZE = 1000;
+
+    /**
+     * Barcode beans are configured per request, so a new generator is created for each image.
+     */
+    private final Map<String, Supplier<BarcodeGenerator>> generators;
+
+    /**
+     * Rendered images by value and options, shared by all users as the image only depends on them.
+     */
+    private final Map<String, GeneratedContent> contents = Collections.synchronizedMap(new LimitedSizeHashMap<>(CACHE_SIZE, true));
 
     public BarcodeHandler() {
         generators = new HashMap<>();
-        generators.put("int2of5", new Int2of5Generator());
-        generators.put("codabar", new CodabarGenerator());
-        generators.put("code39", new Code39Generator());
-        generators.put("code128", new Code128Generator());
-        generators.put("ean8", new EAN8Generator());
-        generators.put("ean13", new EAN13Generator());
-        generators.put("upca", new UPCAGenerator());
-        generators.put("upce", new UPCEGenerator());
-        generators.put("postnet", new PostnetGenerator());
-        generators.put("pdf417", new PDF417Generator());
-        generators.put("datamatrix", new DataMatrixGenerator());
+        generators.put("int2of5", Int2of5Generator::new);
+        generators.put("codabar", CodabarGenerator::new);
+        generators.put("code39", Code39Generator::new);
+        generators.put("code128", Code128Generator::new);
+        generators.put("ean8", EAN8Generator::new);
+        generators.put("ean13", EAN13Generator::new);
+        generators.put("upca", UPCAGenerator::new);
+        generators.put("upce", UPCEGenerator::new);
+        generators.put("postnet", PostnetGenerator::new);
+        generators.put("pdf417", PDF417Generator::new);
+        generators.put("datamatrix", DataMatrixGenerator::new);
     }
 
     @Override
@@ -77,42 +90,24 @@ public class BarcodeHandler extends BaseDynamicContentHandler {
 
         if (value != null) {
             try {
-                BarcodeGenerator generator = generators.get(params.get("gen"));
+                String type = params.get("gen");
                 String format = params.get("fmt");
                 String hrp = params.get("hrp");
                 int orientation = Integer.parseInt(params.get("ori"));
                 boolean cache = Boolean.parseBoolean(params.get(Constants.DYNAMIC_CONTENT_CACHE_PARAM));
 
-                generator.getBarcodeBean().setMsgPosition(HumanReadablePlacement.byName(hrp));
-
-                OutputStream out = externalContext.getResponseOutputStream();
-
-                handleCache(externalContext, cache);
-
-                if ("png".equals(format)) {
-                    externalContext.setResponseContentType("image/png");
-
-                    BitmapCanvasProvider bitmapCanvasProvider = new BitmapCanvasProvider(
-                            out, "image/x-png", 150, BufferedImage.TYPE_BYTE_BINARY, false, orientation);
-                    generator.generate(bitmapCanvasProvider, value);
-                    bitmapCanvasProvider.finish();
-                }
-                else if ("svg".equals(format)) {
-                    externalContext.setResponseContentType("image/svg+xml");
-
-                    SVGCanvasProvider svgCanvasProvider = new SVGCanvasProvider(false, orientation);
-                    generator.generate(svgCanvasProvider, value);
-                    DocumentFragment frag = svgCanvasProvider.getDOMFragment();
-
-                    TransformerFactory factory = TransformerFactory.newInstance();
-                    factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
-                    Transformer trans = factory.newTransformer();
-                    Source src = new javax.xml.transform.dom.DOMSource(frag);
-                    Result res = new javax.xml.transform.stream.StreamResult(out);
-                    trans.transform(src, res);
+                String key = type + '\u0000' + format + '\u0000' + hrp + '\u0000' + orientation + '\u0000' + value;
+                GeneratedContent content = contents.get(key);
+                if (content == null) {
+                    content = generate(type, format, hrp, orientation, value);
+                    if (content != null) {
+                        contents.put(key, content);
+                    }
                 }
 
-                externalContext.setResponseStatus(200);
+                if (content != null) {
+                    send(externalContext, content, cache);
+                }
             }
             catch (Exception e) {
                 LOGGER.log(Level.SEVERE, "Error in streaming barcode resource. {0}", new Object[]{e.getMessage()});
@@ -123,4 +118,36 @@ public class BarcodeHandler extends BaseDynamicContentHandler {
             }
         }
     }
+
+    protected GeneratedContent generate(String type, String format, String hrp, int orientation, String value) throws Exception {
+        BarcodeGenerator generator = generators.get(type).get();
+        generator.getBarcodeBean().setMsgPosition(HumanReadablePlacement.byName(hrp));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        if ("png".equals(format)) {
+            BitmapCanvasProvider bitmapCanvasProvider = new BitmapCanvasProvider(
+                    out, "image/x-png", 150, BufferedImage.TYPE_BYTE_BINARY, false, orientation);
+            generator.generate(bitmapCanvasProvider, value);
+            bitmapCanvasProvider.finish();
+
+            return new GeneratedContent(out.toByteArray(), "image/png");
+        }
+        else if ("svg".equals(format)) {
+            SVGCanvasProvider svgCanvasProvider = new SVGCanvasProvider(false, orientation);
+            generator.generate(svgCanvasProvider, value);
+            DocumentFragment frag = svgCanvasProvider.getDOMFragment();
+
+            TransformerFactory factory = TransformerFactory.newInstance();
+            factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+            Transformer trans = factory.newTransformer();
+            Source src = new javax.xml.transform.dom.DOMSource(frag);
+            Result res = new javax.xml.transform.stream.StreamResult(out);
+            trans.transform(src, res);
+
+            return new GeneratedContent(out.toByteArray(), "image/svg+xml");
+        }
+
+        return null;
+    }
 }
@@ -0,0 +1,440 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2021 PrimeTek
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.cache;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.faces.context.ExternalContext;
+import javax.faces.context.FacesContext;
+
+import org.primefaces.util.Constants;
+import org.primefaces.util.LangUtils;
+
+/**
+ * In-process cache provider with a bounded number of entries per region and optional expire-after-write.
+ * Each region is a segmented LRU: new entries start in a probationary segment and are promoted to a protected segment
+ * on their second hit, so one-time entries can't displace frequently used ones.
+ *
+ * As regions are created per view by default, the total number of entries of all regions is bounded too: once it's exceeded,
+ * the least recently used entries of the least recently used region are evicted, and empty regions are dropped.
+ *
+ * It's configured via the context params {@link Constants.ContextParams#CACHE_MAX_ENTRIES} (per region, default 10000),
+ * {@link Constants.ContextParams#CACHE_MAX_TOTAL_ENTRIES} (all regions, default 100000),
+ * {@link Constants.ContextParams#CACHE_REGION_MAX_ENTRIES} (e.g. <code>/index.xhtml=100,menu=10</code>)
+ * and {@link Constants.ContextParams#CACHE_EXPIRE_AFTER_WRITE} (seconds, default 0 = never).
+ */
+public class BoundedCacheProvider implements TaggedCacheProvider, CacheStatistics {
+
+    public static final int DEFAULT_MAX_ENTRIES = 10000;
+    public static final int DEFAULT_MAX_TOTAL_ENTRIES = 100000;
+
+    private static final double PROTECTED_RATIO = 0.8;
+
+    private final int maxEntries;
+    private final int maxTotalEntries;
+    private final Map<String, Integer> regionMaxEntries;
+    private final long expireAfterWrite;
+
+    private final Map<String, Region> regions = new ConcurrentHashMap<>();
+    private final Map<String, Set<RegionKey>> tags = new ConcurrentHashMap<>();
+    private final AtomicInteger totalEntries = new AtomicInteger();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    public BoundedCacheProvider() {
+        FacesContext context = FacesContext.getCurrentInstance();
+        ExternalContext externalContext = context == null ? null : context.getExternalContext();
+
+        String maxEntriesParam = externalContext == null ? null : externalContext.getInitParameter(Constants.ContextParams.CACHE_MAX_ENTRIES);
+        String maxTotalEntriesParam = externalContext == null
+                ? null
+                : externalContext.getInitParameter(Constants.ContextParams.CACHE_MAX_TOTAL_ENTRIES);
+        String regionMaxEntriesParam = externalContext == null
+                ? null
+                : externalContext.getInitParameter(Constants.ContextParams.CACHE_REGION_MAX_ENTRIES);
+        String expireAfterWriteParam = externalContext == null
+                ? null
+                : externalContext.getInitParameter(Constants.ContextParams.CACHE_EXPIRE_AFTER_WRITE);
+
+        this.maxEntries = LangUtils.isBlank(maxEntriesParam) ? DEFAULT_MAX_ENTRIES : Integer.parseInt(maxEntriesParam.trim());
+        this.maxTotalEntries = LangUtils.isBlank(maxTotalEntriesParam)
+                ? DEFAULT_MAX_TOTAL_ENTRIES
+                : Integer.parseInt(maxTotalEntriesParam.trim());
+        this.regionMaxEntries = parseRegionMaxEntries(regionMaxEntriesParam);
+        this.expireAfterWrite = LangUtils.isBlank(expireAfterWriteParam) ? 0 : Long.parseLong(expireAfterWriteParam.trim()) * 1000L;
+    }
+
+    /**
+     * @param maxEntries the maximum number of entries per region
+     * @param regionMaxEntries the maximum number of entries of specific regions
+     * @param expireAfterWrite the time in milliseconds after which an entry expires, 0 means never
+     */
+    public BoundedCacheProvider(int maxEntries, Map<String, Integer> regionMaxEntries, long expireAfterWrite) {
+        this(maxEntries, DEFAULT_MAX_TOTAL_ENTRIES, regionMaxEntries, expireAfterWrite);
+    }
+
+    /**
+     * @param maxEntries the maximum number of entries per region
+     * @param maxTotalEntries the maximum number of entries of all regions
+     * @param regionMaxEntries the maximum number of entries of specific regions
+     * @param expireAfterWrite the time in milliseconds after which an entry expires, 0 means never
+     */
+    public BoundedCacheProvider(int maxEntries, int maxTotalEntries, Map<String, Integer> regionMaxEntries, long expireAfterWrite) {
+        this.maxEntries = maxEntries;
+        this.maxTotalEntries = Math.max(1, maxTotalEntries);
+        this.regionMaxEntries = new HashMap<>(regionMaxEntries);
+        this.expireAfterWrite = expireAfterWrite;
+    }
+
+    @Override
+    public Object get(String region, String key) {
+        Region cacheRegion = regions.get(region);
+        Entry entry = cacheRegion == null ? null : cacheRegion.get(key, System.currentTimeMillis());
+        if (entry == null) {
+            missCount.increment();
+            return null;
+        }
+
+        hitCount.increment();
+        return entry.value;
+    }
+
+    @Override
+    public void put(String region, String key, Object object) {
+        put(region, key, object, Collections.emptyList());
+    }
+
+    @Override
+    public void put(String region, String key, Object object, Collection<String> tags) {
+        long expiresAt = expireAfterWrite > 0 ? System.currentTimeMillis() + expireAfterWrite : 0;
+        Entry entry = new Entry(object, expiresAt, tags.isEmpty() ? Collections.emptyList() : new ArrayList<>(tags));
+
+        // an empty region may have been dropped concurrently, then the entry is added to a new one
+        boolean added;
+        do {
+            added = getRegion(region).put(key, entry);
+        }
+        while (!added);
+
+        evictTotalOverflow();
+    }
+
+    @Override
+    public void remove(String region, String key) {
+        Region cacheRegion = regions.get(region);
+        if (cacheRegion != null) {
+            cacheRegion.remove(key);
+        }
+    }
+
+    @Override
+    public void invalidate(String tag) {
+        Set<RegionKey> regionKeys = tags.remove(tag);
+        if (regionKeys != null) {
+            for (RegionKey regionKey : regionKeys) {
+                remove(regionKey.region, regionKey.key);
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        for (Region region : regions.values()) {
+            region.drop();
+        }
+        tags.clear();
+    }
+
+    @Override
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    @Override
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    @Override
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    /**
+     * @param region the cache region
+     * @return the number of entries in the region
+     */
+    public int size(String region) {
+        Region cacheRegion = regions.get(region);
+        return cacheRegion == null ? 0 : cacheRegion.size();
+    }
+
+    /**
+     * @return the number of entries of all regions
+     */
+    public int size() {
+        return totalEntries.get();
+    }
+
+    protected Region getRegion(String name) {
+        return regions.computeIfAbsent(name, k -> new Region(k, regionMaxEntries.getOrDefault(k, maxEntries)));
+    }
+
+    /**
+     * Evicts entries of the least recently used regions until the total number of entries is within its limit.
+     * Only runs once the limit is reached, so the regions are only scanned if the cache is full.
+     */
+    protected void evictTotalOverflow() {
+        while (totalEntries.get() > maxTotalEntries) {
+            Region eldest = null;
+            for (Region region : regions.values()) {
+                if (region.size() > 0 && (eldest == null || region.lastAccess < eldest.lastAccess)) {
+                    eldest = region;
+                }
+            }
+
+            if (eldest == null) {
+                return;
+            }
+            eldest.evictEldest();
+        }
+    }
+
+    protected void onRemoval(String region, String key, Entry entry, boolean evicted) {
+        if (evicted) {
+            evictionCount.increment();
+        }
+
+        if (!entry.tags.isEmpty()) {
+            RegionKey regionKey = new RegionKey(region, key);
+            for (String tag : entry.tags) {
+                tags.computeIfPresent(tag, (k, regionKeys) -> {
+                    regionKeys.remove(regionKey);
+                    return regionKeys.isEmpty() ? null : regionKeys;
+                });
+            }
+        }
+    }
+
+    protected static Map<String, Integer> parseRegionMaxEntries(String value) {
+        Map<String, Integer> result = new HashMap<>();
+        if (LangUtils.isBlank(value)) {
+            return result;
+        }
+
+        for (String regionMaxEntry : value.split(",")) {
+            int separator = regionMaxEntry.lastIndexOf('=');
+            if (separator > 0) {
+                result.put(regionMaxEntry.substring(0, separator).trim(), Integer.parseInt(regionMaxEntry.substring(separator + 1).trim()));
+            }
+        }
+        return result;
+    }
+
+    protected static class Entry {
+
+        private final Object value;
+        private final long expiresAt;
+        private final Collection<String> tags;
+
+        Entry(Object value, long expiresAt, Collection<String> tags) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+            this.tags = tags;
+        }
+
+        boolean isExpired(long now) {
+            return expiresAt > 0 && now >= expiresAt;
+        }
+    }
+
+    /**
+     * Segmented LRU of a single region, guarded by its own monitor.
+     * Once it's empty after a removal, it's dropped from the regions and doesn't accept new entries anymore.
+     */
+    protected class Region {
+
+        private volatile long lastAccess = System.nanoTime();
+        private boolean dropped;
+
+        private final String name;
+        private final int maxEntries;
+        private final int maxProtectedEntries;
+        private final LinkedHashMap<String, Entry> probation = new LinkedHashMap<>(16, 0.75f, true);
+        private final LinkedHashMap<String, Entry> protectedSegment = new LinkedHashMap<>(16, 0.75f, true);
+
+        Region(String name, int maxEntries) {
+            this.name = name;
+            this.maxEntries = Math.max(1, maxEntries);
+            this.maxProtectedEntries = (int) (this.maxEntries * PROTECTED_RATIO);
+        }
+
+        synchronized Entry get(String key, long now) {
+            lastAccess = System.nanoTime();
+            Entry entry = protectedSegment.get(key);
+            if (entry == null) {
+                entry = probation.get(key);
+                if (entry == null) {
+                    return null;
+                }
+
+                if (!entry.isExpired(now) && maxProtectedEntries > 0) {
+                    // second hit, promote and demote the least recently used protected entry if necessary
+                    probation.remove(key);
+                    protectedSegment.put(key, entry);
+                    if (protectedSegment.size() > maxProtectedEntries) {
+                        Map.Entry<String, Entry> eldest = protectedSegment.entrySet().iterator().next();
+                        protectedSegment.remove(eldest.getKey());
+                        probation.put(eldest.getKey(), eldest.getValue());
+                    }
+                }
+            }
+
+            if (entry.isExpired(now)) {
+                Entry removed = protectedSegment.remove(key);
+                if (removed == null) {
+                    removed = probation.remove(key);
+                }
+                totalEntries.decrementAndGet();
+                onRemoval(name, key, removed, true);
+                dropIfEmpty();
+                return null;
+            }
+
+            return entry;
+        }
+
+        /**
+         * @return <code>false</code> if the region was dropped and the entry wasn't added
+         */
+        synchronized boolean put(String key, Entry entry) {
+            if (dropped) {
+                return false;
+            }
+
+            lastAccess = System.nanoTime();
+            Entry previous = protectedSegment.containsKey(key) ? protectedSegment.put(key, entry) : probation.put(key, entry);
+            if (previous != null) {
+                onRemoval(name, key, previous, false);
+            }
+            else {
+                totalEntries.incrementAndGet();
+            }
+
+            RegionKey regionKey = new RegionKey(name, key);
+            for (String tag : entry.tags) {
+                tags.compute(tag, (k, regionKeys) -> {
+                    Set<RegionKey> result = regionKeys == null ? ConcurrentHashMap.newKeySet() : regionKeys;
+                    result.add(regionKey);
+                    return result;
+                });
+            }
+
+            while (probation.size() + protectedSegment.size() > maxEntries) {
+                LinkedHashMap<String, Entry> segment = probation.isEmpty() ? protectedSegment : probation;
+                Map.Entry<String, Entry> eldest = segment.entrySet().iterator().next();
+                segment.remove(eldest.getKey());
+                totalEntries.decrementAndGet();
+                onRemoval(name, eldest.getKey(), eldest.getValue(), true);
+            }
+
+            return true;
+        }
+
+        synchronized void evictEldest() {
+            LinkedHashMap<String, Entry> segment = probation.isEmpty() ? protectedSegment : probation;
+            if (!segment.isEmpty()) {
+                Map.Entry<String, Entry> eldest = segment.entrySet().iterator().next();
+                segment.remove(eldest.getKey());
+                totalEntries.decrementAndGet();
+                onRemoval(name, eldest.getKey(), eldest.getValue(), true);
+            }
+            dropIfEmpty();
+        }
+
+        synchronized void remove(String key) {
+            Entry removed = protectedSegment.remove(key);
+            if (removed == null) {
+                removed = probation.remove(key);
+            }
+            if (removed != null) {
+                totalEntries.decrementAndGet();
+                onRemoval(name, key, removed, false);
+                dropIfEmpty();
+            }
+        }
+
+        synchronized int size() {
+            return probation.size() + protectedSegment.size();
+        }
+
+        synchronized void drop() {
+            totalEntries.addAndGet(-size());
+            probation.clear();
+            protectedSegment.clear();
+            dropped = true;
+            regions.remove(name, this);
+        }
+
+        private void dropIfEmpty() {
+            if (probation.isEmpty() && protectedSegment.isEmpty()) {
+                dropped = true;
+                regions.remove(name, this);
+            }
+        }
+    }
+
+    private static final class RegionKey {
+
+        private final String region;
+        private final String key;
+
+        RegionKey(String region, String key) {
+            this.region = region;
+            this.key = key;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof RegionKey)) {
+                return false;
+            }
+            RegionKey that = (RegionKey) o;
+            return region.equals(that.region) && key.equals(that.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(region, key);
+        }
+    }
+}
@@ -23,7 +23,12 @@
  */
 package org.primefaces.cache;
 
+import java.util.AbstractMap;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.logging.Logger;
@@ -31,14 +36,18 @@ import java.util.logging.Logger;
 /**
  * Basic cache provider for development purposes, should be avoided to use in production as there is no eviction and timeouts.
  */
-public class DefaultCacheProvider implements CacheProvider {
+public class DefaultCacheProvider implements TaggedCacheProvider {
 
     private static final Logger LOGGER = Logger.getLogger(DefaultCacheProvider.class.getName());
 
     private final Map<String, ConcurrentMap<String, Object>> cache;
+    private final Map<String, Set<Map.Entry<String, String>>> tags;
+    private final Map<Map.Entry<String, String>, Collection<String>> entryTags;
 
     public DefaultCacheProvider() {
         cache = new ConcurrentHashMap<>();
+        tags = new ConcurrentHashMap<>();
+        entryTags = new ConcurrentHashMap<>();
         LOGGER.warning("DefaultCacheProvider is for development purposes only, prefer another provider such as EhCache and HazelCast in production.");
     }
 
@@ -50,19 +59,75 @@ public class DefaultCacheProvider implements CacheProvider {
 
     @Override
     public void put(String region, String key, Object object) {
+        put(region, key, object, Collections.emptyList());
+    }
+
+    @Override
+    public void put(String region, String key, Object object, Collection<String> tags) {
         Map<String, Object> cacheRegion = getRegion(region);
         cacheRegion.put(key, object);
+
+        Map.Entry<String, String> entry = new AbstractMap.SimpleImmutableEntry<>(region, key);
+        Collection<String> previousTags = tags.isEmpty() ? entryTags.remove(entry) : entryTags.put(entry, new HashSet<>(tags));
+        if (previousTags != null) {
+            for (String tag : previousTags) {
+                if (!tags.contains(tag)) {
+                    untag(tag, entry);
+                }
+            }
+        }
+        for (String tag : tags) {
+            this.tags.compute(tag, (k, entries) -> {
+                Set<Map.Entry<String, String>> result = entries == null ? ConcurrentHashMap.newKeySet() : entries;
+                result.add(entry);
+                return result;
+            });
+        }
+    }
+
+    @Override
+    public void invalidate(String tag) {
+        Set<Map.Entry<String, String>> entries = tags.remove(tag);
+        if (entries != null) {
+            for (Map.Entry<String, String> entry : entries) {
+                remove(entry.getKey(), entry.getValue());
+            }
+        }
     }
 
     @Override
     public void remove(String region, String key) {
         Map<String, Object> cacheRegion = getRegion(region);
         cacheRegion.remove(key);
+
+        Map.Entry<String, String> entry = new AbstractMap.SimpleImmutableEntry<>(region, key);
+        Collection<String> previousTags = entryTags.remove(entry);
+        if (previousTags != null) {
+            for (String tag : previousTags) {
+                untag(tag, entry);
+            }
+        }
     }
 
     @Override
     public void clear() {
         cache.clear();
+        tags.clear();
+        entryTags.clear();
+    }
+
+    /**
+     * @return the number of tags which are associated with at least one entry
+     */
+    int getTagCount() {
+        return tags.size();
+    }
+
+    private void untag(String tag, Map.Entry<String, String> entry) {
+        tags.computeIfPresent(tag, (k, entries) -> {
+            entries.remove(entry);
+            return entries.isEmpty() ? null : entries;
+        });
     }
 
     private Map<String, Object> getRegion(String name) {
@@ -26,8 +26,11 @@ package org.primefaces.cache;
 import net.sf.ehcache.Cache;
 import net.sf.ehcache.CacheManager;
 import net.sf.ehcache.Element;
+import net.sf.ehcache.statistics.StatisticsGateway;
 
-public class EHCacheProvider implements CacheProvider {
+import java.util.function.ToLongFunction;
+
+public class EHCacheProvider implements CacheProvider, CacheStatistics {
 
     private final CacheManager cacheManager;
 
@@ -73,6 +76,32 @@ public class EHCacheProvider implements CacheProvider {
         }
     }
 
+    @Override
+    public long getHitCount() {
+        return sumStatistics(StatisticsGateway::cacheHitCount);
+    }
+
+    @Override
+    public long getMissCount() {
+        return sumStatistics(StatisticsGateway::cacheMissCount);
+    }
+
+    @Override
+    public long getEvictionCount() {
+        return sumStatistics(statistics -> statistics.cacheEvictedCount() + statistics.cacheExpiredCount());
+    }
+
+    protected long sumStatistics(ToLongFunction<StatisticsGateway> statistic) {
+        long sum = 0;
+        String[] cacheNames = getCacheManager().getCacheNames();
+        if (cacheNames != null) {
+            for (String cacheName : cacheNames) {
+                sum += statistic.applyAsLong(getRegion(cacheName).getStatistics());
+            }
+        }
+        return sum;
+    }
+
     protected Cache getRegion(String regionName) {
         Cache region = getCacheManager().getCache(regionName);
         if (region == null) {
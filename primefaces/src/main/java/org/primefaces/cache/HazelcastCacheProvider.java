@@ -24,11 +24,18 @@
 package org.primefaces.cache;
 
 import com.hazelcast.config.Config;
+import com.hazelcast.core.DistributedObject;
 import com.hazelcast.core.Hazelcast;
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.map.IMap;
+import com.hazelcast.map.LocalMapStats;
 
-public class HazelcastCacheProvider implements CacheProvider {
+import java.util.function.ToLongFunction;
+
+/**
+ * Hazelcast based cache provider, its {@link CacheStatistics} are local to this member and don't include evictions.
+ */
+public class HazelcastCacheProvider implements CacheProvider, CacheStatistics {
 
     private final HazelcastInstance hazelcastInstance;
 
@@ -63,6 +70,32 @@ public class HazelcastCacheProvider implements CacheProvider {
         // not supported by hazelcast
     }
 
+    @Override
+    public long getHitCount() {
+        return sumStatistics(LocalMapStats::getHits);
+    }
+
+    @Override
+    public long getMissCount() {
+        return sumStatistics(stats -> stats.getGetOperationCount() - stats.getHits());
+    }
+
+    @Override
+    public long getEvictionCount() {
+        // not tracked by LocalMapStats
+        return 0;
+    }
+
+    protected long sumStatistics(ToLongFunction<LocalMapStats> statistic) {
+        long sum = 0;
+        for (DistributedObject distributedObject : getHazelcastInstance().getDistributedObjects()) {
+            if (distributedObject instanceof IMap) {
+                sum += statistic.applyAsLong(((IMap<?, ?>) distributedObject).getLocalMapStats());
+            }
+        }
+        return sum;
+    }
+
     protected IMap<String, Object> getRegion(String name) {
         IMap<String, Object> region = getHazelcastInstance().getMap(name);
 
@@ -24,6 +24,8 @@
 package org.primefaces.component.api;
 
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -150,7 +152,51 @@ public interface ColumnAware {
         return true;
     }
 
+    /**
+     * Returns an index of the columns by {@link UIColumn#getColumnKey()}, in the same scope as {@link #forEachColumn(Predicate)}
+     * (rendered columns, including the {@link DynamicColumn}s of p:columns and the columns of column groups).
+     * Columns inside ui:repeat are not indexed, so callers must fall back to {@link #forEachColumn(Predicate)} if a key is missing.
+     * Implementations may cache the index during RENDER_RESPONSE (like {@link #getColumns()}) and per phase via {@link ColumnIndex#forCurrentPhase},
+     * until {@link #resetColumnIndex()} is called.
+     *
+     * @return the column index
+     */
+    default Map<String, UIColumn> getColumnIndex() {
+        return collectColumnIndex();
+    }
+
+    /**
+     * Invalidates a cached {@link #getColumnIndex()}, called whenever the column model might have changed.
+     */
+    default void resetColumnIndex() {
+        // NOOP
+    }
+
+    default Map<String, UIColumn> collectColumnIndex() {
+        return ColumnIndex.collect(this);
+    }
+
+    /**
+     * Looks up a column in the {@link #getColumnIndex()} and applies its model, if it is a {@link DynamicColumn}.
+     *
+     * @param columnKey the column key
+     * @return the column or <code>null</code>, if it's not indexed
+     */
+    default UIColumn findIndexedColumn(String columnKey) {
+        UIColumn column = getColumnIndex().get(columnKey);
+        if (column instanceof DynamicColumn) {
+            ((DynamicColumn) column).applyStatelessModel();
+        }
+        return column;
+    }
+
     default void invokeOnColumn(String columnKey, Consumer<UIColumn> callback) {
+        UIColumn indexedColumn = findIndexedColumn(columnKey);
+        if (indexedColumn != null) {
+            callback.accept(indexedColumn);
+            return;
+        }
+
         forEachColumn((column) -> {
             if (column.getColumnKey().equals(columnKey)) {
                 callback.accept(column);
@@ -161,6 +207,12 @@ public interface ColumnAware {
     }
 
     default void invokeOnColumn(String columnKey, int rowIndex, Consumer<UIColumn> callback) {
+        // outside of the row state the column keys are equal
+        if (rowIndex == -1) {
+            invokeOnColumn(columnKey, callback);
+            return;
+        }
+
         forEachColumn((column) -> {
             if (column.getColumnKey((UIComponent) this, rowIndex).equals(columnKey)) {
                 callback.accept(column);
@@ -175,6 +227,11 @@ public interface ColumnAware {
             return null;
         }
 
+        UIColumn indexedColumn = findIndexedColumn(columnKey);
+        if (indexedColumn != null) {
+            return indexedColumn;
+        }
+
         List<UIColumn> columns = getColumns();
 
         //body columns
@@ -275,30 +332,23 @@ public interface ColumnAware {
 
         Map<String, ColumnMeta> columnMeta = getColumnMeta();
 
-        // sort by displayOrder
-        columns.sort((c1, c2) -> {
-            if (c1 instanceof DynamicColumn) {
-                ((DynamicColumn) c1).applyStatelessModel();
+        // resolve the display priority only once per column instead of once per comparison
+        Map<UIColumn, Integer> displayPriorities = new IdentityHashMap<>(columns.size());
+        for (UIColumn column : columns) {
+            if (column instanceof DynamicColumn) {
+                ((DynamicColumn) column).applyStatelessModel();
             }
 
-            Integer dp1 = c1.getDisplayPriority();
-            ColumnMeta cm1 = columnMeta.get(c1.getColumnKey());
-            if (cm1 != null && cm1.getDisplayPriority() != null) {
-                dp1 = cm1.getDisplayPriority();
-            }
-
-            if (c2 instanceof DynamicColumn) {
-                ((DynamicColumn) c2).applyStatelessModel();
-            }
-
-            Integer dp2 = c2.getDisplayPriority();
-            ColumnMeta cm2 = columnMeta.get(c2.getColumnKey());
-            if (cm2 != null && cm2.getDisplayPriority() != null) {
-                dp2 = cm2.getDisplayPriority();
+            Integer displayPriority = column.getDisplayPriority();
+            ColumnMeta cm = columnMeta.get(column.getColumnKey());
+            if (cm != null && cm.getDisplayPriority() != null) {
+                displayPriority = cm.getDisplayPriority();
             }
+            displayPriorities.put(column, displayPriority);
+        }
 
-            return dp1.compareTo(dp2);
-        });
+        // sort by displayOrder
+        columns.sort(Comparator.comparing(displayPriorities::get));
 
         return columns;
     }
@@ -338,6 +388,7 @@ public interface ColumnAware {
     }
 
     default void resetDynamicColumns() {
+        resetColumnIndex();
         forEachColumn(false, false, false, column ->  {
             if (column instanceof Columns) {
                 ((Columns) column).setRowIndex(-1);
@@ -0,0 +1,130 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2021 PrimeTek
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.component.api;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.faces.component.UIComponent;
+import javax.faces.context.FacesContext;
+import javax.faces.event.PhaseId;
+
+import org.primefaces.component.column.Column;
+
+/**
+ * Builds the column index of {@link ColumnAware#collectColumnIndex()} and keeps it per request and phase.
+ */
+public final class ColumnIndex {
+
+    private static final String REQUEST_KEY = ColumnIndex.class.getName();
+
+    private ColumnIndex() {
+    }
+
+    /**
+     * Returns the column index of the given table, reusing it for the rest of the current phase.
+     * Use only outside of the row state, as the column keys contain the row index inside it.
+     *
+     * @param context the {@link FacesContext}
+     * @param columnAware the table
+     * @return the column index
+     */
+    public static Map<String, UIColumn> forCurrentPhase(FacesContext context, ColumnAware columnAware) {
+        Map<String, PhaseIndex> indexes = getIndexes(context, true);
+        String clientId = ((UIComponent) columnAware).getClientId(context);
+        PhaseId phaseId = context.getCurrentPhaseId();
+
+        PhaseIndex index = indexes.get(clientId);
+        if (index == null || index.phaseId != phaseId) {
+            index = new PhaseIndex(phaseId, columnAware.collectColumnIndex());
+            indexes.put(clientId, index);
+        }
+        return index.columns;
+    }
+
+    /**
+     * Drops the index of {@link #forCurrentPhase(FacesContext, ColumnAware)}, e.g. after the column model has changed.
+     *
+     * @param context the {@link FacesContext}
+     * @param columnAware the table
+     */
+    public static void reset(FacesContext context, ColumnAware columnAware) {
+        if (context == null) {
+            return;
+        }
+
+        Map<String, PhaseIndex> indexes = getIndexes(context, false);
+        if (indexes != null) {
+            indexes.remove(((UIComponent) columnAware).getClientId(context));
+        }
+    }
+
+    static Map<String, UIColumn> collect(ColumnAware columnAware) {
+        Map<String, UIColumn> index = new HashMap<>();
+        columnAware.forEachColumn(column -> {
+            // the column keys of columns inside ui:repeat depend on the iteration
+            if (!isInsideUIRepeat(columnAware, column)) {
+                index.putIfAbsent(column.getColumnKey(), column);
+            }
+            return true;
+        });
+        return index;
+    }
+
+    private static Map<String, PhaseIndex> getIndexes(FacesContext context, boolean create) {
+        Map<Object, Object> attributes = context.getAttributes();
+        Map<String, PhaseIndex> indexes = (Map<String, PhaseIndex>) attributes.get(REQUEST_KEY);
+        if (indexes == null && create) {
+            indexes = new HashMap<>();
+            attributes.put(REQUEST_KEY, indexes);
+        }
+        return indexes;
+    }
+
+    private static boolean isInsideUIRepeat(ColumnAware columnAware, UIColumn column) {
+        if (!(column instanceof Column)) {
+            return false;
+        }
+
+        UIComponent parent = ((Column) column).getParent();
+        while (parent != null && parent != columnAware) {
+            if (parent.getClass().getName().endsWith("UIRepeat")) {
+                return true;
+            }
+            parent = parent.getParent();
+        }
+        return false;
+    }
+
+    private static final class PhaseIndex {
+
+        private final PhaseId phaseId;
+        private final Map<String, UIColumn> columns;
+
+        PhaseIndex(PhaseId phaseId, Map<String, UIColumn> columns) {
+            this.phaseId = phaseId;
+            this.columns = columns;
+        }
+    }
+}
@@ -272,6 +272,20 @@ public interface UITable<T extends UITableState> extends ColumnAware, MultiViewS
 
     void setGlobalFilterOnly(boolean globalFilterOnly);
 
+    int getParallelThreshold();
+
+    void setParallelThreshold(int parallelThreshold);
+
+    /**
+     * Whether filtering and sorting of the given amount of rows should be done on multiple threads.
+     * @param rowCount the amount of rows to process
+     * @return <code>true</code> if parallel processing is enabled and the threshold is reached
+     */
+    default boolean isParallelThresholdReached(int rowCount) {
+        int parallelThreshold = getParallelThreshold();
+        return parallelThreshold > 0 && rowCount >= parallelThreshold;
+    }
+
     default Map<String, SortMeta> initSortBy(FacesContext context) {
         Map<String, SortMeta> sortBy = new HashMap<>();
         AtomicBoolean sorted = new AtomicBoolean();
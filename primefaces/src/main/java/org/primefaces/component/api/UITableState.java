@@ -27,8 +27,12 @@ import org.primefaces.model.ColumnMeta;
 import org.primefaces.model.FilterMeta;
 import org.primefaces.model.SortMeta;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.function.UnaryOperator;
 
 public class UITableState implements Serializable {
 
@@ -71,4 +75,30 @@ public class UITableState implements Serializable {
     public void setWidth(String width) {
         this.width = width;
     }
+
+    /**
+     * Writes the sort and filter metadata without their expressions, they are never used to restore the state
+     * and would only blow up the session size (or fail the serialization).
+     */
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        ObjectOutputStream.PutField fields = out.putFields();
+        fields.put("sortBy", copy(sortBy, SortMeta::copyWithoutExpressions));
+        fields.put("filterBy", copy(filterBy, FilterMeta::copyWithoutExpressions));
+        fields.put("columnMeta", columnMeta);
+        fields.put("width", width);
+        out.writeFields();
+    }
+
+    private static <T> Map<String, T> copy(Map<String, T> map, UnaryOperator<T> copier) {
+        if (map == null) {
+            return null;
+        }
+
+        Map<String, T> copy = new LinkedHashMap<>(map.size());
+        for (Map.Entry<String, T> entry : map.entrySet()) {
+            T value = entry.getValue();
+            copy.put(entry.getKey(), value == null ? null : copier.apply(value));
+        }
+        return copy;
+    }
 }
@@ -98,8 +98,12 @@ public abstract class UITree extends UIComponentBase implements NamingContainer
     }
 
     protected void setRowKey(Lazy<TreeNode> lazyRoot, TreeNode root, String rowKey) {
-        Map<String, Object> requestMap = getFacesContext().getExternalContext().getRequestMap();
-        saveDescendantState();
+        FacesContext context = getFacesContext();
+        Map<String, Object> requestMap = context.getExternalContext().getRequestMap();
+        boolean editable = hasEditableDescendants(context);
+        if (editable) {
+            saveDescendantState();
+        }
         String nodeVar = getNodeVar();
 
         this.rowKey = rowKey;
@@ -112,7 +116,7 @@ public abstract class UITree extends UIComponentBase implements NamingContainer
             }
         }
         else {
-            rowNode = findTreeNode(lazyRoot == null ? root : lazyRoot.get(), rowKey);
+            rowNode = resolveTreeNode(context, lazyRoot == null ? root : lazyRoot.get(), rowKey);
 
             if (rowNode != null) {
                 requestMap.put(getVar(), rowNode.getData());
@@ -130,7 +134,105 @@ public abstract class UITree extends UIComponentBase implements NamingContainer
             }
         }
 
-        restoreDescendantState();
+        if (editable) {
+            restoreDescendantState();
+        }
+        else {
+            resetDescendantIds();
+        }
+    }
+
+    /**
+     * Resolves the node of the given rowKey through the per-request index, walking the tree only on a miss.
+     */
+    protected TreeNode<?> resolveTreeNode(FacesContext context, TreeNode<?> root, String rowKey) {
+        if (root == null || ROOT_ROW_KEY.equals(rowKey)) {
+            return findTreeNode(root, rowKey);
+        }
+
+        Map<String, TreeNode> index = getRowKeyIndex(context, root);
+        TreeNode<?> node = index.get(rowKey);
+        if (node != null && isAtRowKey(node, rowKey)) {
+            return node;
+        }
+
+        node = findTreeNode(root, rowKey);
+        if (node != null) {
+            index.put(rowKey, node);
+        }
+        else {
+            index.remove(rowKey);
+        }
+
+        return node;
+    }
+
+    /**
+     * Returns the rowKey index of the given root, starting a new one if the root changed.
+     * The decode phases share one index, as actions of INVOKE_APPLICATION might modify the tree, the later phases start their own.
+     */
+    protected Map<String, TreeNode> getRowKeyIndex(FacesContext context, TreeNode<?> root) {
+        RequestState state = getRequestState(context);
+        PhaseId phaseId = context.getCurrentPhaseId();
+        if (state.rowKeyIndex == null || state.indexedRoot != root || !isSameModelPhase(state.indexedPhase, phaseId)) {
+            state.rowKeyIndex = new HashMap<>();
+            state.indexedRoot = root;
+            state.indexedPhase = phaseId;
+        }
+
+        return state.rowKeyIndex;
+    }
+
+    /**
+     * Drops the rowKey index, must be called if the structure of the tree is modified outside of {@link #updateRowKeys(TreeNode)}
+     * and {@link #buildRowKeys(TreeNode)} while the tree is processed.
+     */
+    public void resetRowKeyIndex() {
+        FacesContext context = getFacesContext();
+        if (context != null) {
+            getRequestState(context).rowKeyIndex = null;
+        }
+    }
+
+    private static boolean isSameModelPhase(PhaseId indexedPhase, PhaseId phaseId) {
+        return indexedPhase == phaseId
+                || (phaseId != null && phaseId.getOrdinal() < PhaseId.INVOKE_APPLICATION.getOrdinal());
+    }
+
+    /**
+     * Checks if the node is still the child at the last index of its rowKey, e.g. it wasn't removed from its parent
+     * or replaced by reloading the children.
+     */
+    private static boolean isAtRowKey(TreeNode<?> node, String rowKey) {
+        TreeNode<?> parent = node.getParent();
+        if (parent == null || !rowKey.equals(node.getRowKey())) {
+            return false;
+        }
+
+        int childIndex = Integer.parseInt(rowKey.substring(rowKey.lastIndexOf(SEPARATOR) + 1));
+        return childIndex < parent.getChildCount() && parent.getChildren().get(childIndex) == node;
+    }
+
+    private Map<String, TreeNode> findRowKeyIndex(TreeNode<?> node) {
+        RequestState state = getRequestState(getFacesContext());
+        if (state.rowKeyIndex == null) {
+            return null;
+        }
+
+        TreeNode<?> root = node;
+        while (root.getParent() != null) {
+            root = root.getParent();
+        }
+
+        return root == state.indexedRoot ? state.rowKeyIndex : null;
+    }
+
+    /**
+     * The row key index and the editable descendants are kept in the request attributes by clientId,
+     * so the component neither holds a released {@link FacesContext} nor the model after the request.
+     */
+    private RequestState getRequestState(FacesContext context) {
+        return (RequestState) context.getAttributes().computeIfAbsent(getClientId(context) + "_requestState", k -> new RequestState());
     }
 
     private void addToPreselection(TreeNode node) {
@@ -246,30 +348,49 @@ public abstract class UITree extends UIComponentBase implements NamingContainer
             return getValue();
         }
 
-        String[] paths = rowKey.split(SEPARATOR);
-
-        if (paths.length == 0) {
+        if (rowKey.isEmpty()) {
             return null;
         }
 
-        int childIndex = Integer.parseInt(paths[0]);
-        if (childIndex >= searchRoot.getChildCount()) {
-            return null;
+        TreeNode<?> node = searchRoot;
+        int start = 0;
+        int length = rowKey.length();
+        while (start < length) {
+            int end = rowKey.indexOf(SEPARATOR, start);
+            if (end == -1) {
+                end = length;
+            }
+
+            int childIndex = Integer.parseInt(rowKey.substring(start, end));
+            if (childIndex >= node.getChildCount()) {
+                return null;
+            }
+
+            node = node.getChildren().get(childIndex);
+            start = end + 1;
         }
 
-        searchRoot = searchRoot.getChildren().get(childIndex);
+        return node;
+    }
 
-        if (paths.length == 1) {
-            return searchRoot;
+    public void buildRowKeys(TreeNode<?> node) {
+        Map<String, TreeNode> index;
+        if (node.getParent() == null) {
+            // the row keys are rebuilt, so the index is rebuilt too
+            resetRowKeyIndex();
+            index = getRowKeyIndex(getFacesContext(), node);
         }
         else {
-            String relativeRowKey = rowKey.substring(rowKey.indexOf(SEPARATOR) + 1);
-
-            return findTreeNode(searchRoot, relativeRowKey);
+            // the row keys of other subtrees may be outdated, e.g. after a node was moved
+            index = findRowKeyIndex(node);
+            if (index != null) {
+                index.clear();
+            }
         }
+        buildRowKeys(node, index);
     }
 
-    public void buildRowKeys(TreeNode<?> node) {
+    private void buildRowKeys(TreeNode<?> node, Map<String, TreeNode> index) {
         if (node.isExpanded() || node.getParent() == null || node.getParent().isExpanded()) {
             int childCount = node.getChildCount();
             if (childCount > 0) {
@@ -281,7 +402,10 @@ public abstract class UITree extends UIComponentBase implements NamingContainer
 
                     String childRowKey = (node.getParent() == null) ? String.valueOf(i) : node.getRowKey() + "_" + i;
                     childNode.setRowKey(childRowKey);
-                    buildRowKeys(childNode);
+                    if (index != null) {
+                        index.put(childRowKey, childNode);
+                    }
+                    buildRowKeys(childNode, index);
                 }
             }
         }
@@ -292,19 +416,28 @@ public abstract class UITree extends UIComponentBase implements NamingContainer
             return;
         }
 
+        populateRowKeys(node, keys, findRowKeyIndex(node));
+    }
+
+    private void populateRowKeys(TreeNode<?> node, List<String> keys, Map<String, TreeNode> index) {
         if (node.isExpanded() || node.getParent() == null || node.getParent().isExpanded()) {
             int childCount = node.getChildCount();
             if (childCount > 0) {
                 for (int i = 0; i < childCount; i++) {
                     TreeNode childNode = node.getChildren().get(i);
-                    keys.add(childNode.getRowKey());
-                    populateRowKeys(childNode, keys);
+                    String childRowKey = childNode.getRowKey();
+                    keys.add(childRowKey);
+                    if (index != null && childRowKey != null) {
+                        index.put(childRowKey, childNode);
+                    }
+                    populateRowKeys(childNode, keys, index);
                 }
             }
         }
     }
 
     public void updateRowKeys(TreeNode<?> node) {
+        resetRowKeyIndex();
         int childCount = node.getChildCount();
         if (childCount > 0) {
             for (int i = 0; i < childCount; i++) {
@@ -735,6 +868,72 @@ public abstract class UITree extends UIComponentBase implements NamingContainer
         }
     }
 
+    /**
+     * Whether any child is an {@link EditableValueHolder} whose state has to be saved and restored per node.
+     * Evaluated once per request and phase.
+     */
+    protected boolean hasEditableDescendants(FacesContext context) {
+        RequestState state = getRequestState(context);
+        PhaseId phaseId = context.getCurrentPhaseId();
+        if (state.editableDescendants == null || state.editableDescendantsPhase != phaseId) {
+            boolean editable = false;
+            for (UIComponent child : getChildren()) {
+                if (hasEditableDescendants(child)) {
+                    editable = true;
+                    break;
+                }
+            }
+            state.editableDescendants = editable;
+            state.editableDescendantsPhase = phaseId;
+        }
+
+        return state.editableDescendants;
+    }
+
+    private boolean hasEditableDescendants(UIComponent component) {
+        if (component instanceof EditableValueHolder) {
+            return true;
+        }
+
+        for (UIComponent kid : component.getChildren()) {
+            if (hasEditableDescendants(kid)) {
+                return true;
+            }
+        }
+
+        if (component.getFacetCount() > 0) {
+            for (UIComponent facet : component.getFacets().values()) {
+                if (hasEditableDescendants(facet)) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    private void resetDescendantIds() {
+        for (UIComponent child : getChildren()) {
+            resetDescendantIds(child);
+        }
+    }
+
+    private void resetDescendantIds(UIComponent component) {
+        //force id reset
+        String id = component.getId();
+        component.setId(id);
+
+        for (UIComponent kid : component.getChildren()) {
+            resetDescendantIds(kid);
+        }
+
+        if (component.getFacetCount() > 0) {
+            for (UIComponent facet : component.getFacets().values()) {
+                resetDescendantIds(facet);
+            }
+        }
+    }
+
     private void saveDescendantState() {
         FacesContext context = getFacesContext();
 
@@ -1133,4 +1332,17 @@ public abstract class UITree extends UIComponentBase implements NamingContainer
         String selectionMode = getSelectionMode();
         return "checkbox".equals(selectionMode);
     }
+
+    private static final class RequestState {
+
+        private Map<String, TreeNode> rowKeyIndex;
+
+        private TreeNode indexedRoot;
+
+        private PhaseId indexedPhase;
+
+        private Boolean editableDescendants;
+
+        private PhaseId editableDescendantsPhase;
+    }
 }
@@ -37,7 +37,9 @@ public abstract class UICacheBase extends UIPanel {
         disabled,
         region,
         key,
-        processEvents
+        processEvents,
+        ttl,
+        tags
     }
 
     public UICacheBase() {
@@ -81,4 +83,20 @@ public abstract class UICacheBase extends UIPanel {
         getStateHelper().put(PropertyKeys.processEvents, processEvents);
     }
 
+    public int getTtl() {
+        return (Integer) getStateHelper().eval(PropertyKeys.ttl, 0);
+    }
+
+    public void setTtl(int ttl) {
+        getStateHelper().put(PropertyKeys.ttl, ttl);
+    }
+
+    public String getTags() {
+        return (String) getStateHelper().eval(PropertyKeys.tags, null);
+    }
+
+    public void setTags(String tags) {
+        getStateHelper().put(PropertyKeys.tags, tags);
+    }
+
 }
\ No newline at end of file
@@ -25,17 +25,32 @@ package org.primefaces.component.cache;
 
 import java.io.IOException;
 import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
 
 import javax.faces.component.UIComponent;
 import javax.faces.context.FacesContext;
 import javax.faces.context.ResponseWriter;
 
 import org.primefaces.cache.CacheProvider;
+import org.primefaces.cache.TaggedCacheProvider;
 import org.primefaces.context.PrimeApplicationContext;
 import org.primefaces.renderkit.CoreRenderer;
+import org.primefaces.util.LangUtils;
 
 public class UICacheRenderer extends CoreRenderer {
 
+    private static final long AWAIT_TIMEOUT = 30;
+
+    private static final ConcurrentMap<String, CompletableFuture<String>> RENDERING = new ConcurrentHashMap<>();
+
     @Override
     public void encodeChildren(FacesContext context, UIComponent component) throws IOException {
         UICache uiCache = (UICache) component;
@@ -54,27 +69,99 @@ public class UICacheRenderer extends CoreRenderer {
                 region = context.getViewRoot().getViewId();
             }
 
-            String output = (String) cacheProvider.get(region, key);
-            if (output == null) {
-                StringWriter stringWriter = new StringWriter();
-                ResponseWriter clonedWriter = writer.cloneWithWriter(stringWriter);
-                context.setResponseWriter(clonedWriter);
-                renderChildren(context, uiCache);
+            Object cached = cacheProvider.get(region, key);
+            CachedFragment fragment = cached instanceof String ? new CachedFragment((String) cached, 0) : (CachedFragment) cached;
+            if (fragment != null && !fragment.isExpired(System.currentTimeMillis())) {
+                writer.write(fragment.getOutput());
+                return;
+            }
 
-                output = stringWriter.getBuffer().toString();
-                cacheProvider.put(region, key, output);
-                context.setResponseWriter(writer);
+            // single-flight: only one request renders the entry, the others wait for it or serve the stale entry
+            String renderingKey = region + "\u0000" + key;
+            CompletableFuture<String> rendering = new CompletableFuture<>();
+            CompletableFuture<String> otherRendering = RENDERING.putIfAbsent(renderingKey, rendering);
 
-                uiCache.setCacheSetInCurrentRequest(true);
+            if (otherRendering != null) {
+                String output = fragment == null ? await(otherRendering) : fragment.getOutput();
+                if (output != null) {
+                    writer.write(output);
+                }
+                else {
+                    renderChildren(context, uiCache);
+                }
+                return;
             }
 
-            writer.write(output);
+            try {
+                String output = renderToString(context, uiCache);
+                put(cacheProvider, region, key, uiCache, output);
+                rendering.complete(output);
+                uiCache.setCacheSetInCurrentRequest(true);
+                writer.write(output);
+            }
+            catch (IOException | RuntimeException e) {
+                rendering.completeExceptionally(e);
+                throw e;
+            }
+            finally {
+                RENDERING.remove(renderingKey, rendering);
+            }
         }
         else {
             renderChildren(context, uiCache);
         }
     }
 
+    protected String renderToString(FacesContext context, UICache uiCache) throws IOException {
+        ResponseWriter writer = context.getResponseWriter();
+        StringWriter stringWriter = new StringWriter();
+        ResponseWriter clonedWriter = writer.cloneWithWriter(stringWriter);
+        context.setResponseWriter(clonedWriter);
+        try {
+            renderChildren(context, uiCache);
+        }
+        finally {
+            context.setResponseWriter(writer);
+        }
+
+        return stringWriter.getBuffer().toString();
+    }
+
+    protected void put(CacheProvider cacheProvider, String region, String key, UICache uiCache, String output) {
+        int ttl = uiCache.getTtl();
+        CachedFragment fragment = new CachedFragment(output, ttl > 0 ? System.currentTimeMillis() + ttl * 1000L : 0);
+
+        String tags = uiCache.getTags();
+        if (cacheProvider instanceof TaggedCacheProvider && !LangUtils.isBlank(tags)) {
+            List<String> tagList = Arrays.stream(tags.split(","))
+                    .map(String::trim)
+                    .filter(tag -> !tag.isEmpty())
+                    .collect(Collectors.toList());
+            ((TaggedCacheProvider) cacheProvider).put(region, key, fragment, tagList);
+        }
+        else {
+            cacheProvider.put(region, key, fragment);
+        }
+    }
+
+    /**
+     * Waits for the output of a concurrent rendering of the same entry.
+     *
+     * @return the output or <code>null</code>, if the other rendering failed or took too long
+     */
+    protected String await(CompletableFuture<String> rendering) {
+        try {
+            return rendering.get(AWAIT_TIMEOUT, TimeUnit.SECONDS);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+        catch (ExecutionException | TimeoutException e) {
+            return null;
+        }
+    }
+
     @Override
     public boolean getRendersChildren() {
         return true;
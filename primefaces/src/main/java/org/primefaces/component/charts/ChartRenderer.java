@@ -109,7 +109,7 @@ public class ChartRenderer extends CoreRenderer {
                     writer.write(",");
                 }
 
-                writer.write(dataSet.encode());
+                dataSet.encode(writer);
             }
         }
 
@@ -37,6 +37,7 @@ import javax.faces.event.*;
 import javax.faces.model.DataModel;
 
 import org.primefaces.PrimeFaces;
+import org.primefaces.component.api.ColumnIndex;
 import org.primefaces.component.api.DynamicColumn;
 import org.primefaces.component.api.UIColumn;
 import org.primefaces.component.column.Column;
@@ -185,6 +186,7 @@ public class DataTable extends DataTableBase {
 
     private boolean reset = false;
     private List<UIColumn> columns;
+    private Map<String, UIColumn> columnIndex;
     private Map<String, AjaxBehaviorEvent> deferredEvents = new HashMap<>(1);
 
     protected enum InternalPropertyKeys {
@@ -638,6 +640,36 @@ public class DataTable extends DataTableBase {
         }
     }
 
+    /**
+     * Resolves the row data of multiple row keys at once.
+     * Either via {@link SelectableDataModel#getRowData(Collection)} or with a single pass over the data.
+     *
+     * @param rowKeys the row keys
+     * @return a map with the row key as key and the row data as value; unresolvable row keys are not contained
+     */
+    public Map<String, Object> getRowData(Collection<String> rowKeys) {
+        DataModel model = getDataModel();
+        if (model instanceof SelectableDataModel) {
+            return ((SelectableDataModel) model).getRowData(rowKeys);
+        }
+        else {
+            Set<String> keys = rowKeys instanceof Set ? (Set<String>) rowKeys : new HashSet<>(rowKeys);
+            Map<String, Object> rowData = new HashMap<>(keys.size());
+            Collection data = (Collection) getDataModel().getWrappedData();
+            for (Object o : data) {
+                String rowKey = getRowKey(o);
+                if (keys.contains(rowKey)) {
+                    rowData.putIfAbsent(rowKey, o);
+                    if (rowData.size() == keys.size()) {
+                        break;
+                    }
+                }
+            }
+
+            return rowData;
+        }
+    }
+
     public Set<String> getExpandedRowKeys() {
         return ComponentUtils.eval(getStateHelper(), InternalPropertyKeys.expandedRowKeys, Collections::emptySet);
     }
@@ -701,6 +733,34 @@ public class DataTable extends DataTableBase {
     @Override
     public void setColumns(List<UIColumn> columns) {
         this.columns = columns;
+        this.columnIndex = null;
+    }
+
+    @Override
+    public Map<String, UIColumn> getColumnIndex() {
+        if (this.columnIndex != null) {
+            return this.columnIndex;
+        }
+
+        // the column keys contain the row index inside the row state, so let the callers walk the columns
+        if (getRowIndex() != -1) {
+            return Collections.emptyMap();
+        }
+
+        FacesContext context = getFacesContext();
+        if (context.getCurrentPhaseId() == PhaseId.RENDER_RESPONSE) {
+            // same as #getColumns
+            this.columnIndex = collectColumnIndex();
+            return this.columnIndex;
+        }
+
+        return ColumnIndex.forCurrentPhase(context, this);
+    }
+
+    @Override
+    public void resetColumnIndex() {
+        this.columnIndex = null;
+        ColumnIndex.reset(getFacesContext(), this);
     }
 
     public String getScrollState() {
@@ -973,6 +1033,7 @@ public class DataTable extends DataTableBase {
         }
         reset = false;
         columns = null;
+        columnIndex = null;
 
         return super.saveState(context);
     }
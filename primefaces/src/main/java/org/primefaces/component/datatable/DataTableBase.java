@@ -73,6 +73,7 @@ public abstract class DataTableBase extends UIPageableData implements Widget, RT
         nativeElements,
         onExpandStart,
         onRowClick,
+        parallelThreshold,
         reflow,
         renderEmptyFacets,
         resizableColumns,
@@ -700,4 +701,14 @@ public abstract class DataTableBase extends UIPageableData implements Widget, RT
     public void setPartialUpdate(boolean partialUpdate) {
         getStateHelper().put(PropertyKeys.partialUpdate, partialUpdate);
     }
+
+    @Override
+    public int getParallelThreshold() {
+        return (Integer) getStateHelper().eval(PropertyKeys.parallelThreshold, 0);
+    }
+
+    @Override
+    public void setParallelThreshold(int parallelThreshold) {
+        getStateHelper().put(PropertyKeys.parallelThreshold, parallelThreshold);
+    }
 }
\ No newline at end of file
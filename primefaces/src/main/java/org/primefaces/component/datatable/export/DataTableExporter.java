@@ -39,12 +39,15 @@ import javax.faces.context.FacesContext;
 import org.primefaces.component.datatable.DataTable;
 import org.primefaces.component.export.ExportConfiguration;
 import org.primefaces.component.export.TableExporter;
+import org.primefaces.model.FilterMeta;
 import org.primefaces.model.LazyDataModel;
+import org.primefaces.model.SortMeta;
 import org.primefaces.util.Constants;
 
 public abstract class DataTableExporter extends TableExporter<DataTable> {
 
     private OutputStream outputStream;
+    private ExportConfiguration exportConfiguration;
 
     protected enum ColumnType {
         HEADER("header"),
@@ -104,15 +107,21 @@ public abstract class DataTableExporter extends TableExporter<DataTable> {
             LazyDataModel<?> lazyDataModel = (LazyDataModel<?>) table.getValue();
             List<?> wrappedData = lazyDataModel.getWrappedData();
 
-            if (rowCount > 0) {
-                table.setFirst(0);
-                table.setRows(rowCount);
-                table.clearLazyCache();
-                table.loadLazyData();
+            int bufferSize = exportConfiguration == null ? 0 : exportConfiguration.getBufferSize();
+            if (bufferSize > 0 && bufferSize < rowCount) {
+                exportLazyChunks(table, document, lazyDataModel, rowCount, bufferSize);
             }
+            else {
+                if (rowCount > 0) {
+                    table.setFirst(0);
+                    table.setRows(rowCount);
+                    table.clearLazyCache();
+                    table.loadLazyData();
+                }
 
-            for (int rowIndex = 0; rowIndex < rowCount; rowIndex++) {
-                exportRow(table, document, rowIndex);
+                for (int rowIndex = 0; rowIndex < rowCount; rowIndex++) {
+                    exportRow(table, document, rowIndex);
+                }
             }
 
             //restore
@@ -134,6 +143,34 @@ public abstract class DataTableExporter extends TableExporter<DataTable> {
         }
     }
 
+    /**
+     * Loads and exports the rows of a lazy table in chunks of <code>bufferSize</code> rows,
+     * so only one chunk is kept in memory at a time.
+     */
+    protected void exportLazyChunks(DataTable table, Object document, LazyDataModel<?> lazyDataModel, int rowCount, int bufferSize) {
+        Map<String, SortMeta> sortBy = table.getActiveSortMeta();
+        Map<String, FilterMeta> filterBy = table.getActiveFilterMeta();
+
+        lazyDataModel.setPageSize(bufferSize);
+
+        for (int first = 0; first < rowCount; first += bufferSize) {
+            List<?> chunk = lazyDataModel.load(first, bufferSize, sortBy, filterBy);
+            if (chunk == null || chunk.isEmpty()) {
+                break;
+            }
+
+            lazyDataModel.setWrappedData(chunk);
+
+            for (int rowIndex = first; rowIndex < first + chunk.size(); rowIndex++) {
+                exportRow(table, document, rowIndex);
+            }
+
+            // release the chunk before loading the next one
+            table.setRowIndex(-1);
+            lazyDataModel.setWrappedData(null);
+        }
+    }
+
     protected void exportRow(DataTable table, Object document, int rowIndex) {
         table.setRowIndex(rowIndex);
         if (!table.isRowAvailable()) {
@@ -202,6 +239,7 @@ public abstract class DataTableExporter extends TableExporter<DataTable> {
     @Override
     public void export(FacesContext context, List<DataTable> tables, OutputStream outputStream, ExportConfiguration exportConfiguration) throws IOException {
         this.outputStream = outputStream;
+        this.exportConfiguration = exportConfiguration;
 
         preExport(context, exportConfiguration);
 
@@ -211,6 +249,7 @@ public abstract class DataTableExporter extends TableExporter<DataTable> {
         postExport(context, exportConfiguration);
 
         this.outputStream = null;
+        this.exportConfiguration = null;
     }
 
     /**
@@ -262,4 +301,8 @@ public abstract class DataTableExporter extends TableExporter<DataTable> {
         return outputStream;
     }
 
+    protected ExportConfiguration getExportConfiguration() {
+        return exportConfiguration;
+    }
+
 }
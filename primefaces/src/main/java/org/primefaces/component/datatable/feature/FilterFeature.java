@@ -24,6 +24,8 @@
 package org.primefaces.component.datatable.feature;
 
 import org.primefaces.PrimeFaces;
+import org.primefaces.component.api.DynamicColumn;
+import org.primefaces.component.api.UIColumn;
 import org.primefaces.component.datatable.DataTable;
 import org.primefaces.component.datatable.DataTableRenderer;
 import org.primefaces.component.datatable.DataTableState;
@@ -31,6 +33,7 @@ import org.primefaces.event.data.PostFilterEvent;
 import org.primefaces.model.FilterMeta;
 import org.primefaces.model.MatchMode;
 import org.primefaces.model.filter.*;
+import org.primefaces.util.FilterUtils;
 import org.primefaces.util.MapBuilder;
 
 import javax.el.ELContext;
@@ -39,6 +42,10 @@ import javax.faces.event.PhaseId;
 import java.io.IOException;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 public class FilterFeature implements DataTableFeature {
 
@@ -151,17 +158,77 @@ public class FilterFeature implements DataTableFeature {
     }
 
     public void filter(FacesContext context, DataTable table) {
-        List<Object> filtered = new ArrayList<>();
         Locale filterLocale = table.resolveDataLocale();
-        ELContext elContext = context.getELContext();
         Map<String, FilterMeta> filterBy = table.getFilterByAsMap();
         FilterMeta globalFilter = filterBy.get(FilterMeta.GLOBAL_FILTER_KEY);
         boolean hasGlobalFilterFunction = globalFilter != null && globalFilter.getConstraint() instanceof FunctionFilterConstraint;
+        boolean hasGlobalFilter = globalFilter != null && globalFilter.isActive();
+
+        // prepare the filter values only once instead of once per row and column
+        Map<String, Predicate<Object>> predicates = FilterUtils.compileFilters(context, filterBy, filterLocale);
+        Predicate<Object> globalPredicate = hasGlobalFilter || hasGlobalFilterFunction
+                ? globalFilter.getConstraint().toPredicate(context, globalFilter.getFilterValue(), filterLocale)
+                : null;
 
         table.setValue(null); // reset value (instead of filtering on already filtered value)
+
+        // look up the filtered columns only once instead of walking all columns per row
+        Map<String, UIColumn> columns = resolveFilterColumns(table, filterBy);
+
+        // custom constraints (e.g. a filterFunction evaluating EL) must run on the request thread
+        List<Object> filtered;
+        if (table.isParallelThresholdReached(table.getRowCount()) && FilterUtils.isParallelizable(filterBy)) {
+            filtered = filterParallel(context, table, filterBy, columns, predicates, hasGlobalFilter ? globalPredicate : null);
+        }
+        else {
+            filtered = filterSequential(context, table, filterBy, columns, predicates, globalPredicate, hasGlobalFilter, hasGlobalFilterFunction);
+        }
+
+        //Metadata for callback
+        if (table.isPaginator() || table.isVirtualScroll()) {
+            PrimeFaces.current().ajax().addCallbackParam("totalRecords", filtered.size());
+        }
+
+        //save filtered data
+        table.setFilteredValue(filtered);
+        table.setValue(filtered);
+        table.setRowIndex(-1); //reset datamodel
+    }
+
+    protected List<Object> filterSequential(FacesContext context, DataTable table, Map<String, FilterMeta> filterBy,
+            Map<String, UIColumn> columns, Map<String, Predicate<Object>> predicates, Predicate<Object> globalPredicate,
+            boolean hasGlobalFilter, boolean hasGlobalFilterFunction) {
+        List<Object> filtered = new ArrayList<>();
+        ELContext elContext = context.getELContext();
         AtomicBoolean localMatch = new AtomicBoolean();
         AtomicBoolean globalMatch = new AtomicBoolean();
 
+        BiPredicate<UIColumn, String> columnFilter = (column, columnKey) -> {
+            FilterMeta filter = filterBy.get(columnKey);
+            if (filter == null || filter.isGlobalFilter()) {
+                return true;
+            }
+
+            Predicate<Object> predicate = predicates.get(columnKey);
+            boolean matchGlobal = hasGlobalFilter && !globalMatch.get() && !hasGlobalFilterFunction;
+            if (predicate == null && !matchGlobal) {
+                return true;
+            }
+
+            Object columnValue = filter.getLocalValue(elContext, column);
+
+            if (matchGlobal) {
+                globalMatch.set(globalPredicate.test(columnValue));
+            }
+
+            if (predicate == null) {
+                return true;
+            }
+
+            localMatch.set(predicate.test(columnValue));
+            return localMatch.get();
+        };
+
         for (int i = 0; i < table.getRowCount(); i++) {
             table.setRowIndex(i);
             Object rowData = table.getRowData();
@@ -169,53 +236,115 @@ public class FilterFeature implements DataTableFeature {
             globalMatch.set(false);
 
             if (hasGlobalFilterFunction) {
-                globalMatch.set(globalFilter.getConstraint().isMatching(context, rowData, globalFilter.getFilterValue(), filterLocale));
+                globalMatch.set(globalPredicate.test(rowData));
             }
 
-            final int rowIndex = i;
-            table.forEachColumn(column -> {
-                FilterMeta filter = filterBy.get(column.getColumnKey(table, rowIndex));
-                if (filter == null || filter.isGlobalFilter()) {
-                    return true;
+            if (columns != null) {
+                for (Map.Entry<String, UIColumn> entry : columns.entrySet()) {
+                    if (!columnFilter.test(applyColumnModel(entry.getValue()), entry.getKey())) {
+                        break;
+                    }
                 }
+            }
+            else {
+                final int rowIndex = i;
+                table.forEachColumn(column -> columnFilter.test(column, column.getColumnKey(table, rowIndex)));
+            }
 
-                Object columnValue = filter.getLocalValue(elContext, column);
+            boolean matches = localMatch.get();
+            if (hasGlobalFilter) {
+                matches = matches && globalMatch.get();
+            }
 
-                if (globalFilter != null && globalFilter.isActive() && !globalMatch.get() && !hasGlobalFilterFunction) {
-                    FilterConstraint constraint = globalFilter.getConstraint();
-                    Object filterValue = globalFilter.getFilterValue();
-                    globalMatch.set(constraint.isMatching(context, columnValue, filterValue, filterLocale));
-                }
+            if (matches) {
+                filtered.add(rowData);
+            }
+        }
 
-                if (!filter.isActive()) {
+        return filtered;
+    }
+
+    /**
+     * Filters the rows on the common fork-join pool.
+     * The column values are resolved sequentially first, as the EL evaluation relies on the request map,
+     * afterwards only the predicates are evaluated in parallel. The order of the rows is preserved.
+     */
+    protected List<Object> filterParallel(FacesContext context, DataTable table, Map<String, FilterMeta> filterBy,
+            Map<String, UIColumn> columns, Map<String, Predicate<Object>> predicates, Predicate<Object> globalPredicate) {
+        ELContext elContext = context.getELContext();
+        int rowCount = table.getRowCount();
+        Object[] rows = new Object[rowCount];
+        Object[][] values = new Object[rowCount][];
+        Predicate<Object>[][] rowPredicates = new Predicate[rowCount][];
+
+        for (int i = 0; i < rowCount; i++) {
+            table.setRowIndex(i);
+            rows[i] = table.getRowData();
+
+            List<Object> columnValues = new ArrayList<>();
+            List<Predicate<Object>> columnPredicates = new ArrayList<>();
+
+            BiPredicate<UIColumn, String> columnValueCollector = (column, columnKey) -> {
+                FilterMeta filter = filterBy.get(columnKey);
+                if (filter == null || filter.isGlobalFilter()) {
                     return true;
                 }
 
-                FilterConstraint constraint = filter.getConstraint();
-                Object filterValue = filter.getFilterValue();
+                Predicate<Object> predicate = predicates.get(columnKey);
+                if (predicate != null || globalPredicate != null) {
+                    columnValues.add(filter.getLocalValue(elContext, column));
+                    columnPredicates.add(predicate);
+                }
+                return true;
+            };
 
-                localMatch.set(constraint.isMatching(context, columnValue, filterValue, filterLocale));
-                return localMatch.get();
-            });
+            if (columns != null) {
+                columns.forEach((columnKey, column) -> columnValueCollector.test(applyColumnModel(column), columnKey));
+            }
+            else {
+                final int rowIndex = i;
+                table.forEachColumn(column -> columnValueCollector.test(column, column.getColumnKey(table, rowIndex)));
+            }
 
-            boolean matches = localMatch.get();
-            if (globalFilter != null && globalFilter.isActive()) {
-                matches = matches && globalMatch.get();
+            values[i] = columnValues.toArray();
+            rowPredicates[i] = columnPredicates.toArray(new Predicate[0]);
+        }
+
+        return IntStream.range(0, rowCount)
+                .parallel()
+                .filter(i -> FilterUtils.isMatching(values[i], rowPredicates[i], globalPredicate))
+                .mapToObj(i -> rows[i])
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Resolves the columns of the (non-global) filters via the column index.
+     *
+     * @return the columns by filter key or <code>null</code>, if a column is not indexed (e.g. not rendered or inside ui:repeat)
+     */
+    protected Map<String, UIColumn> resolveFilterColumns(DataTable table, Map<String, FilterMeta> filterBy) {
+        Map<String, UIColumn> columnIndex = table.getColumnIndex();
+        Map<String, UIColumn> columns = new LinkedHashMap<>(filterBy.size());
+
+        for (Map.Entry<String, FilterMeta> entry : filterBy.entrySet()) {
+            if (entry.getValue().isGlobalFilter()) {
+                continue;
             }
 
-            if (matches) {
-                filtered.add(rowData);
+            UIColumn column = columnIndex.get(entry.getKey());
+            if (column == null) {
+                return null;
             }
+            columns.put(entry.getKey(), column);
         }
 
-        //Metadata for callback
-        if (table.isPaginator() || table.isVirtualScroll()) {
-            PrimeFaces.current().ajax().addCallbackParam("totalRecords", filtered.size());
-        }
+        return columns;
+    }
 
-        //save filtered data
-        table.setFilteredValue(filtered);
-        table.setValue(filtered);
-        table.setRowIndex(-1); //reset datamodel
+    protected UIColumn applyColumnModel(UIColumn column) {
+        if (column instanceof DynamicColumn) {
+            ((DynamicColumn) column).applyStatelessModel();
+        }
+        return column;
     }
 }
\ No newline at end of file
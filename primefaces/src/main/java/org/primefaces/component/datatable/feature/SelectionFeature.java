@@ -174,8 +174,9 @@ public class SelectionFeature implements DataTableFeature {
                 }
             }
             else {
+                Map<String, Object> rowDataByKey = table.getRowData(rowKeys);
                 for (String rowKey : rowKeys) {
-                    Object rowData = table.getRowData(rowKey);
+                    Object rowData = rowDataByKey.get(rowKey);
                     if (rowData != null) {
                         rowKeysTmp.add(rowKey);
                         if (isSelectable(table, var, requestMap, rowData)) {
@@ -29,6 +29,7 @@ import org.primefaces.component.datatable.DataTableRenderer;
 import org.primefaces.component.datatable.DataTableState;
 import org.primefaces.event.data.PostSortEvent;
 import org.primefaces.model.*;
+import org.primefaces.util.SortUtils;
 
 import javax.faces.FacesException;
 import javax.faces.context.FacesContext;
@@ -164,11 +165,34 @@ public class SortFeature implements DataTableFeature {
         Locale locale = table.resolveDataLocale();
         String var = table.getVar();
         Collator collator = Collator.getInstance(locale);
-        AtomicInteger comparisonResult = new AtomicInteger();
         Map<String, SortMeta> sortBy = table.getActiveSortMeta();
 
         Object varBackup = context.getExternalContext().getRequestMap().get(var);
 
+        // a sortFunction compares the raw values itself, so we can't precompute keys for it
+        if (sortBy.values().stream().anyMatch(s -> s.getFunction() != null)) {
+            sortWithComparator(context, table, list, sortBy, var, collator, locale);
+        }
+        else {
+            sortWithKeys(context, table, list, sortBy, var, collator, locale);
+        }
+
+        if (varBackup == null) {
+            context.getExternalContext().getRequestMap().remove(var);
+        }
+        else {
+            context.getExternalContext().getRequestMap().put(var, varBackup);
+        }
+    }
+
+    /**
+     * Sorts the list by evaluating the sortBy expression of both rows on each comparison.
+     * Used when a sortFunction is defined.
+     */
+    protected void sortWithComparator(FacesContext context, DataTable table, List<?> list, Map<String, SortMeta> sortBy,
+            String var, Collator collator, Locale locale) {
+        AtomicInteger comparisonResult = new AtomicInteger();
+
         list.sort((o1, o2) -> {
             for (SortMeta sortMeta : sortBy.values()) {
                 comparisonResult.set(0);
@@ -194,13 +218,63 @@ public class SortFeature implements DataTableFeature {
 
             return 0;
         });
+    }
 
-        if (varBackup == null) {
-            context.getExternalContext().getRequestMap().remove(var);
+    /**
+     * Sorts the list by extracting the sort keys of each row once (decorate), sorting the row indexes
+     * by these keys and finally reordering the list (undecorate).
+     * This evaluates the sortBy expression n times instead of 2 * n * log(n) times.
+     */
+    protected <T> void sortWithKeys(FacesContext context, DataTable table, List<T> list, Map<String, SortMeta> sortBy,
+            String var, Collator collator, Locale locale) {
+        List<T> rows = new ArrayList<>(list);
+        SortMeta[] sortMetas = sortBy.values().toArray(new SortMeta[0]);
+        Object[][] sortKeys = new Object[sortMetas.length][];
+
+        for (int i = 0; i < sortMetas.length; i++) {
+            SortMeta sortMeta = sortMetas[i];
+            int index = i;
+
+            if (sortMeta.isHeaderRow()) {
+                sortKeys[index] = extractSortKeys(context, var, sortMeta, rows, collator, locale);
+            }
+            else {
+                // see #sortWithComparator why we have to use #invokeOnColumn here
+                table.invokeOnColumn(sortMeta.getColumnKey(), column -> {
+                    sortKeys[index] = extractSortKeys(context, var, sortMeta, rows, collator, locale);
+                });
+            }
         }
-        else {
-            context.getExternalContext().getRequestMap().put(var, varBackup);
+
+        Integer[] indexes = SortUtils.sortIndexes(sortMetas, sortKeys, collator, locale, table.isParallelThresholdReached(rows.size()));
+
+        ListIterator<T> iterator = list.listIterator();
+        for (Integer index : indexes) {
+            iterator.next();
+            iterator.set(rows.get(index));
+        }
+    }
+
+    /**
+     * Evaluates the sortBy expression once per row, see {@link SortUtils#toSortKeys(Object[], SortMeta, Collator, Locale)}.
+     */
+    protected Object[] extractSortKeys(FacesContext context, String var, SortMeta sortMeta, List<?> rows,
+            Collator collator, Locale locale) {
+        ValueExpression ve = sortMeta.getSortBy();
+        Map<String, Object> requestMap = context.getExternalContext().getRequestMap();
+        Object[] values = new Object[rows.size()];
+
+        try {
+            for (int i = 0; i < values.length; i++) {
+                requestMap.put(var, rows.get(i));
+                values[i] = ve.getValue(context.getELContext());
+            }
+        }
+        catch (Exception e) {
+            throw new FacesException(e);
         }
+
+        return SortUtils.toSortKeys(values, sortMeta, collator, locale);
     }
 
     public static int compare(FacesContext context, String var, SortMeta sortMeta, Object o1, Object o2,
@@ -218,30 +292,7 @@ public class SortFeature implements DataTableFeature {
             int result;
 
             if (sortMeta.getFunction() == null) {
-                //Empty check
-                if (value1 == null && value2 == null) {
-                    result = 0;
-                }
-                else if (value1 == null) {
-                    result = sortMeta.getNullSortOrder();
-                }
-                else if (value2 == null) {
-                    result = -1 * sortMeta.getNullSortOrder();
-                }
-                else if (value1 instanceof String && value2 instanceof String) {
-                    if (sortMeta.isCaseSensitiveSort()) {
-                        result = collator.compare(value1, value2);
-                    }
-                    else {
-                        String str1 = (((String) value1).toLowerCase(locale));
-                        String str2 = (((String) value2).toLowerCase(locale));
-
-                        result = collator.compare(str1, str2);
-                    }
-                }
-                else {
-                    result = ((Comparable<Object>) value1).compareTo(value2);
-                }
+                result = SortUtils.compareValues(sortMeta, value1, value2, collator, locale);
             }
             else {
                 result = (Integer) sortMeta.getFunction().invoke(context.getELContext(), new Object[]{value1, value2});
@@ -26,6 +26,8 @@ package org.primefaces.component.export;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Base64;
 import java.util.List;
 
@@ -46,6 +48,8 @@ import org.primefaces.component.datatable.export.DataTableExporterFactory;
 import org.primefaces.component.treetable.TreeTable;
 import org.primefaces.component.treetable.export.TreeTableExporterFactory;
 import org.primefaces.expression.SearchExpressionFacade;
+import org.primefaces.model.StreamedContent;
+import org.primefaces.util.DynamicContentSrcBuilder;
 import org.primefaces.util.ComponentUtils;
 import org.primefaces.util.Constants;
 import org.primefaces.util.LangUtils;
@@ -64,6 +68,8 @@ public class DataExporter implements ActionListener, StateHolder {
     private ValueExpression options;
     private MethodExpression onTableRender;
     private ValueExpression exporter;
+    private ValueExpression bufferSize;
+    private ValueExpression ajaxStreaming;
 
     public DataExporter() {
         ResourceUtils.addComponentResource(FacesContext.getCurrentInstance(), "filedownload/filedownload.js");
@@ -118,6 +124,20 @@ public class DataExporter implements ActionListener, StateHolder {
             exporterOptions = (ExporterOptions) options.getValue(elContext);
         }
 
+        int exportBufferSize = 0;
+        if (bufferSize != null) {
+            exportBufferSize = bufferSize.isLiteralText()
+                               ? Integer.parseInt(bufferSize.getValue(context.getELContext()).toString())
+                               : ((Number) bufferSize.getValue(context.getELContext())).intValue();
+        }
+
+        boolean isAjaxStreaming = false;
+        if (ajaxStreaming != null) {
+            isAjaxStreaming = ajaxStreaming.isLiteralText()
+                              ? Boolean.parseBoolean(ajaxStreaming.getValue(context.getELContext()).toString())
+                              : (Boolean) ajaxStreaming.getValue(context.getELContext());
+        }
+
         Object customExporterInstance = null;
         if (exporter != null) {
             customExporterInstance = exporter.getValue(elContext);
@@ -132,6 +152,7 @@ public class DataExporter implements ActionListener, StateHolder {
                     .setEncodingType(encodingType)
                     .setPageOnly(isPageOnly)
                     .setSelectionOnly(isSelectionOnly)
+                    .setBufferSize(exportBufferSize)
                     .setOptions(exporterOptions)
                     .setPreProcessor(preProcessor)
                     .setPostProcessor(postProcessor)
@@ -140,6 +161,7 @@ public class DataExporter implements ActionListener, StateHolder {
             ExternalContext externalContext = context.getExternalContext();
             String filenameWithExtension = config.getOutputFileName() + exporterInstance.getFileExtension();
             OutputStream outputStream;
+            Path tempFile = null;
 
             String contentType = exporterInstance.getContentType();
             if (contentType.startsWith("text/") && LangUtils.isNotBlank(config.getEncodingType())) {
@@ -147,7 +169,13 @@ public class DataExporter implements ActionListener, StateHolder {
             }
 
             if (PrimeFaces.current().isAjaxRequest()) {
-                outputStream = new ByteArrayOutputStream();
+                if (isAjaxStreaming) {
+                    tempFile = Files.createTempFile("primefaces-export", exporterInstance.getFileExtension());
+                    outputStream = Files.newOutputStream(tempFile);
+                }
+                else {
+                    outputStream = new ByteArrayOutputStream();
+                }
             }
             else {
                 outputStream = context.getExternalContext().getResponseOutputStream();
@@ -156,6 +184,27 @@ public class DataExporter implements ActionListener, StateHolder {
                 addResponseCookie(context);
             }
 
+            if (tempFile != null) {
+                boolean registered = false;
+                try {
+                    try {
+                        exporterInstance.export(context, components, outputStream, config);
+                    }
+                    finally {
+                        outputStream.close();
+                    }
+                    ajaxStreamingDownload(filenameWithExtension, tempFile, contentType, context);
+                    registered = true;
+                }
+                finally {
+                    // from now on the registry (or the streaming) deletes the file
+                    if (!registered) {
+                        Files.deleteIfExists(tempFile);
+                    }
+                }
+                return;
+            }
+
             exporterInstance.export(context, components, outputStream, config);
 
             if (PrimeFaces.current().isAjaxRequest()) {
@@ -208,9 +257,25 @@ public class DataExporter implements ActionListener, StateHolder {
         String base64 = Base64.getEncoder().withoutPadding().encodeToString(content);
         String data = "data:" + contentType + ";base64," + base64;
 
+        download(filenameWithExtension, data, contentType, context);
+    }
+
+    /**
+     * Lets the client download the exported temporary file via a separate GET request,
+     * which is served by the {@link org.primefaces.application.resource.StreamedContentHandler}.
+     * The file is deleted after it was streamed, or when it's evicted before or the session ends.
+     */
+    protected void ajaxStreamingDownload(String filenameWithExtension, Path tempFile, String contentType, FacesContext context)
+            throws IOException {
+        StreamedContent content = new TempFileStreamedContent(tempFile, filenameWithExtension, contentType);
+
+        download(filenameWithExtension, DynamicContentSrcBuilder.buildStreaming(context, content), contentType, context);
+    }
+
+    private void download(String filenameWithExtension, String url, String contentType, FacesContext context) {
         String monitorKeyCookieName = ResourceUtils.getMonitorKeyCookieName(context, null);
         PrimeFaces.current().executeScript(String.format("PrimeFaces.download('%s', '%s', '%s', '%s')",
-                data, contentType, filenameWithExtension, monitorKeyCookieName));
+                url, contentType, filenameWithExtension, monitorKeyCookieName));
     }
 
     protected void setResponseHeader(ExternalContext externalContext , String contentDisposition) {
@@ -240,6 +305,22 @@ public class DataExporter implements ActionListener, StateHolder {
         this.exporter = exporter;
     }
 
+    public ValueExpression getAjaxStreaming() {
+        return ajaxStreaming;
+    }
+
+    public void setAjaxStreaming(ValueExpression ajaxStreaming) {
+        this.ajaxStreaming = ajaxStreaming;
+    }
+
+    public ValueExpression getBufferSize() {
+        return bufferSize;
+    }
+
+    public void setBufferSize(ValueExpression bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
     @Override
     public void restoreState(FacesContext context, Object state) {
         Object[] values = (Object[]) state;
@@ -255,11 +336,13 @@ public class DataExporter implements ActionListener, StateHolder {
         options = (ValueExpression) values[8];
         onTableRender = (MethodExpression) values[9];
         exporter = (ValueExpression) values[10];
+        bufferSize = (ValueExpression) values[11];
+        ajaxStreaming = (ValueExpression) values[12];
     }
 
     @Override
     public Object saveState(FacesContext context) {
-        Object[] values = new Object[12];
+        Object[] values = new Object[13];
 
         values[0] = target;
         values[1] = type;
@@ -272,6 +355,8 @@ public class DataExporter implements ActionListener, StateHolder {
         values[8] = options;
         values[9] = onTableRender;
         values[10] = exporter;
+        values[11] = bufferSize;
+        values[12] = ajaxStreaming;
 
         return (values);
     }
@@ -43,6 +43,8 @@ public class DataExporterTagHandler extends TagHandler {
     private final TagAttribute options;
     private final TagAttribute onTableRender;
     private final TagAttribute exporter;
+    private final TagAttribute bufferSize;
+    private final TagAttribute ajaxStreaming;
 
     public DataExporterTagHandler(TagConfig tagConfig) {
         super(tagConfig);
@@ -57,6 +59,8 @@ public class DataExporterTagHandler extends TagHandler {
         options = getAttribute("options");
         onTableRender = getAttribute("onTableRender");
         exporter = getAttribute("exporter");
+        bufferSize = getAttribute("bufferSize");
+        ajaxStreaming = getAttribute("ajaxStreaming");
     }
 
     @Override
@@ -76,6 +80,8 @@ public class DataExporterTagHandler extends TagHandler {
         ValueExpression optionsVE = null;
         MethodExpression onTableRenderME = null;
         ValueExpression exporterVE = null;
+        ValueExpression bufferSizeVE = null;
+        ValueExpression ajaxStreamingVE = null;
 
         if (encoding != null) {
             encodingVE = encoding.getValueExpression(faceletContext, Object.class);
@@ -101,10 +107,18 @@ public class DataExporterTagHandler extends TagHandler {
         if (exporter != null) {
             exporterVE = exporter.getValueExpression(faceletContext, Object.class);
         }
+        if (bufferSize != null) {
+            bufferSizeVE = bufferSize.getValueExpression(faceletContext, Object.class);
+        }
+        if (ajaxStreaming != null) {
+            ajaxStreamingVE = ajaxStreaming.getValueExpression(faceletContext, Object.class);
+        }
         ActionSource actionSource = (ActionSource) parent;
         DataExporter dataExporter = new DataExporter(targetVE, typeVE, fileNameVE, pageOnlyVE, selectionOnlyVE,
                 encodingVE, preProcessorME, postProcessorME, optionsVE, onTableRenderME);
         dataExporter.setExporter(exporterVE);
+        dataExporter.setBufferSize(bufferSizeVE);
+        dataExporter.setAjaxStreaming(ajaxStreamingVE);
         actionSource.addActionListener(dataExporter);
     }
 
@@ -30,6 +30,7 @@ public class ExportConfiguration {
     private String outputFileName;
     private boolean pageOnly;
     private boolean selectionOnly;
+    private int bufferSize;
     private String encodingType;
     private MethodExpression preProcessor;
     private MethodExpression postProcessor;
@@ -63,6 +64,15 @@ public class ExportConfiguration {
         return this;
     }
 
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    public ExportConfiguration setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+        return this;
+    }
+
     public String getEncodingType() {
         return encodingType;
     }
@@ -0,0 +1,103 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2021 PrimeTek
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.component.export;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import javax.faces.FacesException;
+
+import org.primefaces.model.StreamedContent;
+
+/**
+ * Exported temporary file, which is deleted after it was streamed or when it's released
+ * (see {@link org.primefaces.util.StreamedContentRegistry}).
+ */
+class TempFileStreamedContent implements StreamedContent, AutoCloseable, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String path;
+    private final String name;
+    private final String contentType;
+    private final Integer contentLength;
+
+    TempFileStreamedContent(Path path, String name, String contentType) throws IOException {
+        this.path = path.toString();
+        this.name = name;
+        this.contentType = contentType;
+
+        long size = Files.size(path);
+        this.contentLength = size <= Integer.MAX_VALUE ? (int) size : null;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getContentType() {
+        return contentType;
+    }
+
+    @Override
+    public String getContentEncoding() {
+        return null;
+    }
+
+    @Override
+    public Integer getContentLength() {
+        return contentLength;
+    }
+
+    @Override
+    public Supplier<InputStream> getStream() {
+        return () -> {
+            try {
+                return Files.newInputStream(Paths.get(path), StandardOpenOption.DELETE_ON_CLOSE);
+            }
+            catch (IOException e) {
+                throw new FacesException(e);
+            }
+        };
+    }
+
+    @Override
+    public Consumer<OutputStream> getWriter() {
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        Files.deleteIfExists(Paths.get(path));
+    }
+}
@@ -0,0 +1,252 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2021 PrimeTek
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.component.feedreader;
+
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.primefaces.util.LimitedSizeHashMap;
+
+/**
+ * Application scoped cache of parsed feeds for {@link FeedReader}.
+ * <p>
+ * Only the first render of a feed waits for the network, concurrent renders share the same load. Afterwards, expired feeds are
+ * refreshed by one background task per feed (using a conditional GET with <code>ETag</code> / <code>Last-Modified</code>)
+ * while the cached entries are displayed. If a refresh fails, the stale entries are kept until the next refresh.
+ * If the first load fails, the failure is cached and the load is retried with an exponential backoff.
+ */
+public class FeedCache {
+
+    private static final Logger LOGGER = Logger.getLogger(FeedCache.class.getName());
+
+    private static final int MAX_FEEDS = 100;
+    private static final int REFRESH_THREADS = 2;
+    private static final int CONNECT_TIMEOUT = 10000;
+    private static final int READ_TIMEOUT = 30000;
+    private static final long MIN_FAILURE_BACKOFF = 10000;
+    private static final long MAX_FAILURE_BACKOFF = 600000;
+
+    private final Map<String, CachedFeed> feeds = Collections.synchronizedMap(new LimitedSizeHashMap<>(MAX_FEEDS, true));
+
+    private final ThreadPoolExecutor refreshExecutor;
+
+    public FeedCache() {
+        refreshExecutor = new ThreadPoolExecutor(REFRESH_THREADS, REFRESH_THREADS, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+            r -> {
+                Thread thread = new Thread(r, "PrimeFaces-FeedReader-Refresh");
+                thread.setDaemon(true);
+                return thread;
+            });
+        refreshExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Gets the entries of a feed, loads the feed if it's not cached yet and triggers a background refresh if it's expired.
+     *
+     * @param url the URL of the feed
+     * @param timeToLive the time in milliseconds after which the feed is refreshed
+     * @return the entries of the feed
+     * @throws Exception if the feed isn't cached yet and can't be loaded
+     */
+    public List<?> getEntries(String url, long timeToLive) throws Exception {
+        CachedFeed feed;
+        synchronized (feeds) {
+            feed = feeds.get(url);
+            if (feed == null) {
+                feed = new CachedFeed(url);
+                feeds.put(url, feed);
+            }
+        }
+
+        return feed.getEntries(timeToLive);
+    }
+
+    /**
+     * Removes all cached feeds.
+     */
+    public void clear() {
+        feeds.clear();
+    }
+
+    /**
+     * Stops the background refreshes, called when the application is destroyed.
+     */
+    public void release() {
+        refreshExecutor.shutdownNow();
+    }
+
+    protected void refresh(CachedFeed feed) {
+        refreshExecutor.execute(() -> {
+            try {
+                load(feed);
+            }
+            catch (Exception e) {
+                // keep the stale entries, the next refresh is due after the time to live again
+                feed.loaded = System.currentTimeMillis();
+                LOGGER.log(Level.WARNING, "Could not refresh feed " + feed.url + ", keeping the cached entries", e);
+            }
+            finally {
+                feed.refreshing.set(false);
+            }
+        });
+    }
+
+    protected void load(CachedFeed feed) throws Exception {
+        URLConnection connection = new URL(feed.url).openConnection();
+        connection.setConnectTimeout(CONNECT_TIMEOUT);
+        connection.setReadTimeout(READ_TIMEOUT);
+
+        HttpURLConnection httpConnection = connection instanceof HttpURLConnection ? (HttpURLConnection) connection : null;
+        if (httpConnection != null && feed.entries != null) {
+            if (feed.eTag != null) {
+                httpConnection.setRequestProperty("If-None-Match", feed.eTag);
+            }
+            if (feed.lastModified != null) {
+                httpConnection.setRequestProperty("If-Modified-Since", feed.lastModified);
+            }
+        }
+
+        try {
+            if (httpConnection != null && httpConnection.getResponseCode() == HttpURLConnection.HTTP_NOT_MODIFIED) {
+                feed.loaded = System.currentTimeMillis();
+                return;
+            }
+
+            try (InputStream in = connection.getInputStream()) {
+                List<?> entries = new FeedInput().parse(in, httpConnection == null ? null : connection.getContentType(), Integer.MAX_VALUE);
+                if (httpConnection != null) {
+                    feed.eTag = connection.getHeaderField("ETag");
+                    feed.lastModified = connection.getHeaderField("Last-Modified");
+                }
+                feed.entries = Collections.unmodifiableList(entries);
+                feed.loaded = System.currentTimeMillis();
+            }
+        }
+        finally {
+            if (httpConnection != null) {
+                httpConnection.disconnect();
+            }
+        }
+    }
+
+    protected class CachedFeed {
+
+        private final String url;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+        private final AtomicReference<CompletableFuture<List<?>>> loading = new AtomicReference<>();
+        private volatile List<?> entries;
+        private volatile long loaded;
+        private volatile String eTag;
+        private volatile String lastModified;
+        private volatile Exception failure;
+        private volatile long retryAt;
+        private volatile int failures;
+
+        CachedFeed(String url) {
+            this.url = url;
+        }
+
+        List<?> getEntries(long timeToLive) throws Exception {
+            List<?> cached = entries;
+            if (cached == null) {
+                return loadFirst();
+            }
+
+            if (System.currentTimeMillis() - loaded >= timeToLive && refreshing.compareAndSet(false, true)) {
+                try {
+                    refresh(this);
+                }
+                catch (RejectedExecutionException e) {
+                    // released, keep the cached entries
+                    refreshing.set(false);
+                }
+            }
+
+            return cached;
+        }
+
+        /**
+         * The first load blocks, but only the first caller loads the feed while the others wait for its result.
+         */
+        private List<?> loadFirst() throws Exception {
+            while (true) {
+                List<?> cached = entries;
+                if (cached != null) {
+                    return cached;
+                }
+
+                CompletableFuture<List<?>> load = loading.get();
+                if (load != null) {
+                    try {
+                        return load.get();
+                    }
+                    catch (ExecutionException e) {
+                        throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+                    }
+                }
+
+                Exception cachedFailure = failure;
+                if (cachedFailure != null && System.currentTimeMillis() < retryAt) {
+                    throw cachedFailure;
+                }
+
+                CompletableFuture<List<?>> newLoad = new CompletableFuture<>();
+                if (loading.compareAndSet(null, newLoad)) {
+                    try {
+                        load(this);
+                        failure = null;
+                        failures = 0;
+                        newLoad.complete(entries);
+                        return entries;
+                    }
+                    catch (Exception e) {
+                        failure = e;
+                        failures++;
+                        retryAt = System.currentTimeMillis() + Math.min(MAX_FAILURE_BACKOFF, MIN_FAILURE_BACKOFF << Math.min(failures - 1, 16));
+                        newLoad.completeExceptionally(e);
+                        throw e;
+                    }
+                    finally {
+                        loading.set(null);
+                    }
+                }
+            }
+        }
+    }
+}
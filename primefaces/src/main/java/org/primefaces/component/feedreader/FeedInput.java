@@ -23,6 +23,7 @@
  */
 package org.primefaces.component.feedreader;
 
+import java.io.InputStream;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.List;
@@ -36,10 +37,30 @@ import java.io.IOException;
 public class FeedInput {
 
     public List parse(String url, int size) throws IOException, IllegalArgumentException, FeedException {
-        List entries = new ArrayList();
         URL feedSource = new URL(url);
         SyndFeedInput input = new SyndFeedInput();
         SyndFeed feed = input.build(new XmlReader(feedSource));
+
+        return getEntries(feed, size);
+    }
+
+    /**
+     * Parses a feed from a stream, e.g. of a connection opened by {@link FeedCache}.
+     *
+     * @param in the stream of the feed
+     * @param contentType the HTTP content type of the feed or <code>null</code>
+     * @param size the maximum number of entries
+     * @return the entries of the feed
+     */
+    public List parse(InputStream in, String contentType, int size) throws IOException, IllegalArgumentException, FeedException {
+        SyndFeedInput input = new SyndFeedInput();
+        SyndFeed feed = input.build(contentType == null ? new XmlReader(in) : new XmlReader(in, contentType));
+
+        return getEntries(feed, size);
+    }
+
+    protected List getEntries(SyndFeed feed, int size) {
+        List entries = new ArrayList();
         int i = 0;
 
         for (Object f : feed.getEntries()) {
@@ -36,7 +36,8 @@ public abstract class FeedReaderBase extends UIComponentBase {
 
         value,
         var,
-        size
+        size,
+        cacheTimeout
     }
 
     public FeedReaderBase() {
@@ -72,4 +73,12 @@ public abstract class FeedReaderBase extends UIComponentBase {
         getStateHelper().put(PropertyKeys.size, size);
     }
 
+    public int getCacheTimeout() {
+        return (Integer) getStateHelper().eval(PropertyKeys.cacheTimeout, 300);
+    }
+
+    public void setCacheTimeout(int cacheTimeout) {
+        getStateHelper().put(PropertyKeys.cacheTimeout, cacheTimeout);
+    }
+
 }
\ No newline at end of file
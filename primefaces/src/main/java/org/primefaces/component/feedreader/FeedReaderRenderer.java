@@ -30,6 +30,7 @@ import java.util.Map;
 import javax.faces.component.UIComponent;
 import javax.faces.context.FacesContext;
 
+import org.primefaces.context.PrimeApplicationContext;
 import org.primefaces.renderkit.CoreRenderer;
 import org.primefaces.util.ComponentUtils;
 
@@ -43,7 +44,7 @@ public class FeedReaderRenderer extends CoreRenderer {
         int size = reader.getSize();
 
         try {
-            List entries = new FeedInput().parse(reader.getValue(), size);
+            List entries = getEntries(context, reader, size);
 
             for (Object f : entries) {
                 requestMap.put(var, f);
@@ -61,6 +62,17 @@ public class FeedReaderRenderer extends CoreRenderer {
         }
     }
 
+    protected List getEntries(FacesContext context, FeedReader reader, int size) throws Exception {
+        int cacheTimeout = reader.getCacheTimeout();
+        if (cacheTimeout <= 0) {
+            return new FeedInput().parse(reader.getValue(), size);
+        }
+
+        FeedCache feedCache = PrimeApplicationContext.getCurrentInstance(context).getFeedCache();
+        List<?> entries = feedCache.getEntries(reader.getValue(), cacheTimeout * 1000L);
+        return entries.size() > size ? entries.subList(0, size) : entries;
+    }
+
     @Override
     public void encodeChildren(FacesContext context, UIComponent component) throws IOException {
         //Do nothing
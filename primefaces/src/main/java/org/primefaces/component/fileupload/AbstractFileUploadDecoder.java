@@ -32,6 +32,11 @@ import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.*;
 import java.util.List;
 import java.util.logging.Level;
@@ -41,6 +46,9 @@ public abstract class AbstractFileUploadDecoder<T extends HttpServletRequest> im
 
     private static final Logger LOGGER = Logger.getLogger(AbstractFileUploadDecoder.class.getName());
 
+    private static final String CHUNK_DATA_FILE = "data";
+    private static final String CHUNK_INDEX_FILE = "index";
+
     @Override
     public void decode(FacesContext context, FileUpload fileUpload) {
         T request = getRequest(context);
@@ -117,7 +125,10 @@ public abstract class AbstractFileUploadDecoder<T extends HttpServletRequest> im
 
         Path chunksDir = FileUploadUtils.getChunkDir(request);
 
-        writeChunk(chunk, chunksDir, contentRange);
+        validateContentRange(fileUpload, contentRange, chunksDir);
+
+        // the total size is client provided, so only preallocate it once it's known to be within the sizeLimit
+        writeChunk(chunk, chunksDir, contentRange, fileUpload.getSizeLimit() != null);
 
         if (contentRange.isLastChunk()) {
             UploadedFile uploadedFile = processLastChunk(request, chunk, chunksDir, contentRange);
@@ -128,67 +139,152 @@ public abstract class AbstractFileUploadDecoder<T extends HttpServletRequest> im
 
     @Override
     public long decodeUploadedBytes(T request) {
-        long uploadedBytes = 0;
-        for (Path chunk : FileUploadUtils.listChunks(request)) {
-            try {
-                uploadedBytes += Files.size(chunk);
-            }
-            catch (IOException e) {
-                LOGGER.log(Level.SEVERE, e.getMessage(), e);
-                break;
-            }
-
+        Path chunksDir = FileUploadUtils.getChunkDir(request);
+        try {
+            return readUploadedBytes(chunksDir);
+        }
+        catch (IOException e) {
+            LOGGER.log(Level.SEVERE, e.getMessage(), e);
+            return 0;
         }
-        return uploadedBytes;
     }
 
     @Override
     public void deleteChunks(T request) throws IOException {
-        Path chunkDir = FileUploadUtils.getChunkDir(request);
-        List<Path> chunks = FileUploadUtils.listChunks(chunkDir);
-        deleteChunkFolder(chunkDir, chunks);
+        deleteChunkFolder(FileUploadUtils.getChunkDir(request));
+    }
+
+    /**
+     * Validates the client provided Content-Range before anything is written to the disk.
+     * Chunks must continue the contiguously uploaded bytes, so the file never grows beyond the bytes actually uploaded.
+     */
+    protected void validateContentRange(FileUpload fileUpload, ContentRange contentRange, Path chunksDir) throws IOException {
+        long begin = contentRange.getChunkRangeBegin();
+        long end = contentRange.getChunkRangeEnd();
+        long total = contentRange.getChunkTotalFileSize();
+        if (begin > end || end >= total) {
+            throw new IOException("Invalid Content-Range: " + begin + "-" + end + "/" + total);
+        }
+
+        Long maxChunkSize = fileUpload.getMaxChunkSize();
+        if (maxChunkSize != null && maxChunkSize > 0 && end - begin + 1 > maxChunkSize) {
+            throw new IOException("Chunk exceeds maxChunkSize: " + begin + "-" + end);
+        }
+
+        Long sizeLimit = fileUpload.getSizeLimit();
+        if (sizeLimit != null && total > sizeLimit) {
+            deleteChunkFolder(chunksDir);
+            throw new IOException("File exceeds sizeLimit: " + total);
+        }
+
+        if (begin > readUploadedBytes(chunksDir)) {
+            throw new IOException("Chunk does not continue the uploaded bytes: " + begin + "-" + end);
+        }
     }
 
     protected void writeChunk(UploadedFile uploadedFile, Path path, ContentRange contentRange) throws IOException {
+        writeChunk(uploadedFile, path, contentRange, false);
+    }
+
+    /**
+     * Writes the chunk at its offset into a single file inside the chunk directory and records the number
+     * of contiguously uploaded bytes in a small index file, so neither merging nor resuming has to walk the chunks.
+     *
+     * @param preallocate if the file should be preallocated to the total size of the Content-Range,
+     *                    which must be validated before
+     */
+    protected void writeChunk(UploadedFile uploadedFile, Path path, ContentRange contentRange, boolean preallocate) throws IOException {
         if (Files.notExists(path)) {
             Files.createDirectory(path);
         }
 
-        String chunkname = String.valueOf(contentRange.getPacket());
-        Path chunkFile = Paths.get(path.toFile().getAbsolutePath(), chunkname);
-        try (InputStream is = uploadedFile.getInputStream()) {
-            Files.copy(is, chunkFile, StandardCopyOption.REPLACE_EXISTING);
+        Path dataFile = path.resolve(CHUNK_DATA_FILE);
+        boolean allocate = preallocate && Files.notExists(dataFile);
+        try (FileChannel channel = FileChannel.open(dataFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+             InputStream is = uploadedFile.getInputStream()) {
+            if (allocate && contentRange.getChunkTotalFileSize() > 0) {
+                channel.write(ByteBuffer.allocate(1), contentRange.getChunkTotalFileSize() - 1);
+            }
+
+            ReadableByteChannel source = Channels.newChannel(is);
+            long position = contentRange.getChunkRangeBegin();
+            long remaining = contentRange.getChunkRangeEnd() - contentRange.getChunkRangeBegin() + 1;
+            while (remaining > 0) {
+                long transferred = channel.transferFrom(source, position, remaining);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+
+            if (remaining > 0) {
+                throw new IOException("Chunk does not meet expected size: " + contentRange.getChunkRangeBegin() + "-"
+                        + contentRange.getChunkRangeEnd());
+            }
+        }
+
+        long uploadedBytes = readUploadedBytes(path);
+        if (contentRange.getChunkRangeBegin() <= uploadedBytes) {
+            uploadedBytes = Math.max(uploadedBytes, contentRange.getChunkRangeEnd() + 1);
+            Files.write(path.resolve(CHUNK_INDEX_FILE), String.valueOf(uploadedBytes).getBytes(StandardCharsets.US_ASCII));
         }
     }
 
     protected UploadedFile processLastChunk(T request, UploadedFile chunk, Path chunksDir, ContentRange contentRange) throws IOException {
         String fileKey = generateFileInfoKey(request);
         Path whole = Paths.get(getUploadDirectory(request), "[" + fileKey +  "]" + chunk.getFileName());
-        Files.deleteIfExists(whole);
-        Files.createFile(whole);
 
-        List<Path> chunks = FileUploadUtils.listChunks(chunksDir);
-        for (Path p : chunks) {
-            Files.write(whole, Files.readAllBytes(p), StandardOpenOption.APPEND);
+        long uploadedBytes = readUploadedBytes(chunksDir);
+        Path dataFile = chunksDir.resolve(CHUNK_DATA_FILE);
+        if (uploadedBytes != contentRange.getChunkTotalFileSize() || Files.size(dataFile) != contentRange.getChunkTotalFileSize()) {
+            deleteChunkFolder(chunksDir);
+            throw new IOException("Merged file does not meet expected size: " + contentRange.getChunkTotalFileSize());
         }
 
-        deleteChunkFolder(chunksDir, chunks);
+        // chunks were written in place, so "merging" is just a rename
+        Files.move(dataFile, whole, StandardCopyOption.REPLACE_EXISTING);
+        deleteChunkFolder(chunksDir);
 
-        if (Files.size(whole) != contentRange.getChunkTotalFileSize()) {
-            Files.delete(whole);
-            throw new IOException("Merged file does not meet expected size: " + contentRange.getChunkTotalFileSize());
+        return new NIOUploadedFile(whole, chunk.getFileName(), chunk.getContentType());
+    }
+
+    protected long readUploadedBytes(Path chunksDir) throws IOException {
+        Path indexFile = chunksDir.resolve(CHUNK_INDEX_FILE);
+        if (Files.notExists(indexFile)) {
+            return 0;
         }
 
-        return new NIOUploadedFile(whole, chunk.getFileName(), chunk.getContentType());
+        String uploadedBytes = new String(Files.readAllBytes(indexFile), StandardCharsets.US_ASCII).trim();
+        try {
+            return uploadedBytes.isEmpty() ? 0 : Long.parseLong(uploadedBytes);
+        }
+        catch (NumberFormatException e) {
+            throw new IOException("Corrupt chunk index: " + indexFile, e);
+        }
     }
 
     protected String getContentRange(HttpServletRequest request) {
         return request.getHeader("Content-Range");
     }
 
+    /**
+     * @deprecated chunks are written into a single file now, use {@link #deleteChunkFolder(Path)}
+     */
+    @Deprecated
     protected void deleteChunkFolder(Path chunksDir, List<Path> chunks) throws IOException {
-        for (Path p : chunks) {
-            Files.delete(p);
+        deleteChunkFolder(chunksDir);
+    }
+
+    protected void deleteChunkFolder(Path chunksDir) throws IOException {
+        if (Files.notExists(chunksDir)) {
+            return;
+        }
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(chunksDir)) {
+            for (Path p : files) {
+                Files.delete(p);
+            }
         }
 
         Files.delete(chunksDir);
@@ -0,0 +1,51 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2021 PrimeTek
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.component.fileupload;
+
+/**
+ * Service provider interface to determine the content type of an uploaded file by looking only at its first bytes
+ * (e.g. magic numbers), so the file doesn't have to be copied for validation.
+ * If no detector is able to determine the content type, the installed {@link java.nio.file.spi.FileTypeDetector} is used as fallback.
+ */
+public interface ContentTypeDetector {
+
+    /**
+     * The number of leading bytes this detector needs to inspect.
+     *
+     * @return the header size in bytes
+     */
+    default int getHeaderSize() {
+        return 8192;
+    }
+
+    /**
+     * Determines the content type of a file.
+     *
+     * @param header the leading bytes of the file, may be shorter than {@link #getHeaderSize()} for small files
+     * @param fileName the name of the file, may be used to refine container formats like ZIP
+     * @return the content type or <code>null</code>, if it could not be determined
+     */
+    String probeContentType(byte[] header, String fileName);
+
+}
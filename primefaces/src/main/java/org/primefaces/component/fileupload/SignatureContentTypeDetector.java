@@ -0,0 +1,184 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2021 PrimeTek
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.component.fileupload;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Built-in {@link ContentTypeDetector} which recognizes common image, office, PDF and archive types by their signature.
+ * The file name is never used: ZIP archives are only reported if the header proves their subtype, short or ambiguous
+ * signatures (like OLE2 compound documents, which can be doc, xls, ppt or msg) are not reported at all.
+ * For those <code>null</code> is returned, so the {@link java.nio.file.spi.FileTypeDetector} decides.
+ */
+public class SignatureContentTypeDetector implements ContentTypeDetector {
+
+    private static final Signature[] SIGNATURES = {
+        new Signature("image/png", 0, 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A),
+        new Signature("image/jpeg", 0, 0xFF, 0xD8, 0xFF),
+        new Signature("image/gif", 0, 'G', 'I', 'F', '8', '7', 'a'),
+        new Signature("image/gif", 0, 'G', 'I', 'F', '8', '9', 'a'),
+        new Signature("image/tiff", 0, 'I', 'I', 0x2A, 0x00),
+        new Signature("image/tiff", 0, 'M', 'M', 0x00, 0x2A),
+        new Signature("application/pdf", 0, '%', 'P', 'D', 'F', '-'),
+        new Signature("application/rtf", 0, '{', '\\', 'r', 't', 'f'),
+        new Signature("application/gzip", 0, 0x1F, 0x8B, 0x08),
+        new Signature("application/x-bzip2", 0, 'B', 'Z', 'h'),
+        new Signature("application/x-7z-compressed", 0, '7', 'z', 0xBC, 0xAF, 0x27, 0x1C),
+        new Signature("application/x-rar-compressed", 0, 'R', 'a', 'r', '!', 0x1A, 0x07),
+        new Signature("application/x-tar", 257, 'u', 's', 't', 'a', 'r')
+    };
+
+    private static final byte[] RIFF = {'R', 'I', 'F', 'F'};
+    private static final byte[] WEBP = {'W', 'E', 'B', 'P'};
+    private static final byte[] ZIP = {'P', 'K', 0x03, 0x04};
+    private static final byte[] ZIP_EMPTY = {'P', 'K', 0x05, 0x06};
+    private static final byte[] BMP = {'B', 'M'};
+    private static final int[] BMP_INFO_HEADER_SIZES = {12, 40, 52, 56, 64, 108, 124};
+
+    private static final String OOXML_WORD = "application/vnd.openxmlformats-officedocument.wordprocessingml.document";
+    private static final String OOXML_EXCEL = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+    private static final String OOXML_POWERPOINT = "application/vnd.openxmlformats-officedocument.presentationml.presentation";
+
+    @Override
+    public String probeContentType(byte[] header, String fileName) {
+        for (Signature signature : SIGNATURES) {
+            if (signature.matches(header)) {
+                return signature.contentType;
+            }
+        }
+
+        if (startsWith(header, 0, RIFF) && startsWith(header, 8, WEBP)) {
+            return "image/webp";
+        }
+        if (isBmp(header)) {
+            return "image/bmp";
+        }
+
+        if (startsWith(header, 0, ZIP) || startsWith(header, 0, ZIP_EMPTY)) {
+            return probeZipContentType(header);
+        }
+
+        // e.g. OLE2 compound documents: the directory is not part of the header, so doc/xls/ppt can't be told apart
+        return null;
+    }
+
+    /**
+     * "BM" alone also matches plain text, so the reserved bytes and the size of the info header are checked as well.
+     */
+    protected boolean isBmp(byte[] header) {
+        if (!startsWith(header, 0, BMP) || header.length < 18) {
+            return false;
+        }
+        for (int i = 6; i < 10; i++) {
+            if (header[i] != 0) {
+                return false;
+            }
+        }
+        int infoHeaderSize = readShort(header, 14) | readShort(header, 16) << 16;
+        for (int size : BMP_INFO_HEADER_SIZES) {
+            if (infoHeaderSize == size) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the content type or <code>null</code>, if the entries in the header don't prove a specific subtype
+     */
+    protected String probeZipContentType(byte[] header) {
+        // ODF and EPUB store its content type uncompressed as first entry named "mimetype"
+        String entries = new String(header, StandardCharsets.ISO_8859_1);
+        if (entries.startsWith("mimetype", 30) && readShort(header, 8) == 0) {
+            int start = 30 + readShort(header, 26) + readShort(header, 28);
+            int end = start;
+            while (end < entries.length() && isContentTypeChar(entries.charAt(end))) {
+                end++;
+            }
+            if (end > start) {
+                return entries.substring(start, end);
+            }
+        }
+
+        // OOXML, the entry names are stored uncompressed in the local file headers
+        if (entries.contains("[Content_Types].xml")) {
+            if (entries.contains("word/")) {
+                return OOXML_WORD;
+            }
+            if (entries.contains("xl/")) {
+                return OOXML_EXCEL;
+            }
+            if (entries.contains("ppt/")) {
+                return OOXML_POWERPOINT;
+            }
+        }
+
+        if (entries.contains("META-INF/MANIFEST.MF")) {
+            return "application/java-archive";
+        }
+
+        // the entries proving the subtype may be located after the header
+        return null;
+    }
+
+    private static int readShort(byte[] header, int offset) {
+        return (header[offset] & 0xFF) | (header[offset + 1] & 0xFF) << 8;
+    }
+
+    private static boolean isContentTypeChar(char c) {
+        return c >= 'a' && c <= 'z' || c >= '0' && c <= '9' || c == '/' || c == '.' || c == '-' || c == '+';
+    }
+
+    private static boolean startsWith(byte[] header, int offset, byte[] prefix) {
+        if (header.length < offset + prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (header[offset + i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static class Signature {
+
+        private final String contentType;
+        private final int offset;
+        private final byte[] magic;
+
+        Signature(String contentType, int offset, int... magic) {
+            this.contentType = contentType;
+            this.offset = offset;
+            this.magic = new byte[magic.length];
+            for (int i = 0; i < magic.length; i++) {
+                this.magic[i] = (byte) magic[i];
+            }
+        }
+
+        boolean matches(byte[] header) {
+            return startsWith(header, offset, magic);
+        }
+    }
+}
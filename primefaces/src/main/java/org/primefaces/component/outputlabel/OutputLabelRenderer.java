@@ -189,6 +189,7 @@ public class OutputLabelRenderer extends CoreRenderer {
             PrimeApplicationContext applicationContext = PrimeApplicationContext.getCurrentInstance(context);
             Set<ConstraintDescriptor<?>> constraints = BeanValidationMetadataExtractor.extractDefaultConstraintDescriptors(context,
                     applicationContext,
+                    input,
                     ValueExpressionAnalyzer.getExpression(context.getELContext(), input.getValueExpression("value")));
 
             if (constraints == null || constraints.isEmpty()) {
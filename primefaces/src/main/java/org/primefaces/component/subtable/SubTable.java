@@ -23,12 +23,15 @@
  */
 package org.primefaces.component.subtable;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import javax.faces.context.FacesContext;
 import javax.faces.event.PhaseId;
 import org.primefaces.component.api.UIColumn;
+import org.primefaces.component.api.ColumnIndex;
 import org.primefaces.component.api.ColumnAware;
 import org.primefaces.model.ColumnMeta;
 
@@ -37,6 +40,7 @@ public class SubTable extends SubTableBase implements ColumnAware {
     public static final String COMPONENT_TYPE = "org.primefaces.component.SubTable";
 
     private List<UIColumn> columns;
+    private Map<String, UIColumn> columnIndex;
 
     @Override
     public List<UIColumn> getColumns() {
@@ -58,6 +62,34 @@ public class SubTable extends SubTableBase implements ColumnAware {
     @Override
     public void setColumns(List<UIColumn> columns) {
         this.columns = columns;
+        this.columnIndex = null;
+    }
+
+    @Override
+    public Map<String, UIColumn> getColumnIndex() {
+        if (this.columnIndex != null) {
+            return this.columnIndex;
+        }
+
+        // the column keys contain the row index inside the row state, so let the callers walk the columns
+        if (getRowIndex() != -1) {
+            return Collections.emptyMap();
+        }
+
+        FacesContext context = getFacesContext();
+        if (context.getCurrentPhaseId() == PhaseId.RENDER_RESPONSE) {
+            // same as #getColumns
+            this.columnIndex = collectColumnIndex();
+            return this.columnIndex;
+        }
+
+        return ColumnIndex.forCurrentPhase(context, this);
+    }
+
+    @Override
+    public void resetColumnIndex() {
+        this.columnIndex = null;
+        ColumnIndex.reset(getFacesContext(), this);
     }
 
     @Override
@@ -39,6 +39,7 @@ import javax.faces.event.PhaseId;
 import javax.faces.event.PostRestoreStateEvent;
 
 import org.primefaces.PrimeFaces;
+import org.primefaces.component.api.ColumnIndex;
 import org.primefaces.component.api.UIColumn;
 import org.primefaces.component.column.Column;
 import org.primefaces.component.treetable.feature.FilterFeature;
@@ -146,6 +147,7 @@ public class TreeTable extends TreeTableBase {
     private static final Collection<String> EVENT_NAMES = BEHAVIOR_EVENT_MAPPING.keySet();
 
     private List<UIColumn> columns;
+    private Map<String, UIColumn> columnIndex;
     private List<String> filteredRowKeys = new ArrayList<>();
     private Map<String, AjaxBehaviorEvent> deferredEvents = new HashMap<>(1);
 
@@ -400,6 +402,34 @@ public class TreeTable extends TreeTableBase {
     @Override
     public void setColumns(List<UIColumn> columns) {
         this.columns = columns;
+        this.columnIndex = null;
+    }
+
+    @Override
+    public Map<String, UIColumn> getColumnIndex() {
+        if (this.columnIndex != null) {
+            return this.columnIndex;
+        }
+
+        // the column keys contain the row index inside the row state, so let the callers walk the columns
+        if (getRowKey() != null) {
+            return Collections.emptyMap();
+        }
+
+        FacesContext context = getFacesContext();
+        if (context.getCurrentPhaseId() == PhaseId.RENDER_RESPONSE) {
+            // same as #getColumns
+            this.columnIndex = collectColumnIndex();
+            return this.columnIndex;
+        }
+
+        return ColumnIndex.forCurrentPhase(context, this);
+    }
+
+    @Override
+    public void resetColumnIndex() {
+        this.columnIndex = null;
+        ColumnIndex.reset(getFacesContext(), this);
     }
 
     @Override
@@ -414,6 +444,7 @@ public class TreeTable extends TreeTableBase {
 
         // reset component for MyFaces view pooling
         columns = null;
+        columnIndex = null;
         filteredRowKeys = new ArrayList<>();
 
         return super.saveState(context);
@@ -425,6 +456,9 @@ public class TreeTable extends TreeTableBase {
         if (root == null) {
             return (-1);
         }
+        else if (root instanceof LazyTreeNode) {
+            return ((LazyTreeNode<?>) root).getTotalChildCount();
+        }
         else {
             List<TreeNode> children = root.getChildren();
             return children == null ? -1 : children.size();
@@ -84,9 +84,11 @@ public abstract class TreeTableBase extends UITree implements Widget, ClientBeha
         allowUnsorting,
         sortMode,
         cloneOnFilter,
+        incrementalFiltering,
         saveOnCellBlur,
         showGridlines,
-        size
+        size,
+        parallelThreshold
     }
 
     protected enum InternalPropertyKeys {
@@ -488,6 +490,14 @@ public abstract class TreeTableBase extends UITree implements Widget, ClientBeha
         getStateHelper().put(PropertyKeys.cloneOnFilter, cloneOnFilter);
     }
 
+    public boolean isIncrementalFiltering() {
+        return (Boolean) getStateHelper().eval(PropertyKeys.incrementalFiltering, false);
+    }
+
+    public void setIncrementalFiltering(boolean incrementalFiltering) {
+        getStateHelper().put(PropertyKeys.incrementalFiltering, incrementalFiltering);
+    }
+
     public boolean isSaveOnCellBlur() {
         return (Boolean) getStateHelper().eval(PropertyKeys.saveOnCellBlur, true);
     }
@@ -511,4 +521,14 @@ public abstract class TreeTableBase extends UITree implements Widget, ClientBeha
     public void setSize(String size) {
         getStateHelper().put(PropertyKeys.size, size);
     }
+
+    @Override
+    public int getParallelThreshold() {
+        return (Integer) getStateHelper().eval(PropertyKeys.parallelThreshold, 0);
+    }
+
+    @Override
+    public void setParallelThreshold(int parallelThreshold) {
+        getStateHelper().put(PropertyKeys.parallelThreshold, parallelThreshold);
+    }
 }
\ No newline at end of file
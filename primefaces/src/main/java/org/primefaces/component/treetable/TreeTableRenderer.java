@@ -52,6 +52,7 @@ import org.primefaces.component.treetable.feature.ResizableColumnsFeature;
 import org.primefaces.component.treetable.feature.SelectionFeature;
 import org.primefaces.component.treetable.feature.SortFeature;
 import org.primefaces.model.ColumnMeta;
+import org.primefaces.model.LazyTreeNode;
 import org.primefaces.model.SortMeta;
 import org.primefaces.model.SortOrder;
 import org.primefaces.model.TreeNode;
@@ -838,6 +839,10 @@ public class TreeTableRenderer extends DataRenderer {
 
     protected void encodeNodeChildren(FacesContext context, TreeTable tt, TreeNode root, TreeNode treeNode, int first, int size) throws IOException {
         if (size > 0) {
+            if (treeNode instanceof LazyTreeNode) {
+                ((LazyTreeNode<?>) treeNode).loadChildren(first + size);
+            }
+
             List<TreeNode> children = treeNode.getChildren();
             int childCount = treeNode.getChildCount();
             int last = (first + size);
@@ -37,13 +37,17 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
+import java.util.stream.IntStream;
 import org.primefaces.component.treetable.TreeTable;
 import org.primefaces.component.treetable.TreeTableRenderer;
 import org.primefaces.component.treetable.TreeTableState;
 import org.primefaces.model.CheckboxTreeNode;
 import org.primefaces.model.DefaultTreeNode;
+import org.primefaces.model.LazyTreeNode;
 import org.primefaces.model.TreeNode;
+import org.primefaces.util.FilterUtils;
 import org.primefaces.util.LocaleUtils;
 
 public class FilterFeature implements TreeTableFeature {
@@ -77,8 +81,15 @@ public class FilterFeature implements TreeTableFeature {
         // FilterMeta#column must be updated since local value
         // (from column) must be decoded by FilterFeature#decodeFilterValue
         Map<String, FilterMeta> filterBy = table.getFilterByAsMap();
+        Map<String, Map.Entry<FilterConstraint, Object>> previousFilters = table.isIncrementalFiltering() ? snapshotFilters(filterBy) : null;
+        TreeNode<?> previousFilteredValue = table.isIncrementalFiltering() ? table.getFilteredValue() : null;
         table.updateFilterByValuesWithFilterRequest(context, filterBy);
 
+        // the new filters only narrow the previous ones, so it's enough to filter the previous result
+        if (previousFilteredValue != null && isNarrowing(previousFilters, filterBy, LocaleUtils.getCurrentLocale(context))) {
+            context.getAttributes().put(getPreviousFilteredValueKey(context, table), previousFilteredValue);
+        }
+
         // reset state
         table.updateFilteredValue(context, null);
         table.setValue(null);
@@ -115,6 +126,12 @@ public class FilterFeature implements TreeTableFeature {
     }
 
     public void filter(FacesContext context, TreeTable tt, TreeNode root) {
+        // lazy models filter while loading
+        if (root instanceof LazyTreeNode) {
+            filterLazy(context, tt, (LazyTreeNode<?>) root);
+            return;
+        }
+
         Map<String, FilterMeta> filterBy = tt.getFilterByAsMap();
         if (filterBy.isEmpty()) {
             return;
@@ -122,18 +139,29 @@ public class FilterFeature implements TreeTableFeature {
 
         Locale filterLocale = LocaleUtils.getCurrentLocale(context);
 
+        // see #decode, in incremental mode the previous result is filtered instead of the whole tree
+        TreeNode<?> previousFilteredValue = (TreeNode<?>) context.getAttributes().remove(getPreviousFilteredValueKey(context, tt));
+        TreeNode source = previousFilteredValue != null ? previousFilteredValue : root;
+
         // collect filtered / valid node rowKeys
         List<String> filteredRowKeys = tt.getFilteredRowKeys();
         filteredRowKeys.clear();
-        collectFilteredRowKeys(context, tt, root, root, filterBy, filterLocale, filteredRowKeys);
+        // custom constraints (e.g. a filterFunction evaluating EL) must run on the request thread
+        if (tt.getParallelThreshold() > 0 && FilterUtils.isParallelizable(filterBy)
+                && tt.isParallelThresholdReached(countNodes(source, tt.getParallelThreshold()))) {
+            collectFilteredRowKeysParallel(context, tt, source, filterBy, filterLocale, filteredRowKeys);
+        }
+        else {
+            collectFilteredRowKeys(context, tt, source, source, filterBy, filterLocale, filteredRowKeys);
+        }
 
         // recreate tree node
-        TreeNode filteredValue = cloneTreeNode(tt, root, root.getParent());
-        createFilteredValueFromRowKeys(tt, root, filteredValue, filteredRowKeys);
+        TreeNode filteredValue = cloneTreeNode(tt, source, source.getParent());
+        createFilteredValueFromRowKeys(tt, source, filteredValue, filteredRowKeys);
 
         tt.updateFilteredValue(context, filteredValue);
         tt.setValue(filteredValue);
-        tt.setRowKey(root, null);
+        tt.setRowKey(source, null);
 
         //Metadata for callback
         if (tt.isPaginator()) {
@@ -145,6 +173,19 @@ public class FilterFeature implements TreeTableFeature {
     }
 
 
+    protected void filterLazy(FacesContext context, TreeTable tt, LazyTreeNode<?> root) {
+        root.getModel().setFilterBy(tt.getActiveFilterMeta());
+        tt.getFilteredRowKeys().clear();
+
+        //Metadata for callback
+        if (tt.isPaginator()) {
+            PrimeFaces.current().ajax().addCallbackParam("totalRecords", root.getTotalChildCount());
+        }
+        if (tt.getSelectedRowKeysAsString() != null) {
+            PrimeFaces.current().ajax().addCallbackParam("selection", tt.getSelectedRowKeysAsString());
+        }
+    }
+
     protected void collectFilteredRowKeys(FacesContext context, TreeTable tt, TreeNode<?> root, TreeNode<?> node,  Map<String, FilterMeta> filterBy,
             Locale filterLocale, List<String> filteredRowKeys) {
 
@@ -207,26 +248,211 @@ public class FilterFeature implements TreeTableFeature {
         }
     }
 
-    private void createFilteredValueFromRowKeys(TreeTable tt, TreeNode<?> node, TreeNode<?> filteredNode, List<String> filteredRowKeys) {
+    /**
+     * Collects the filtered row keys in the same (depth-first) order as
+     * {@link #collectFilteredRowKeys(FacesContext, TreeTable, TreeNode, TreeNode, Map, Locale, List)}.
+     * The column values are resolved sequentially first, as the EL evaluation relies on the request map,
+     * afterwards the predicates are evaluated on the common fork-join pool.
+     */
+    protected void collectFilteredRowKeysParallel(FacesContext context, TreeTable tt, TreeNode<?> root, Map<String, FilterMeta> filterBy,
+            Locale filterLocale, List<String> filteredRowKeys) {
+        Map<String, Predicate<Object>> predicates = FilterUtils.compileFilters(context, filterBy, filterLocale);
+
+        FilterMeta globalFilter = filterBy.get(FilterMeta.GLOBAL_FILTER_KEY);
+        Predicate<Object> globalPredicate = globalFilter != null && globalFilter.isActive()
+                ? globalFilter.getConstraint().toPredicate(context, globalFilter.getFilterValue(), filterLocale)
+                : null;
+
+        List<String> rowKeys = new ArrayList<>();
+        List<Object[]> values = new ArrayList<>();
+        List<Predicate<Object>[]> rowPredicates = new ArrayList<>();
+        collectFilterValues(context, tt, root, root, filterBy, predicates, globalPredicate != null, rowKeys, values, rowPredicates);
+
+        IntStream.range(0, rowKeys.size())
+                .parallel()
+                .filter(i -> FilterUtils.isMatching(values.get(i), rowPredicates.get(i), globalPredicate))
+                .mapToObj(rowKeys::get)
+                .forEachOrdered(filteredRowKeys::add);
+    }
+
+    /**
+     * Counts the descendants of the node, but stops counting once the limit is reached.
+     */
+    protected int countNodes(TreeNode<?> node, int limit) {
+        int count = 0;
+        int childCount = node.getChildCount();
+        for (int i = 0; i < childCount && count < limit; i++) {
+            count += 1 + countNodes(node.getChildren().get(i), limit - count - 1);
+        }
+        return count;
+    }
+
+    protected void collectFilterValues(FacesContext context, TreeTable tt, TreeNode<?> root, TreeNode<?> node, Map<String, FilterMeta> filterBy,
+            Map<String, Predicate<Object>> predicates, boolean hasGlobalFilter, List<String> rowKeys, List<Object[]> values,
+            List<Predicate<Object>[]> rowPredicates) {
+
+        ELContext elContext = context.getELContext();
         int childCount = node.getChildCount();
+
         for (int i = 0; i < childCount; i++) {
             TreeNode childNode = node.getChildren().get(i);
-            String rowKeyOfChildNode = childNode.getRowKey();
+            String rowKey = childNode.getRowKey();
+            tt.setRowKey(root, rowKey);
 
-            for (String rk : filteredRowKeys) {
-                if (rk.equals(rowKeyOfChildNode) || rk.startsWith(rowKeyOfChildNode + "_") || rowKeyOfChildNode.startsWith(rk + "_")) {
-                    TreeNode newNode = cloneTreeNode(tt, childNode, filteredNode);
-                    if (rk.startsWith(rowKeyOfChildNode + "_")) {
-                        newNode.setExpanded(true);
-                    }
+            List<Object> columnValues = new ArrayList<>();
+            List<Predicate<Object>> columnPredicates = new ArrayList<>();
+
+            tt.forEachColumn(column -> {
+                String columnKey = column.getColumnKey(tt, rowKey);
+                FilterMeta filter = filterBy.get(columnKey);
+                if (filter == null || filter.isGlobalFilter()) {
+                    return true;
+                }
 
-                    createFilteredValueFromRowKeys(tt, childNode, newNode, filteredRowKeys);
-                    break;
+                Predicate<Object> predicate = predicates.get(columnKey);
+                if (predicate != null || hasGlobalFilter) {
+                    columnValues.add(filter.getLocalValue(elContext, column));
+                    columnPredicates.add(predicate);
                 }
+                return true;
+            });
+
+            rowKeys.add(rowKey);
+            values.add(columnValues.toArray());
+            rowPredicates.add(columnPredicates.toArray(new Predicate[0]));
+
+            collectFilterValues(context, tt, root, childNode, filterBy, predicates, hasGlobalFilter, rowKeys, values, rowPredicates);
+        }
+    }
+
+    /**
+     * Recreates the filtered tree with a single pass over the tree after marking the ancestors of the matching nodes,
+     * instead of comparing each node with each matching row key.
+     * Matching nodes are cloned with their whole subtree, ancestors of matching nodes are cloned and expanded.
+     */
+    protected void createFilteredValueFromRowKeys(TreeTable tt, TreeNode<?> node, TreeNode<?> filteredNode, List<String> filteredRowKeys) {
+        Set<String> rowKeys = new HashSet<>(filteredRowKeys);
+        Set<TreeNode<?>> ancestors = Collections.newSetFromMap(new IdentityHashMap<>());
+        markAncestors(node, rowKeys, ancestors);
+
+        createFilteredValue(tt, node, filteredNode, rowKeys, ancestors, false);
+    }
+
+    /**
+     * @return <code>true</code> if the node or one of its descendants matches
+     */
+    private boolean markAncestors(TreeNode<?> node, Set<String> rowKeys, Set<TreeNode<?>> ancestors) {
+        boolean descendantMatches = false;
+        int childCount = node.getChildCount();
+        for (int i = 0; i < childCount; i++) {
+            if (markAncestors(node.getChildren().get(i), rowKeys, ancestors)) {
+                descendantMatches = true;
+            }
+        }
+
+        if (descendantMatches) {
+            ancestors.add(node);
+        }
+
+        return descendantMatches || rowKeys.contains(node.getRowKey());
+    }
+
+    private void createFilteredValue(TreeTable tt, TreeNode<?> node, TreeNode<?> filteredNode, Set<String> rowKeys,
+            Set<TreeNode<?>> ancestors, boolean ancestorMatches) {
+        int childCount = node.getChildCount();
+        for (int i = 0; i < childCount; i++) {
+            TreeNode childNode = node.getChildren().get(i);
+            boolean matches = ancestorMatches || rowKeys.contains(childNode.getRowKey());
+            boolean ancestor = ancestors.contains(childNode);
+
+            if (matches || ancestor) {
+                TreeNode newNode = cloneTreeNode(tt, childNode, filteredNode);
+                if (!matches) {
+                    newNode.setExpanded(true);
+                }
+
+                createFilteredValue(tt, childNode, newNode, rowKeys, ancestors, matches);
             }
         }
     }
 
+    /**
+     * Snapshot of the active filters, taken before the filter request is applied.
+     */
+    protected Map<String, Map.Entry<FilterConstraint, Object>> snapshotFilters(Map<String, FilterMeta> filterBy) {
+        Map<String, Map.Entry<FilterConstraint, Object>> snapshot = new HashMap<>(filterBy.size());
+        for (Map.Entry<String, FilterMeta> entry : filterBy.entrySet()) {
+            FilterMeta filter = entry.getValue();
+            if (filter.isActive()) {
+                snapshot.put(entry.getKey(), new AbstractMap.SimpleImmutableEntry<>(filter.getConstraint(), filter.getFilterValue()));
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Checks if each row matching the new filters also matched the previous filters,
+     * e.g. because the text of a contains filter was only extended.
+     */
+    protected boolean isNarrowing(Map<String, Map.Entry<FilterConstraint, Object>> previousFilters, Map<String, FilterMeta> filterBy,
+            Locale locale) {
+        for (String key : previousFilters.keySet()) {
+            FilterMeta filter = filterBy.get(key);
+            if (filter == null || !filter.isActive()) {
+                return false;
+            }
+        }
+
+        for (Map.Entry<String, FilterMeta> entry : filterBy.entrySet()) {
+            FilterMeta filter = entry.getValue();
+            Map.Entry<FilterConstraint, Object> previous = previousFilters.get(entry.getKey());
+            if (!filter.isActive() || previous == null) {
+                // nothing was filtered by this filter before
+                continue;
+            }
+
+            FilterConstraint constraint = filter.getConstraint();
+            if (constraint instanceof FunctionFilterConstraint || constraint != previous.getKey()) {
+                return false;
+            }
+
+            Object value = filter.getFilterValue();
+            Object previousValue = previous.getValue();
+            if (Objects.equals(value, previousValue)) {
+                continue;
+            }
+            if (!(value instanceof String) || !(previousValue instanceof String)) {
+                return false;
+            }
+
+            String text = ((String) value).trim().toLowerCase(locale);
+            String previousText = ((String) previousValue).trim().toLowerCase(locale);
+            boolean narrowing;
+            if (constraint instanceof ContainsFilterConstraint) {
+                narrowing = text.contains(previousText);
+            }
+            else if (constraint instanceof StartsWithFilterConstraint) {
+                narrowing = text.startsWith(previousText);
+            }
+            else if (constraint instanceof EndsWithFilterConstraint) {
+                narrowing = text.endsWith(previousText);
+            }
+            else {
+                narrowing = false;
+            }
+
+            if (!narrowing) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private String getPreviousFilteredValueKey(FacesContext context, TreeTable tt) {
+        return tt.getClientId(context) + "_previousFilteredValue";
+    }
+
     protected TreeNode cloneTreeNode(TreeTable tt, TreeNode<?> node, TreeNode<?> parent) {
         TreeNode clone = null;
 
@@ -38,6 +38,7 @@ import java.util.stream.IntStream;
 import org.primefaces.component.treetable.TreeTable;
 import org.primefaces.component.treetable.TreeTableRenderer;
 import org.primefaces.component.treetable.TreeTableState;
+import org.primefaces.util.SortUtils;
 
 public class SortFeature implements TreeTableFeature {
 
@@ -135,6 +136,13 @@ public class SortFeature implements TreeTableFeature {
         }
 
         Map<String, SortMeta> sortBy = table.getActiveSortMeta();
+
+        // lazy models sort while loading
+        if (root instanceof LazyTreeNode) {
+            ((LazyTreeNode<?>) root).getModel().setSortBy(sortBy);
+            return;
+        }
+
         if (sortBy.isEmpty()) {
             return;
         }
@@ -157,6 +165,41 @@ public class SortFeature implements TreeTableFeature {
         }
     }
 
+    /**
+     * Sorts the children of a node by extracting the sort keys of each child once, see
+     * {@link SortUtils#toSortKeys(Object[], SortMeta, Collator, Locale)}.
+     * The sort keys are extracted sequentially, as the EL evaluation relies on the request map.
+     * Once the parallel threshold is reached, the keys are sorted on the common fork-join pool.
+     */
+    protected Object[] sortWithKeys(TreeTable table, Map<String, SortMeta> sortBy, Object[] childrenArray,
+            FacesContext context, String var, Locale locale, Collator collator) {
+        SortMeta[] sortMetas = sortBy.values().toArray(new SortMeta[0]);
+        Object[][] sortKeys = new Object[sortMetas.length][];
+
+        for (int i = 0; i < sortMetas.length; i++) {
+            SortMeta sortMeta = sortMetas[i];
+            int index = i;
+
+            table.invokeOnColumn(sortMeta.getColumnKey(), column -> {
+                Object[] values = new Object[childrenArray.length];
+                for (int j = 0; j < childrenArray.length; j++) {
+                    context.getExternalContext().getRequestMap().put(var, ((TreeNode) childrenArray[j]).getData());
+                    values[j] = sortMeta.getSortBy().getValue(context.getELContext());
+                }
+                sortKeys[index] = SortUtils.toSortKeys(values, sortMeta, collator, locale);
+            });
+        }
+
+        Integer[] indexes = SortUtils.sortIndexes(sortMetas, sortKeys, collator, locale,
+                table.isParallelThresholdReached(childrenArray.length));
+
+        Object[] sorted = new Object[childrenArray.length];
+        for (int i = 0; i < indexes.length; i++) {
+            sorted[i] = childrenArray[indexes[i]];
+        }
+        return sorted;
+    }
+
     protected void sortNode(TreeTable table, Map<String, SortMeta> sortBy, AtomicInteger comparisonResult,
             TreeNode<?> node, FacesContext context, String var, Locale locale, Collator collator) {
         TreeNodeList<?> children = (TreeNodeList) node.getChildren();
@@ -164,25 +207,31 @@ public class SortFeature implements TreeTableFeature {
         if (children != null && !children.isEmpty()) {
             Object[] childrenArray = children.toArray();
 
-            Arrays.sort(childrenArray, (o1, o2) -> {
-                for (SortMeta sortMeta : sortBy.values()) {
-                    comparisonResult.set(0);
-
-                    table.invokeOnColumn(sortMeta.getColumnKey(), column -> {
-                        int result = table.compare(context, var, sortMeta,
-                                ((TreeNode) o1).getData(),
-                                ((TreeNode) o2).getData(),
-                                collator, locale);
-                        comparisonResult.set(result);
-                    });
-
-                    if (comparisonResult.get() != 0) {
-                        return comparisonResult.get();
+            // a sortFunction compares the raw values itself, so we can't precompute keys for it
+            if (sortBy.values().stream().allMatch(s -> s.getFunction() == null)) {
+                childrenArray = sortWithKeys(table, sortBy, childrenArray, context, var, locale, collator);
+            }
+            else {
+                Arrays.sort(childrenArray, (o1, o2) -> {
+                    for (SortMeta sortMeta : sortBy.values()) {
+                        comparisonResult.set(0);
+
+                        table.invokeOnColumn(sortMeta.getColumnKey(), column -> {
+                            int result = table.compare(context, var, sortMeta,
+                                    ((TreeNode) o1).getData(),
+                                    ((TreeNode) o2).getData(),
+                                    collator, locale);
+                            comparisonResult.set(result);
+                        });
+
+                        if (comparisonResult.get() != 0) {
+                            return comparisonResult.get();
+                        }
                     }
-                }
 
-                return 0;
-            });
+                    return 0;
+                });
+            }
 
             for (int i = 0; i < childrenArray.length; i++) {
                 children.setSibling(i, (TreeNode) childrenArray[i]);
@@ -58,6 +58,10 @@ public class PrimeConfiguration {
     private String cspPolicy;
     private String[] exceptionTypesToIgnoreInLogging;
     private final String multiViewStateStore;
+    private final String multiViewStateProvider;
+    private final int multiViewStateMaxEntries;
+    private final boolean dynamicContentStateless;
+    private final String dynamicContentSecret;
     private final boolean markInputAsInvalidOnErrorMsg;
 
     // internal config
@@ -139,6 +143,17 @@ public class PrimeConfiguration {
 
         multiViewStateStore = externalContext.getInitParameter(Constants.ContextParams.MULTI_VIEW_STATE_STORE);
 
+        value = externalContext.getInitParameter(Constants.ContextParams.MULTI_VIEW_STATE_PROVIDER);
+        multiViewStateProvider = LangUtils.isBlank(value) ? "session" : value.trim();
+
+        value = externalContext.getInitParameter(Constants.ContextParams.MULTI_VIEW_STATE_MAX_ENTRIES);
+        multiViewStateMaxEntries = LangUtils.isBlank(value) ? 100 : Integer.parseInt(value.trim());
+
+        value = externalContext.getInitParameter(Constants.ContextParams.DYNAMIC_CONTENT_STATELESS);
+        dynamicContentStateless = Boolean.parseBoolean(value);
+
+        dynamicContentSecret = externalContext.getInitParameter(Constants.ContextParams.DYNAMIC_CONTENT_SECRET);
+
         value = externalContext.getInitParameter(Constants.ContextParams.MARK_INPUT_AS_INVALID_ON_ERROR_MSG);
         markInputAsInvalidOnErrorMsg = Boolean.parseBoolean(value);
 
@@ -264,6 +279,22 @@ public class PrimeConfiguration {
         return multiViewStateStore;
     }
 
+    public String getMultiViewStateProvider() {
+        return multiViewStateProvider;
+    }
+
+    public int getMultiViewStateMaxEntries() {
+        return multiViewStateMaxEntries;
+    }
+
+    public boolean isDynamicContentStateless() {
+        return dynamicContentStateless;
+    }
+
+    public String getDynamicContentSecret() {
+        return dynamicContentSecret;
+    }
+
     public boolean isMarkInputAsInvalidOnErrorMsg() {
         return markInputAsInvalidOnErrorMsg;
     }
@@ -23,14 +23,23 @@
  */
 package org.primefaces.context;
 
+import org.primefaces.application.resource.DynamicContentSigner;
 import org.primefaces.cache.CacheProvider;
 import org.primefaces.cache.DefaultCacheProvider;
+import org.primefaces.component.feedreader.FeedCache;
+import org.primefaces.component.fileupload.ContentTypeDetector;
 import org.primefaces.component.fileupload.FileUploadDecoder;
+import org.primefaces.component.fileupload.SignatureContentTypeDetector;
 import org.primefaces.config.PrimeConfiguration;
 import org.primefaces.config.PrimeEnvironment;
+import org.primefaces.metadata.BeanValidationPropertyMetadata;
+import org.primefaces.multiviewstate.CacheMultiViewStateStore;
+import org.primefaces.multiviewstate.MultiViewStateStore;
+import org.primefaces.multiviewstate.SessionMultiViewStateStore;
 import org.primefaces.util.Constants;
 import org.primefaces.util.LangUtils;
 import org.primefaces.util.Lazy;
+import org.primefaces.util.MessageFactory;
 import org.primefaces.virusscan.VirusScannerService;
 import org.primefaces.webapp.FileUploadChunksServlet;
 
@@ -74,12 +83,19 @@ public class PrimeApplicationContext {
     private final ClassLoader applicationClassLoader;
     private final Map<Class<?>, Map<String, Object>> enumCacheMap;
     private final Map<Class<?>, Map<String, Object>> constantsCacheMap;
+    private final Map<String, BeanValidationPropertyMetadata> beanValidationPropertyCacheMap;
+    private final Map<String, String[]> beanValidationExpressionCacheMap;
+    private final Map<String, MessageFactory.ResolvedMessage> messageCacheMap;
 
     private final Lazy<ValidatorFactory> validatorFactory;
     private final Lazy<Validator> validator;
     private final Lazy<CacheProvider> cacheProvider;
     private final Lazy<VirusScannerService> virusScannerService;
+    private final Lazy<FeedCache> feedCache;
+    private final Lazy<MultiViewStateStore> multiViewStateStore;
+    private final Lazy<DynamicContentSigner> dynamicContentSigner;
     private FileTypeDetector fileTypeDetector;
+    private List<ContentTypeDetector> contentTypeDetectors;
     private FileUploadDecoder fileUploadDecoder;
     private String fileUploadResumeUrl;
 
@@ -89,6 +105,9 @@ public class PrimeApplicationContext {
 
         enumCacheMap = new ConcurrentHashMap<>();
         constantsCacheMap = new ConcurrentHashMap<>();
+        beanValidationPropertyCacheMap = new ConcurrentHashMap<>();
+        beanValidationExpressionCacheMap = new ConcurrentHashMap<>();
+        messageCacheMap = new ConcurrentHashMap<>();
 
         ClassLoader classLoader = null;
         Object context = facesContext.getExternalContext().getContext();
@@ -133,6 +152,34 @@ public class PrimeApplicationContext {
 
         virusScannerService = new Lazy<>(() -> new VirusScannerService(applicationClassLoader));
 
+        feedCache = new Lazy<>(FeedCache::new);
+
+        dynamicContentSigner = new Lazy<>(() -> new DynamicContentSigner(config.getDynamicContentSecret()));
+        if (config.isDynamicContentStateless()) {
+            // validate the secret on startup instead of the first request
+            dynamicContentSigner.get();
+        }
+
+        multiViewStateStore = new Lazy<>(() -> {
+            String provider = config.getMultiViewStateProvider();
+            if ("session".equals(provider)) {
+                return new SessionMultiViewStateStore();
+            }
+            else if ("cache".equals(provider)) {
+                return new CacheMultiViewStateStore();
+            }
+            else {
+                try {
+                    Class<? extends MultiViewStateStore> storeClazz = LangUtils.loadClassForName(provider);
+                    return storeClazz.getConstructor().newInstance();
+                }
+                catch (NoSuchMethodException | ClassNotFoundException | InstantiationException
+                        | IllegalAccessException | IllegalArgumentException | InvocationTargetException ex) {
+                    throw new FacesException(ex);
+                }
+            }
+        });
+
         cacheProvider = new Lazy<>(() -> {
             String cacheProviderConfigValue = FacesContext.getCurrentInstance().getExternalContext()
                     .getInitParameter(Constants.ContextParams.CACHE_PROVIDER);
@@ -156,6 +203,7 @@ public class PrimeApplicationContext {
         resolveFileUploadResumeUrl(facesContext);
 
         resolveFileTypeDetector();
+        resolveContentTypeDetectors();
     }
 
     private void resolveFileTypeDetector() {
@@ -178,6 +226,16 @@ public class PrimeApplicationContext {
         };
     }
 
+    private void resolveContentTypeDetectors() {
+        List<ContentTypeDetector> detectors = new ArrayList<>();
+        ServiceLoader.load(ContentTypeDetector.class, applicationClassLoader).forEach(detectors::add);
+
+        // built-in signatures as last resort before falling back to the FileTypeDetector
+        detectors.add(new SignatureContentTypeDetector());
+
+        contentTypeDetectors = Collections.unmodifiableList(detectors);
+    }
+
     private void resolveFileUploadResumeUrl(FacesContext facesContext) {
         Object request = facesContext.getExternalContext().getRequest();
         if (request instanceof HttpServletRequest) {
@@ -261,6 +319,27 @@ public class PrimeApplicationContext {
         return constantsCacheMap;
     }
 
+    /**
+     * @return the Bean Validation metadata per bean property, see {@link BeanValidationPropertyMetadata#getKey(Class, String)}
+     */
+    public Map<String, BeanValidationPropertyMetadata> getBeanValidationPropertyCacheMap() {
+        return beanValidationPropertyCacheMap;
+    }
+
+    /**
+     * @return the property path per value expression of a component, to resolve the bean without intercepting the expression again
+     */
+    public Map<String, String[]> getBeanValidationExpressionCacheMap() {
+        return beanValidationExpressionCacheMap;
+    }
+
+    /**
+     * @return the resolved messages of {@link MessageFactory} per message bundle, locale and message id (only used in production)
+     */
+    public Map<String, MessageFactory.ResolvedMessage> getMessageCacheMap() {
+        return messageCacheMap;
+    }
+
     public Validator getValidator() {
         return validator == null ? null : validator.get();
     }
@@ -269,11 +348,40 @@ public class PrimeApplicationContext {
         return virusScannerService.get();
     }
 
+    /**
+     * @return the storage of the multi view states, see {@link Constants.ContextParams#MULTI_VIEW_STATE_PROVIDER}
+     */
+    public MultiViewStateStore getMultiViewStateStore() {
+        return multiViewStateStore.get();
+    }
+
+    /**
+     * @return the signer of stateless dynamic content URLs, see {@link Constants.ContextParams#DYNAMIC_CONTENT_STATELESS}
+     */
+    public DynamicContentSigner getDynamicContentSigner() {
+        return dynamicContentSigner.get();
+    }
+
+    /**
+     * @return the cache of the feeds displayed by <code>p:feedReader</code>
+     */
+    public FeedCache getFeedCache() {
+        return feedCache.get();
+    }
+
     public FileTypeDetector getFileTypeDetector() {
         return fileTypeDetector;
     }
 
+    public List<ContentTypeDetector> getContentTypeDetectors() {
+        return contentTypeDetectors;
+    }
+
     public void release() {
+        if (feedCache.isInitialized()) {
+            feedCache.get().release();
+        }
+
         if (environment != null && environment.isAtLeastBv11()) {
             if (validatorFactory != null && validatorFactory.isInitialized() && validatorFactory.get() != null) {
                 validatorFactory.get().close();
@@ -23,6 +23,8 @@
  */
 package org.primefaces.context;
 
+import java.util.logging.Level;
+import java.util.logging.Logger;
 import javax.faces.application.FacesMessage;
 import javax.faces.component.UIInput;
 import javax.faces.context.ExternalContext;
@@ -30,6 +32,7 @@ import javax.faces.context.FacesContext;
 import javax.faces.context.FacesContextWrapper;
 import javax.faces.context.ResponseWriter;
 import javax.faces.context.ResponseWriterWrapper;
+import org.primefaces.PrimeFaces;
 import org.primefaces.application.resource.MoveScriptsToBottomResponseWriter;
 import org.primefaces.application.resource.MoveScriptsToBottomState;
 import org.primefaces.config.PrimeConfiguration;
@@ -41,6 +44,8 @@ import org.primefaces.csp.CspState;
  */
 public class PrimeFacesContext extends FacesContextWrapper {
 
+    private static final Logger LOGGER = Logger.getLogger(PrimeFacesContext.class.getName());
+
     private final FacesContext wrapped;
     private final boolean moveScriptsToBottom;
     private final boolean csp;
@@ -122,6 +127,14 @@ public class PrimeFacesContext extends FacesContextWrapper {
 
     @Override
     public void release() {
+        try {
+            // store the multiview states again, they could have been changed during the request
+            PrimeFaces.current().multiViewState().flush();
+        }
+        catch (RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Could not store multiview states", e);
+        }
+
         PrimeRequestContext requestContext = PrimeRequestContext.getCurrentInstance(wrapped);
         if (requestContext != null) {
             requestContext.release();
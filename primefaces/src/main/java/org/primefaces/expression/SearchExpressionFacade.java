@@ -26,6 +26,7 @@ package org.primefaces.expression;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -39,6 +40,7 @@ import javax.faces.context.FacesContext;
 import org.primefaces.util.ComponentTraversalUtils;
 
 import org.primefaces.util.LangUtils;
+import org.primefaces.util.LimitedSizeHashMap;
 import org.primefaces.util.SharedStringBuilder;
 
 /**
@@ -54,6 +56,10 @@ public class SearchExpressionFacade {
     private static final String SHARED_SPLIT_BUFFER_KEY = SearchExpressionFacade.class.getName() + ".SHARED_SPLIT_BUFFER_KEY";
     private static final String SHARED_CLIENT_ID_EXPRESSION_BUFFER_KEY = SearchExpressionFacade.class.getName() + ".SHARED_CLIENT_ID_EXPRESSION_BUFFER_KEY";
 
+    private static final int MAX_PARSED_EXPRESSIONS = 10000;
+    private static final Map<String, String[]> PARSED_EXPRESSIONS =
+            Collections.synchronizedMap(new LimitedSizeHashMap<>(MAX_PARSED_EXPRESSIONS, true));
+
     private SearchExpressionFacade() {
     }
 
@@ -502,7 +508,7 @@ public class SearchExpressionFacade {
 
         UIComponent last = source;
 
-        String[] subExpressions = split(context, expression, separatorChar);
+        String[] subExpressions = splitCached(context, expression, separatorChar);
         if (subExpressions != null && subExpressions.length > 0) {
             for (int j = 0; j < subExpressions.length; j++) {
 
@@ -562,7 +568,7 @@ public class SearchExpressionFacade {
         ArrayList<UIComponent> lastComponents = new ArrayList<>(5);
         lastComponents.add(source);
 
-        String[] subExpressions = split(context, expression, separatorChar);
+        String[] subExpressions = splitCached(context, expression, separatorChar);
         if (subExpressions != null && subExpressions.length > 0) {
 
             ArrayList<UIComponent> tempComponents = new ArrayList<>(5);
@@ -636,7 +642,7 @@ public class SearchExpressionFacade {
 
         StringBuilder clientIdsBuilder = null;
 
-        String[] subExpressions = split(context, expression, separatorChar);
+        String[] subExpressions = splitCached(context, expression, separatorChar);
         if (subExpressions != null && subExpressions.length > 0) {
 
             ArrayList<UIComponent> tempComponents = new ArrayList<>(5);
@@ -732,7 +738,7 @@ public class SearchExpressionFacade {
     protected static String[] splitExpressions(FacesContext context, UIComponent source, String expressions) {
 
         // split expressions by blank or comma (and ignore blank and commas inside brackets)
-        String[] splittedExpressions = split(context, expressions, EXPRESSION_SEPARATORS);
+        String[] splittedExpressions = splitCached(context, expressions, EXPRESSION_SEPARATORS);
 
         if (splittedExpressions != null) {
 
@@ -764,7 +770,7 @@ public class SearchExpressionFacade {
             }
 
             // Pattern to split expressions by the separator but not inside parenthesis
-            String[] subExpressions = split(context, expression, separatorChar);
+            String[] subExpressions = splitCached(context, expression, separatorChar);
 
             if (subExpressions != null) {
                 // checks for unnestable subexpressions (like @all or @none)
@@ -866,6 +872,25 @@ public class SearchExpressionFacade {
         return tokens.toArray(new String[tokens.size()]);
     }
 
+    /**
+     * Cached variant of {@link #split(FacesContext, String, char...)}, the returned array must not be modified.
+     */
+    private static String[] splitCached(FacesContext context, String value, char... separators) {
+
+        if (LangUtils.isBlank(value)) {
+            return null;
+        }
+
+        String key = new StringBuilder(value.length() + separators.length + 1).append(separators).append('|').append(value).toString();
+        String[] tokens = PARSED_EXPRESSIONS.get(key);
+        if (tokens == null) {
+            tokens = split(context, value, separators);
+            PARSED_EXPRESSIONS.put(key, tokens);
+        }
+
+        return tokens;
+    }
+
     /**
      * Checks if the given expression must not be resolved by a {@link SearchExpressionResolver}, before rendering it to the client. e.g. @all or
      * @none.
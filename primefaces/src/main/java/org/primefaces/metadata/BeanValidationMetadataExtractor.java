@@ -24,10 +24,16 @@
 package org.primefaces.metadata;
 
 import java.util.Collections;
+import java.util.Map;
 import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import javax.el.ELContext;
+import javax.el.ELException;
+import javax.el.ELResolver;
 import javax.el.ValueExpression;
 import javax.el.ValueReference;
+import javax.faces.component.UIComponent;
 import javax.faces.context.FacesContext;
 import javax.validation.Validator;
 import javax.validation.groups.Default;
@@ -39,16 +45,25 @@ import org.primefaces.el.ValueExpressionAnalyzer;
 
 public class BeanValidationMetadataExtractor {
 
+    // a plain property path like #{bean.address.street}, which doesn't depend on the evaluation besides its root
+    private static final Pattern PROPERTY_PATH = Pattern.compile("#\\{\\s*([a-zA-Z_$][\\w$]*)(\\s*\\.\\s*[a-zA-Z_$][\\w$]*)+\\s*}");
+
     private BeanValidationMetadataExtractor() {
     }
 
     public static Set<ConstraintDescriptor<?>> extractAllConstraintDescriptors(FacesContext context, PrimeApplicationContext applicationContext,
             ValueExpression ve) {
 
-        PropertyDescriptor propertyDescriptor = extractPropertyDescriptor(context, applicationContext, ve);
+        return extractAllConstraintDescriptors(context, applicationContext, null, ve);
+    }
+
+    public static Set<ConstraintDescriptor<?>> extractAllConstraintDescriptors(FacesContext context, PrimeApplicationContext applicationContext,
+            UIComponent component, ValueExpression ve) {
 
-        if (propertyDescriptor != null) {
-            return propertyDescriptor.getConstraintDescriptors();
+        BeanValidationPropertyMetadata metadata = extractPropertyMetadata(context, applicationContext, component, ve);
+
+        if (metadata != null) {
+            return metadata.getConstraintDescriptors();
         }
 
         return Collections.emptySet();
@@ -60,39 +75,169 @@ public class BeanValidationMetadataExtractor {
         return extractConstraintDescriptors(context, applicationContext, ve, Default.class);
     }
 
+    public static Set<ConstraintDescriptor<?>> extractDefaultConstraintDescriptors(FacesContext context, PrimeApplicationContext applicationContext,
+            UIComponent component, ValueExpression ve) {
+
+        return extractConstraintDescriptors(context, applicationContext, component, ve, Default.class);
+    }
+
     public static Set<ConstraintDescriptor<?>> extractConstraintDescriptors(FacesContext context, PrimeApplicationContext applicationContext,
             ValueExpression ve, Class... groups) {
 
-        PropertyDescriptor propertyDescriptor = extractPropertyDescriptor(context, applicationContext, ve);
+        return extractConstraintDescriptors(context, applicationContext, null, ve, groups);
+    }
+
+    public static Set<ConstraintDescriptor<?>> extractConstraintDescriptors(FacesContext context, PrimeApplicationContext applicationContext,
+            UIComponent component, ValueExpression ve, Class... groups) {
+
+        BeanValidationPropertyMetadata metadata = extractPropertyMetadata(context, applicationContext, component, ve);
 
-        if (propertyDescriptor != null) {
-            return propertyDescriptor.findConstraints().unorderedAndMatchingGroups(groups).getConstraintDescriptors();
+        if (metadata != null) {
+            return metadata.getConstraintDescriptors(groups);
         }
 
         return Collections.emptySet();
     }
 
     public static PropertyDescriptor extractPropertyDescriptor(FacesContext context, PrimeApplicationContext applicationContext, ValueExpression ve) {
+        BeanValidationPropertyMetadata metadata = extractPropertyMetadata(context, applicationContext, null, ve);
 
-        if (ve != null) {
-            ELContext elContext = context.getELContext();
-            ValueReference vr = ValueExpressionAnalyzer.getReference(elContext, ve);
+        return metadata == null ? null : metadata.getPropertyDescriptor();
+    }
+
+    /**
+     * Resolves the cached metadata of the bean property referenced by the expression.
+     * <p>
+     * If the component is given and the expression is a plain property path whose root isn't a request scoped variable
+     * (e.g. the var of a DataTable), the path is cached per component and expression. Following calls resolve the base
+     * of the property directly via the {@link ELResolver} instead of intercepting the EL evaluation, the metadata is
+     * still looked up per class of the resolved base.
+     *
+     * @param context the {@link FacesContext}
+     * @param applicationContext the {@link PrimeApplicationContext}
+     * @param component the component of the expression, may be <code>null</code>
+     * @param ve the expression
+     * @return the metadata or <code>null</code> if the expression doesn't reference a bean property
+     */
+    public static BeanValidationPropertyMetadata extractPropertyMetadata(FacesContext context, PrimeApplicationContext applicationContext,
+            UIComponent component, ValueExpression ve) {
+
+        if (ve == null) {
+            return null;
+        }
+
+        ELContext elContext = context.getELContext();
+        String expressionKey = component == null ? null : getExpressionKey(context, component, ve);
+        Map<String, String[]> expressionCache = applicationContext.getBeanValidationExpressionCacheMap();
+        if (expressionKey != null) {
+            String[] path = expressionCache.get(expressionKey);
+            if (path != null) {
+                Object base = resolveBase(elContext, path);
+                if (base != null) {
+                    return getPropertyMetadata(applicationContext, base.getClass(), path[path.length - 1]);
+                }
+            }
+        }
+
+        ValueReference vr = ValueExpressionAnalyzer.getReference(elContext, ve);
 
-            if (vr != null) {
-                Validator validator = applicationContext.getValidator();
-                Object base = vr.getBase();
-                Object property = vr.getProperty();
+        if (vr != null) {
+            Object base = vr.getBase();
+            Object property = vr.getProperty();
 
-                if (base != null && property != null) {
-                    BeanDescriptor beanDescriptor = validator.getConstraintsForClass(base.getClass());
+            if (base != null && property != null) {
+                BeanValidationPropertyMetadata metadata = getPropertyMetadata(applicationContext, base.getClass(), property.toString());
 
-                    if (beanDescriptor != null) {
-                        return beanDescriptor.getConstraintsForProperty(property.toString());
+                // only cache the path if it resolves the same base, e.g. not for an alias of ui:param
+                if (expressionKey != null) {
+                    String[] path = getPropertyPath(ve);
+                    if (path[path.length - 1].equals(property) && resolveBase(elContext, path) == base) {
+                        expressionCache.put(expressionKey, path);
                     }
                 }
+
+                return metadata;
             }
         }
 
         return null;
     }
+
+    protected static BeanValidationPropertyMetadata getPropertyMetadata(PrimeApplicationContext applicationContext, Class<?> beanClass,
+            String propertyName) {
+        return applicationContext.getBeanValidationPropertyCacheMap().computeIfAbsent(
+                BeanValidationPropertyMetadata.getKey(beanClass, propertyName),
+                k -> new BeanValidationPropertyMetadata(beanClass, propertyName,
+                        resolvePropertyDescriptor(applicationContext.getValidator(), beanClass, propertyName)));
+    }
+
+    /**
+     * Resolves the base of the last property of the path, e.g. the address of <code>#{bean.address.street}</code>.
+     *
+     * @return the base or <code>null</code> if it can't be resolved
+     */
+    protected static Object resolveBase(ELContext elContext, String[] path) {
+        ELResolver resolver = elContext.getELResolver();
+        Object base = null;
+        try {
+            for (int i = 0; i < path.length - 1; i++) {
+                elContext.setPropertyResolved(false);
+                base = resolver.getValue(elContext, base, path[i]);
+                if (base == null) {
+                    return null;
+                }
+            }
+        }
+        catch (ELException e) {
+            return null;
+        }
+        finally {
+            elContext.setPropertyResolved(false);
+        }
+
+        return base;
+    }
+
+    protected static String[] getPropertyPath(ValueExpression ve) {
+        String expression = ve.getExpressionString();
+        String[] path = expression.substring(expression.indexOf('{') + 1, expression.lastIndexOf('}')).split("\\.");
+        for (int i = 0; i < path.length; i++) {
+            path[i] = path[i].trim();
+        }
+        return path;
+    }
+
+    protected static PropertyDescriptor resolvePropertyDescriptor(Validator validator, Class<?> beanClass, String property) {
+        BeanDescriptor beanDescriptor = validator.getConstraintsForClass(beanClass);
+
+        if (beanDescriptor != null) {
+            return beanDescriptor.getConstraintsForProperty(property);
+        }
+
+        return null;
+    }
+
+    /**
+     * @return the key of the expression within the view or <code>null</code> if the referenced property depends on the evaluation.
+     */
+    protected static String getExpressionKey(FacesContext context, UIComponent component, ValueExpression ve) {
+        String expression = ve.getExpressionString();
+        Matcher matcher = PROPERTY_PATH.matcher(expression);
+        if (!matcher.matches()) {
+            return null;
+        }
+
+        // e.g. the var of an iterating component, which can be any type per row
+        String root = matcher.group(1);
+        if ("cc".equals(root) || "component".equals(root) || context.getExternalContext().getRequestMap().containsKey(root)) {
+            return null;
+        }
+
+        StringBuilder key = new StringBuilder(expression).append('@').append(context.getViewRoot().getViewId());
+        for (UIComponent current = component; current != null; current = current.getParent()) {
+            key.append(':').append(current.getId());
+        }
+
+        return key.toString();
+    }
 }
@@ -0,0 +1,116 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2021 PrimeTek
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.metadata;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import javax.validation.metadata.ConstraintDescriptor;
+import javax.validation.metadata.PropertyDescriptor;
+
+/**
+ * Application wide cache entry of the Bean Validation metadata of a bean property,
+ * including the constraints per validation groups and metadata derived from them (e.g. for client side validation).
+ */
+public class BeanValidationPropertyMetadata {
+
+    private static final Object NULL = new Object();
+
+    private final Class<?> beanClass;
+    private final String property;
+    private final PropertyDescriptor propertyDescriptor;
+    private final Map<String, Set<ConstraintDescriptor<?>>> constraintDescriptors = new ConcurrentHashMap<>();
+    private final Map<String, Object> derivedMetadata = new ConcurrentHashMap<>();
+
+    public BeanValidationPropertyMetadata(Class<?> beanClass, String property, PropertyDescriptor propertyDescriptor) {
+        this.beanClass = beanClass;
+        this.property = property;
+        this.propertyDescriptor = propertyDescriptor;
+    }
+
+    public static String getKey(Class<?> beanClass, String property) {
+        return beanClass.getName() + '#' + property;
+    }
+
+    public Class<?> getBeanClass() {
+        return beanClass;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    /**
+     * @return the descriptor or <code>null</code> if the property isn't constrained
+     */
+    public PropertyDescriptor getPropertyDescriptor() {
+        return propertyDescriptor;
+    }
+
+    /**
+     * @param groups the validation groups, none for the constraints of all groups
+     * @return the constraints of the property matching the groups
+     */
+    public Set<ConstraintDescriptor<?>> getConstraintDescriptors(Class<?>... groups) {
+        if (propertyDescriptor == null) {
+            return Collections.emptySet();
+        }
+
+        StringBuilder key = new StringBuilder();
+        for (Class<?> group : groups) {
+            key.append(group.getName()).append(',');
+        }
+
+        return constraintDescriptors.computeIfAbsent(key.toString(), k -> Collections.unmodifiableSet(groups.length == 0
+                ? propertyDescriptor.getConstraintDescriptors()
+                : propertyDescriptor.findConstraints().unorderedAndMatchingGroups(groups).getConstraintDescriptors()));
+    }
+
+    /**
+     * Returns metadata derived from the constraints, computing it once per key.
+     *
+     * @param key the key of the derived metadata, including everything it depends on besides the property (e.g. the locale)
+     * @param supplier computes the metadata, may return <code>null</code>
+     * @param <T> the type of the metadata
+     * @return the metadata
+     */
+    public <T> T getDerivedMetadata(String key, Supplier<T> supplier) {
+        Object value = derivedMetadata.get(key);
+        if (value == null) {
+            value = supplier.get();
+            derivedMetadata.putIfAbsent(key, value == null ? NULL : value);
+        }
+
+        return value == NULL ? null : (T) value;
+    }
+
+    /**
+     * Drops the derived metadata, e.g. after the constraint mappings changed.
+     */
+    public void clearDerivedMetadata() {
+        derivedMetadata.clear();
+    }
+}
@@ -59,7 +59,7 @@ public class BeanValidationInputMetadataTransformer extends AbstractInputMetadat
 
         try {
             Set<ConstraintDescriptor<?>> constraints = BeanValidationMetadataExtractor.extractDefaultConstraintDescriptors(
-                    context, applicationContext, input.getValueExpression("value"));
+                    context, applicationContext, input, input.getValueExpression("value"));
             if (constraints != null && !constraints.isEmpty()) {
                 for (ConstraintDescriptor<?> constraintDescriptor : constraints) {
                     applyConstraint(constraintDescriptor, input);
@@ -25,9 +25,13 @@ package org.primefaces.model;
 
 import org.primefaces.util.SerializableSupplier;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import javax.faces.FacesException;
@@ -44,6 +48,9 @@ public class DefaultStreamedContent implements StreamedContent, Serializable {
     private String contentEncoding;
     private Integer contentLength;
     private SerializableConsumer<OutputStream> writer;
+    private String eTag;
+    private Long lastModified;
+    private String path;
 
     public DefaultStreamedContent() {
         // NOOP
@@ -79,6 +86,21 @@ public class DefaultStreamedContent implements StreamedContent, Serializable {
         return writer;
     }
 
+    @Override
+    public String getETag() {
+        return eTag;
+    }
+
+    @Override
+    public Long getLastModified() {
+        return lastModified;
+    }
+
+    @Override
+    public Path getPath() {
+        return path == null ? null : Paths.get(path);
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -121,6 +143,50 @@ public class DefaultStreamedContent implements StreamedContent, Serializable {
             return this;
         }
 
+        public Builder eTag(String eTag) {
+            streamedContent.eTag = eTag;
+            return this;
+        }
+
+        public Builder lastModified(Long lastModified) {
+            streamedContent.lastModified = lastModified;
+            return this;
+        }
+
+        /**
+         * Streams the given file, which also enables range requests via {@link java.nio.channels.FileChannel}.
+         * The content length and last modification date are taken from the file, if not provided otherwise.
+         *
+         * @param file the file
+         * @return the builder
+         */
+        public Builder file(Path file) {
+            String filePath = file.toString();
+            streamedContent.path = filePath;
+            streamedContent.stream = () -> {
+                try {
+                    return Files.newInputStream(Paths.get(filePath));
+                }
+                catch (IOException e) {
+                    throw new FacesException(e);
+                }
+            };
+
+            try {
+                long size = Files.size(file);
+                if (streamedContent.contentLength == null && size <= Integer.MAX_VALUE) {
+                    streamedContent.contentLength = (int) size;
+                }
+                if (streamedContent.lastModified == null) {
+                    streamedContent.lastModified = Files.getLastModifiedTime(file).toMillis();
+                }
+            }
+            catch (IOException e) {
+                throw new FacesException(e);
+            }
+            return this;
+        }
+
         public DefaultStreamedContent build() {
             if (streamedContent.writer == null && streamedContent.stream == null) {
                 throw new FacesException("Either provide a 'stream' or 'writer'!");
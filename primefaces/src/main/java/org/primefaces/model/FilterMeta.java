@@ -78,6 +78,15 @@ public class FilterMeta implements Serializable {
         this.matchMode = filterMatchMode;
     }
 
+    /**
+     * Creates a copy without the filterBy expression and the constraint, e.g. to keep it in a multiview state.
+     *
+     * @return the copy
+     */
+    public FilterMeta copyWithoutExpressions() {
+        return new FilterMeta(columnKey, field, null, null, filterValue, matchMode);
+    }
+
     public static FilterMeta of(FacesContext context, String var, UIColumn column) {
         if (column instanceof DynamicColumn) {
             ((DynamicColumn) column).applyStatelessModel();
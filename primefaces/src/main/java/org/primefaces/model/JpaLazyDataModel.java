@@ -31,8 +31,13 @@ import javax.persistence.TypedQuery;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Order;
 import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
+import javax.persistence.metamodel.Attribute;
+import javax.persistence.metamodel.ManagedType;
+import javax.persistence.metamodel.SingularAttribute;
+import javax.persistence.metamodel.Type;
 import java.beans.IntrospectionException;
 import java.beans.PropertyDescriptor;
 import java.io.Serializable;
@@ -40,8 +45,12 @@ import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import javax.faces.FacesException;
 import javax.faces.component.UIComponent;
 import javax.faces.convert.Converter;
@@ -58,12 +67,24 @@ import org.primefaces.util.SerializableSupplier;
  */
 public class JpaLazyDataModel<T> extends LazyDataModel<T> implements Serializable {
 
+    protected static final int MAX_IN_PARAMETERS = 1000;
+
     protected Class<T> entityClass;
     protected SerializableSupplier<EntityManager> entityManager;
     protected String rowKeyField;
+    protected boolean keysetPagination;
+    protected boolean cacheCount;
 
     private transient Lazy<Method> rowKeyGetter;
 
+    // count(...) result and the filters it was calculated for
+    private transient Integer cachedCount;
+    private transient List<Object> cachedCountState;
+
+    // first -> sort values of the last row before first; for the sort and filters stored in pageBoundariesState
+    private transient TreeMap<Integer, Object[]> pageBoundaries;
+    private transient List<Object> pageBoundariesState;
+
     /**
      * For serialization only
      */
@@ -109,6 +130,19 @@ public class JpaLazyDataModel<T> extends LazyDataModel<T> implements Serializabl
 
     @Override
     public int count(Map<String, FilterMeta> filterBy) {
+        if (cacheCount) {
+            List<Object> state = resolveState(null, filterBy);
+            if (cachedCount == null || !state.equals(cachedCountState)) {
+                cachedCount = executeCount(filterBy);
+                cachedCountState = state;
+            }
+            return cachedCount;
+        }
+
+        return executeCount(filterBy);
+    }
+
+    protected int executeCount(Map<String, FilterMeta> filterBy) {
         EntityManager em = this.entityManager.get();
 
         CriteriaBuilder cb = em.getCriteriaBuilder();
@@ -131,17 +165,250 @@ public class JpaLazyDataModel<T> extends LazyDataModel<T> implements Serializabl
         cq = cq.select(root);
 
         applyFilters(cb, cq, root, filterBy);
-        applySort(cb, cq, root, sortBy);
+
+        List<SortMeta> keysetSort = keysetPagination ? resolveKeysetSort(sortBy) : null;
+        if (keysetSort == null) {
+            applySort(cb, cq, root, sortBy);
+
+            TypedQuery<T> query = em.createQuery(cq);
+            query.setFirstResult(first);
+            query.setMaxResults(pageSize);
+
+            return query.getResultList();
+        }
+
+        List<Expression<?>> keysetExpressions = new ArrayList<>(keysetSort.size());
+        List<Order> orders = new ArrayList<>(keysetSort.size());
+        for (SortMeta sort : keysetSort) {
+            Expression<?> fieldExpression = resolveFieldExpression(cb, cq, root, sort.getField());
+            keysetExpressions.add(fieldExpression);
+            orders.add(sort.getOrder() == SortOrder.ASCENDING ? cb.asc(fieldExpression) : cb.desc(fieldExpression));
+        }
+        cq.orderBy(orders);
+
+        // seek from the nearest known page boundary and only skip the remaining rows
+        TreeMap<Integer, Object[]> boundaries = getPageBoundaries(sortBy, filterBy);
+        Map.Entry<Integer, Object[]> boundary = boundaries.floorEntry(first);
+        if (boundary.getValue() != null) {
+            Predicate keyset = createKeysetPredicate(cb, keysetSort, keysetExpressions, boundary.getValue());
+            Predicate restriction = cq.getRestriction();
+            cq.where(restriction == null ? keyset : cb.and(restriction, keyset));
+        }
 
         TypedQuery<T> query = em.createQuery(cq);
-        query.setFirstResult(first);
+        query.setFirstResult(first - boundary.getKey());
         query.setMaxResults(pageSize);
 
         List<T> result = query.getResultList();
 
+        if (!result.isEmpty()) {
+            Object[] lastKey = extractKeysetValues(result.get(result.size() - 1), keysetSort);
+            if (lastKey != null) {
+                boundaries.put(first + result.size(), lastKey);
+            }
+        }
+
         return result;
     }
 
+    /**
+     * Resolves the sort used for keyset pagination, which is the sort of the table plus the rowKeyField
+     * as unique tie-breaker.
+     * <p>
+     * Keyset pagination is not possible on nullable fields: <code>field &gt; :value</code> is never true for NULL rows,
+     * so they would be skipped after the first page. The position of NULLs (first or last) is database specific
+     * and can't be expressed via the Criteria API, so offset pagination is used for nullable fields.
+     *
+     * @param sortBy the sort of the table
+     * @return the keyset sort or <code>null</code> if keyset pagination is not possible
+     */
+    protected List<SortMeta> resolveKeysetSort(Map<String, SortMeta> sortBy) {
+        if (rowKeyField == null) {
+            return null;
+        }
+
+        List<SortMeta> keysetSort = new ArrayList<>();
+        boolean unique = false;
+        if (sortBy != null) {
+            for (SortMeta sort : sortBy.values()) {
+                if (sort.getField() == null || sort.getOrder() == SortOrder.UNSORTED) {
+                    continue;
+                }
+                if (isNullable(sort.getField())) {
+                    return null;
+                }
+                keysetSort.add(sort);
+                unique = unique || rowKeyField.equals(sort.getField());
+            }
+        }
+
+        if (!unique) {
+            if (isNullable(rowKeyField)) {
+                return null;
+            }
+            keysetSort.add(SortMeta.builder().field(rowKeyField).order(SortOrder.ASCENDING).build());
+        }
+
+        return keysetSort;
+    }
+
+    /**
+     * Checks via the JPA metamodel if the given field (or any property of its path) is optional.
+     *
+     * @param field the field, e.g. "name" or "address.city"
+     * @return <code>true</code> if the field is nullable or unknown to the metamodel
+     */
+    protected boolean isNullable(String field) {
+        try {
+            ManagedType<?> type = entityManager.get().getMetamodel().managedType(entityClass);
+            String[] properties = field.split("\\.");
+            for (int i = 0; i < properties.length; i++) {
+                Attribute<?, ?> attribute = type.getAttribute(properties[i]);
+                if (!(attribute instanceof SingularAttribute) || ((SingularAttribute<?, ?>) attribute).isOptional()) {
+                    return true;
+                }
+
+                if (i < properties.length - 1) {
+                    Type<?> attributeType = ((SingularAttribute<?, ?>) attribute).getType();
+                    if (!(attributeType instanceof ManagedType)) {
+                        return true;
+                    }
+                    type = (ManagedType<?>) attributeType;
+                }
+            }
+            return false;
+        }
+        catch (IllegalArgumentException e) {
+            return true;
+        }
+    }
+
+    /**
+     * Creates the predicate <code>(sortCols) &gt; (lastKey)</code>, respecting the sort order of each column.
+     */
+    protected Predicate createKeysetPredicate(CriteriaBuilder cb, List<SortMeta> keysetSort, List<Expression<?>> keysetExpressions,
+            Object[] lastKey) {
+
+        List<Predicate> disjunction = new ArrayList<>(keysetSort.size());
+        for (int i = 0; i < keysetSort.size(); i++) {
+            List<Predicate> conjunction = new ArrayList<>(i + 1);
+            for (int j = 0; j < i; j++) {
+                conjunction.add(cb.equal(keysetExpressions.get(j), lastKey[j]));
+            }
+
+            Expression<Comparable> expression = (Expression<Comparable>) keysetExpressions.get(i);
+            Comparable value = (Comparable) lastKey[i];
+            conjunction.add(keysetSort.get(i).getOrder() == SortOrder.ASCENDING
+                    ? cb.greaterThan(expression, value)
+                    : cb.lessThan(expression, value));
+
+            disjunction.add(cb.and(conjunction.toArray(new Predicate[conjunction.size()])));
+        }
+
+        return cb.or(disjunction.toArray(new Predicate[disjunction.size()]));
+    }
+
+    /**
+     * Extracts the values of the keyset sort fields from the given entity.
+     *
+     * @return the values or <code>null</code> if a value is <code>null</code>, as it can't be used for seeking
+     */
+    protected Object[] extractKeysetValues(T entity, List<SortMeta> keysetSort) {
+        Object[] values = new Object[keysetSort.size()];
+        for (int i = 0; i < values.length; i++) {
+            Object value = entity;
+            for (String property : keysetSort.get(i).getField().split("\\.")) {
+                if (value == null) {
+                    break;
+                }
+                try {
+                    value = new PropertyDescriptor(property, value.getClass()).getReadMethod().invoke(value);
+                }
+                catch (IntrospectionException | InvocationTargetException | IllegalAccessException e) {
+                    throw new FacesException("Could not access " + keysetSort.get(i).getField() + " on " + entityClass.getName(), e);
+                }
+            }
+
+            if (value == null) {
+                return null;
+            }
+            values[i] = value;
+        }
+        return values;
+    }
+
+    protected TreeMap<Integer, Object[]> getPageBoundaries(Map<String, SortMeta> sortBy, Map<String, FilterMeta> filterBy) {
+        List<Object> state = resolveState(sortBy, filterBy);
+        if (pageBoundaries == null || !state.equals(pageBoundariesState)) {
+            pageBoundaries = new TreeMap<>();
+            pageBoundaries.put(0, null);
+            pageBoundariesState = state;
+        }
+        return pageBoundaries;
+    }
+
+    /**
+     * Creates a comparable snapshot of the sort and filter values, to detect when cached counts or page boundaries
+     * are outdated.
+     */
+    protected List<Object> resolveState(Map<String, SortMeta> sortBy, Map<String, FilterMeta> filterBy) {
+        List<Object> state = new ArrayList<>();
+        if (sortBy != null) {
+            for (SortMeta sort : sortBy.values()) {
+                state.add(sort.getField());
+                state.add(sort.getOrder());
+            }
+        }
+        if (filterBy != null) {
+            for (FilterMeta filter : filterBy.values()) {
+                Object filterValue = filter.getFilterValue();
+                state.add(filter.getField());
+                state.add(filter.getMatchMode());
+                state.add(filterValue instanceof Object[] ? Arrays.asList((Object[]) filterValue) : filterValue);
+            }
+        }
+        return state;
+    }
+
+    /**
+     * Clears the cached count and the remembered page boundaries.
+     * Must be called when the underlying data was changed, e.g. after inserting or deleting entities.
+     */
+    public void clearCache() {
+        cachedCount = null;
+        cachedCountState = null;
+        pageBoundaries = null;
+        pageBoundariesState = null;
+    }
+
+    public boolean isKeysetPagination() {
+        return keysetPagination;
+    }
+
+    /**
+     * Enables keyset (seek) pagination, which requires a rowKeyField as unique tie-breaker.
+     * The sort values of each loaded page boundary are remembered and following pages are loaded via
+     * <code>WHERE (sortCols) &gt; (lastKey)</code> instead of skipping <code>first</code> rows.
+     *
+     * @param keysetPagination if keyset pagination should be used
+     */
+    public void setKeysetPagination(boolean keysetPagination) {
+        this.keysetPagination = keysetPagination;
+    }
+
+    public boolean isCacheCount() {
+        return cacheCount;
+    }
+
+    /**
+     * Enables caching of the {@link #count(Map)} result until the filters change.
+     *
+     * @param cacheCount if the count should be cached
+     */
+    public void setCacheCount(boolean cacheCount) {
+        this.cacheCount = cacheCount;
+    }
+
     protected void applyFilters(CriteriaBuilder cb,
                                 CriteriaQuery<?> cq,
                                 Root<T> root,
@@ -232,14 +499,16 @@ public class JpaLazyDataModel<T> extends LazyDataModel<T> implements Serializabl
                              Map<String, SortMeta> sortBy) {
 
         if (sortBy != null) {
+            List<Order> orders = new ArrayList<>(sortBy.size());
             for (SortMeta sort : sortBy.values()) {
                 if (sort.getField() == null || sort.getOrder() == SortOrder.UNSORTED) {
                     continue;
                 }
 
                 Expression<?> fieldExpression = resolveFieldExpression(cb, cq, root, sort.getField());
-                cq.orderBy(sort.getOrder() == SortOrder.ASCENDING ? cb.asc(fieldExpression) : cb.desc(fieldExpression));
+                orders.add(sort.getOrder() == SortOrder.ASCENDING ? cb.asc(fieldExpression) : cb.desc(fieldExpression));
             }
+            cq.orderBy(orders);
         }
     }
 
@@ -288,6 +557,38 @@ public class JpaLazyDataModel<T> extends LazyDataModel<T> implements Serializabl
                         + ", when basic rowKey algorithm is not used [component=%s,view=%s]."));
     }
 
+    @Override
+    public Map<String, T> getRowData(Collection<String> rowKeys) {
+        if (getConverter() != null || rowKeyField == null || rowKeys.isEmpty()) {
+            return super.getRowData(rowKeys);
+        }
+
+        Class<?> rowKeyType = getRowKeyGetter().getReturnType();
+        List<Object> convertedRowKeys = new ArrayList<>(rowKeys.size());
+        for (String rowKey : rowKeys) {
+            convertedRowKeys.add(convertToType(rowKey, rowKeyType));
+        }
+
+        EntityManager em = this.entityManager.get();
+        Map<String, T> rowData = new HashMap<>(rowKeys.size());
+
+        // split into chunks, as some databases limit the size of IN lists
+        for (int i = 0; i < convertedRowKeys.size(); i += MAX_IN_PARAMETERS) {
+            List<Object> chunk = convertedRowKeys.subList(i, Math.min(i + MAX_IN_PARAMETERS, convertedRowKeys.size()));
+
+            CriteriaBuilder criteriaBuilder = em.getCriteriaBuilder();
+            CriteriaQuery<T> cq = criteriaBuilder.createQuery(entityClass);
+            Root<T> root = cq.from(entityClass);
+            cq.select(root).where(root.get(rowKeyField).in(chunk));
+
+            for (T entity : em.createQuery(cq).getResultList()) {
+                rowData.put(getRowKey(entity), entity);
+            }
+        }
+
+        return rowData;
+    }
+
     @Override
     public String getRowKey(T object) {
         Converter converter = getConverter();
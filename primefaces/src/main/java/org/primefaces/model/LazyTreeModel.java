@@ -0,0 +1,192 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2021 PrimeTek
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.model;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * TreeNode model to deal with huge hierarchies by loading the children of a node on demand, page by page.
+ *
+ * @param <T> The model class.
+ */
+public abstract class LazyTreeModel<T> implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private T rootData;
+    private int pageSize;
+    private Map<String, SortMeta> sortBy = Collections.emptyMap();
+    private Map<String, FilterMeta> filterBy = Collections.emptyMap();
+    private String sortSignature = "";
+    private String filterSignature = "";
+    private LazyTreeNode<T> root;
+
+    /**
+     * For serialization only
+     */
+    public LazyTreeModel() {
+        super();
+    }
+
+    /**
+     * @param rootData the data of the (invisible) root node, passed as parent to the first {@link #loadChildren} call.
+     * @param pageSize the maximum number of children loaded at once, <code>0</code> loads all children at once.
+     */
+    public LazyTreeModel(T rootData, int pageSize) {
+        super();
+        this.rootData = rootData;
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * Counts the children of the given parent for the given filters.
+     *
+     * In case of SQL, this would execute a "SELECT COUNT ... WHERE parent = ...".
+     *
+     * @param parent the data of the parent node
+     * @param filterBy a map with all filter information
+     * @return the number of children
+     */
+    public abstract int countChildren(T parent, Map<String, FilterMeta> filterBy);
+
+    /**
+     * Loads the children of the given parent for the given parameters.
+     *
+     * @param parent the data of the parent node
+     * @param first the first child
+     * @param pageSize the page size, <code>0</code> means all children
+     * @param sortBy a map with all sort information
+     * @param filterBy a map with all filter information
+     * @return the children
+     */
+    public abstract List<T> loadChildren(T parent, int first, int pageSize, Map<String, SortMeta> sortBy, Map<String, FilterMeta> filterBy);
+
+    /**
+     * Whether the given node has no children. Used to render the toggler without loading the children,
+     * override it if this can be answered cheaper than counting.
+     *
+     * @param data the data of the node
+     * @return <code>true</code> if the node has no children
+     */
+    public boolean isLeaf(T data) {
+        return countChildren(data, filterBy) == 0;
+    }
+
+    /**
+     * @param data the data of the node
+     * @return the type of the node, see {@link TreeNode#getType()}
+     */
+    public String getType(T data) {
+        return DefaultTreeNode.DEFAULT_TYPE;
+    }
+
+    /**
+     * Creates the node of a loaded child, override it e.g. to restore the expanded or selected state.
+     *
+     * @param data the data of the child
+     * @return the new node
+     */
+    protected LazyTreeNode<T> createNode(T data) {
+        return new LazyTreeNode<>(this, data);
+    }
+
+    /**
+     * @return the root node, which can be used as value of Tree or TreeTable.
+     */
+    public LazyTreeNode<T> getRoot() {
+        if (root == null) {
+            root = createNode(rootData);
+            root.setExpanded(true);
+        }
+        return root;
+    }
+
+    /**
+     * Drops all loaded nodes, so they are loaded again on next access.
+     */
+    public void reset() {
+        if (root != null) {
+            root.reset();
+        }
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public void setPageSize(int pageSize) {
+        this.pageSize = pageSize;
+    }
+
+    public Map<String, SortMeta> getSortBy() {
+        return sortBy;
+    }
+
+    /**
+     * Applies the sort criteria, dropping the loaded nodes if they changed.
+     *
+     * @param sortBy a map with all sort information
+     */
+    public void setSortBy(Map<String, SortMeta> sortBy) {
+        this.sortBy = sortBy == null ? Collections.emptyMap() : sortBy;
+
+        StringBuilder signature = new StringBuilder();
+        for (SortMeta meta : this.sortBy.values()) {
+            signature.append(meta.getField()).append(':').append(meta.getOrder()).append(';');
+        }
+
+        if (!Objects.equals(sortSignature, signature.toString())) {
+            sortSignature = signature.toString();
+            reset();
+        }
+    }
+
+    public Map<String, FilterMeta> getFilterBy() {
+        return filterBy;
+    }
+
+    /**
+     * Applies the filter criteria, dropping the loaded nodes if they changed.
+     *
+     * @param filterBy a map with all filter information
+     */
+    public void setFilterBy(Map<String, FilterMeta> filterBy) {
+        this.filterBy = filterBy == null ? Collections.emptyMap() : filterBy;
+
+        StringBuilder signature = new StringBuilder();
+        for (FilterMeta meta : this.filterBy.values()) {
+            signature.append(meta.getColumnKey()).append(':').append(meta.getMatchMode())
+                    .append('=').append(meta.getFilterValue()).append(';');
+        }
+
+        if (!Objects.equals(filterSignature, signature.toString())) {
+            filterSignature = signature.toString();
+            reset();
+        }
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2021 PrimeTek
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link TreeNode} whose children are loaded through its {@link LazyTreeModel} when they are accessed first.
+ * <p>
+ * Until then, the node only reports the children of an expanded node, so walking the tree never loads collapsed branches.
+ * With a page size, children are loaded page by page, see {@link #loadMoreChildren()}.
+ *
+ * @param <T> The model class.
+ */
+public class LazyTreeNode<T> extends DefaultTreeNode<T> {
+
+    private static final long serialVersionUID = 1L;
+
+    private LazyTreeModel<T> model;
+
+    private boolean loaded;
+
+    private boolean complete;
+
+    private Integer totalChildCount;
+
+    private Boolean leaf;
+
+    /**
+     * For serialization only
+     */
+    public LazyTreeNode() {
+        super();
+    }
+
+    public LazyTreeNode(LazyTreeModel<T> model, T data) {
+        super(model.getType(data), data, null);
+        this.model = model;
+    }
+
+    public LazyTreeModel<T> getModel() {
+        return model;
+    }
+
+    @Override
+    public List<TreeNode<T>> getChildren() {
+        if (!loaded) {
+            loaded = true;
+            loadPage();
+        }
+        return super.getChildren();
+    }
+
+    @Override
+    public int getChildCount() {
+        if (loaded || isExpanded() || getParent() == null) {
+            return getChildren().size();
+        }
+        return 0;
+    }
+
+    @Override
+    public boolean isLeaf() {
+        if (loaded && (complete || !super.getChildren().isEmpty())) {
+            return super.getChildren().isEmpty();
+        }
+
+        if (leaf == null) {
+            leaf = model.isLeaf(getData());
+        }
+        return leaf;
+    }
+
+    /**
+     * @return the number of all children, without loading them.
+     */
+    public int getTotalChildCount() {
+        if (loaded && complete) {
+            return super.getChildren().size();
+        }
+
+        if (totalChildCount == null) {
+            totalChildCount = model.countChildren(getData(), model.getFilterBy());
+        }
+        return totalChildCount;
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * @return <code>true</code> if not all children have been loaded yet.
+     */
+    public boolean hasMoreChildren() {
+        return !loaded || !complete;
+    }
+
+    /**
+     * Loads the next page of children.
+     */
+    public void loadMoreChildren() {
+        if (!loaded) {
+            getChildren();
+        }
+        else if (!complete) {
+            loadPage();
+        }
+    }
+
+    /**
+     * Loads pages until at least the given number of children is available or all children are loaded.
+     *
+     * @param count the number of required children
+     */
+    public void loadChildren(int count) {
+        List<TreeNode<T>> children = getChildren();
+        while (!complete && children.size() < count) {
+            loadPage();
+        }
+    }
+
+    /**
+     * Drops the loaded children, so they are loaded again on next access.
+     */
+    public void reset() {
+        loaded = false;
+        complete = false;
+        totalChildCount = null;
+        leaf = null;
+
+        // detach the dropped children, so they can't be mistaken for nodes of this tree anymore
+        for (TreeNode<T> child : super.getChildren()) {
+            child.clearParent();
+        }
+        setChildren(new TreeNodeChildren<>(this));
+    }
+
+    protected void loadPage() {
+        List<TreeNode<T>> children = super.getChildren();
+        int pageSize = model.getPageSize();
+        List<T> data = model.loadChildren(getData(), children.size(), pageSize, model.getSortBy(), model.getFilterBy());
+
+        List<TreeNode<T>> nodes = new ArrayList<>(data.size());
+        for (T childData : data) {
+            nodes.add(model.createNode(childData));
+        }
+        children.addAll(nodes);
+
+        complete = pageSize <= 0
+                || data.size() < pageSize
+                || (totalChildCount != null && children.size() >= totalChildCount);
+    }
+}
@@ -23,9 +23,32 @@
  */
 package org.primefaces.model;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
 public interface SelectableDataModel<T> {
 
     String getRowKey(T object);
 
     T getRowData(String rowKey);
+
+    /**
+     * Resolves the row data of multiple row keys at once, e.g. for multiple selection.
+     * Override it to resolve all keys with a single lookup (like one query) instead of calling
+     * {@link #getRowData(String)} for each key.
+     *
+     * @param rowKeys the row keys
+     * @return a map with the row key as key and the row data as value; unresolvable row keys are not contained
+     */
+    default Map<String, T> getRowData(Collection<String> rowKeys) {
+        Map<String, T> rowData = new HashMap<>(rowKeys.size());
+        for (String rowKey : rowKeys) {
+            T data = getRowData(rowKey);
+            if (data != null) {
+                rowData.put(rowKey, data);
+            }
+        }
+        return rowData;
+    }
 }
@@ -72,6 +72,15 @@ public class SortMeta implements Serializable, Comparable<SortMeta> {
         this.headerRow = headerRow;
     }
 
+    /**
+     * Creates a copy without the sortBy and function expressions, e.g. to keep it in a multiview state.
+     *
+     * @return the copy
+     */
+    public SortMeta copyWithoutExpressions() {
+        return new SortMeta(columnKey, field, order, null, null, priority, nullSortOrder, caseSensitiveSort, headerRow);
+    }
+
     public static SortMeta of(FacesContext context, String var, UIColumn column) {
         if (column instanceof DynamicColumn) {
             ((DynamicColumn) column).applyStatelessModel();
@@ -25,6 +25,7 @@ package org.primefaces.model;
 
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.file.Path;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -52,4 +53,34 @@ public interface StreamedContent {
      * @return The {@link Consumer}
      */
     Consumer<OutputStream> getWriter();
+
+    /**
+     * The entity tag of the content, used for conditional and range requests.
+     * Either a strong (<code>"tag"</code>) or weak (<code>W/"tag"</code>) entity tag.
+     * If not provided, a weak entity tag will be generated from the content length and last modification date.
+     *
+     * @return the entity tag or <code>null</code>
+     */
+    default String getETag() {
+        return null;
+    }
+
+    /**
+     * The last modification date of the content in milliseconds since the epoch, used for conditional requests.
+     *
+     * @return the last modification date or <code>null</code>
+     */
+    default Long getLastModified() {
+        return null;
+    }
+
+    /**
+     * The file containing the content, if the content is file-backed.
+     * This allows to stream (ranges of) the content via {@link java.nio.channels.FileChannel}.
+     *
+     * @return the file or <code>null</code>
+     */
+    default Path getPath() {
+        return null;
+    }
 }
@@ -25,6 +25,7 @@ package org.primefaces.model.charts;
 
 import java.io.IOException;
 import java.io.Serializable;
+import java.io.Writer;
 
 /**
  * Abstract base class for all ChartJS datasets.
@@ -40,6 +41,16 @@ public abstract class ChartDataSet implements Serializable {
         return null;
     }
 
+    /**
+     * Write the options of this dataSet, datasets with large data should override it to stream the data to the writer.
+     *
+     * @param writer the writer
+     * @throws java.io.IOException If an I/O error occurs
+     */
+    public void encode(Writer writer) throws IOException {
+        writer.write(encode());
+    }
+
     /**
      * Marks this dataset as hidden. Default is false.
      *
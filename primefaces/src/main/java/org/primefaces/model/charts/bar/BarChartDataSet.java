@@ -24,9 +24,11 @@
 package org.primefaces.model.charts.bar;
 
 import java.io.IOException;
+import java.io.Writer;
 import java.util.List;
 
 import org.primefaces.model.charts.ChartDataSet;
+import org.primefaces.model.charts.data.NumericSeries;
 import org.primefaces.util.ChartUtils;
 import org.primefaces.util.FastStringWriter;
 
@@ -39,6 +41,7 @@ public class BarChartDataSet extends ChartDataSet {
     private static final long serialVersionUID = 1L;
 
     private List<Number> data;
+    private NumericSeries series;
     private String label;
     private String xaxisID;
     private String yaxisID;
@@ -69,6 +72,24 @@ public class BarChartDataSet extends ChartDataSet {
         this.data = data;
     }
 
+    /**
+     * Gets the primitive backed data of this dataSet, used if no list of data is set
+     *
+     * @return the series
+     */
+    public NumericSeries getSeries() {
+        return series;
+    }
+
+    /**
+     * Sets primitive backed data, used instead of {@link #setData(List)} for large datasets
+     *
+     * @param series the series
+     */
+    public void setSeries(NumericSeries series) {
+        this.series = series;
+    }
+
     /**
      * Gets the label
      *
@@ -287,27 +308,30 @@ public class BarChartDataSet extends ChartDataSet {
     @Override
     public String encode() throws IOException {
         try (FastStringWriter fsw = new FastStringWriter()) {
-
-            fsw.write("{");
-
-            ChartUtils.writeDataValue(fsw, "type", this.getType(), false);
-            ChartUtils.writeDataValue(fsw, "data", this.data, true);
-            ChartUtils.writeDataValue(fsw, "label", this.label, true);
-            ChartUtils.writeDataValue(fsw, "hidden", this.isHidden(), true);
-            ChartUtils.writeDataValue(fsw, "xAxisID", this.xaxisID, true);
-            ChartUtils.writeDataValue(fsw, "yAxisID", this.yaxisID, true);
-            ChartUtils.writeDataValue(fsw, "stack", this.stack, true);
-            ChartUtils.writeDataValue(fsw, "backgroundColor", this.backgroundColor, true);
-            ChartUtils.writeDataValue(fsw, "borderColor", this.borderColor, true);
-            ChartUtils.writeDataValue(fsw, "borderWidth", this.borderWidth, true);
-            ChartUtils.writeDataValue(fsw, "borderSkipped", this.borderSkipped, true);
-            ChartUtils.writeDataValue(fsw, "hoverBackgroundColor", this.hoverBackgroundColor, true);
-            ChartUtils.writeDataValue(fsw, "hoverBorderColor", this.hoverBorderColor, true);
-            ChartUtils.writeDataValue(fsw, "hoverBorderWidth", this.hoverBorderWidth, true);
-
-            fsw.write("}");
-
+            encode(fsw);
             return fsw.toString();
         }
     }
+
+    @Override
+    public void encode(Writer fsw) throws IOException {
+        fsw.write("{");
+
+        ChartUtils.writeDataValue(fsw, "type", this.getType(), false);
+        ChartUtils.writeDataValue(fsw, "data", this.data != null ? this.data : this.series, true);
+        ChartUtils.writeDataValue(fsw, "label", this.label, true);
+        ChartUtils.writeDataValue(fsw, "hidden", this.isHidden(), true);
+        ChartUtils.writeDataValue(fsw, "xAxisID", this.xaxisID, true);
+        ChartUtils.writeDataValue(fsw, "yAxisID", this.yaxisID, true);
+        ChartUtils.writeDataValue(fsw, "stack", this.stack, true);
+        ChartUtils.writeDataValue(fsw, "backgroundColor", this.backgroundColor, true);
+        ChartUtils.writeDataValue(fsw, "borderColor", this.borderColor, true);
+        ChartUtils.writeDataValue(fsw, "borderWidth", this.borderWidth, true);
+        ChartUtils.writeDataValue(fsw, "borderSkipped", this.borderSkipped, true);
+        ChartUtils.writeDataValue(fsw, "hoverBackgroundColor", this.hoverBackgroundColor, true);
+        ChartUtils.writeDataValue(fsw, "hoverBorderColor", this.hoverBorderColor, true);
+        ChartUtils.writeDataValue(fsw, "hoverBorderWidth", this.hoverBorderWidth, true);
+
+        fsw.write("}");
+    }
 }
@@ -0,0 +1,231 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2021 PrimeTek
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.model.charts.data;
+
+import java.io.Serializable;
+
+/**
+ * Primitive backed series of numeric values for large datasets, e.g. sensor data. Avoids a boxed object per point and can be
+ * downsampled to the resolution of the canvas before it's sent to the client.
+ * <p>
+ * Without x values, the series is encoded as array of numbers, otherwise as array of points (e.g. for time or linear axes).
+ * The arrays are not copied, so they must not be modified after passing them to the series.
+ */
+public class NumericSeries implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Algorithms for {@link NumericSeries#downsample(int, Downsampling)}.
+     */
+    public enum Downsampling {
+        /**
+         * Largest-Triangle-Three-Buckets, keeps the visual shape of the line with one point per bucket.
+         */
+        LTTB,
+        /**
+         * Keeps the minimum and the maximum of each bucket, so no peak gets lost.
+         */
+        MIN_MAX
+    }
+
+    private final double[] x;
+    private final double[] y;
+
+    /**
+     * @param y the values
+     */
+    public NumericSeries(double[] y) {
+        this((double[]) null, y);
+    }
+
+    /**
+     * @param x the timestamps in milliseconds, ascending
+     * @param y the values
+     */
+    public NumericSeries(long[] x, double[] y) {
+        this(toDoubles(x), y);
+    }
+
+    /**
+     * @param x the x values, ascending
+     * @param y the y values
+     */
+    public NumericSeries(double[] x, double[] y) {
+        if (y == null) {
+            throw new IllegalArgumentException("y values must not be null");
+        }
+        if (x != null && x.length != y.length) {
+            throw new IllegalArgumentException("x and y values must have the same length");
+        }
+        this.x = x;
+        this.y = y;
+    }
+
+    private static double[] toDoubles(long[] values) {
+        if (values == null) {
+            return null;
+        }
+        double[] result = new double[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = values[i];
+        }
+        return result;
+    }
+
+    public int size() {
+        return y.length;
+    }
+
+    public boolean hasX() {
+        return x != null;
+    }
+
+    /**
+     * @param index index of the point
+     * @return the x value, or the index if this series doesn't have x values
+     */
+    public double getX(int index) {
+        return x != null ? x[index] : index;
+    }
+
+    public double getY(int index) {
+        return y[index];
+    }
+
+    /**
+     * Reduces this series to about <code>threshold</code> points. The result always has x values, for a series without them
+     * the indexes of the kept points are used.
+     *
+     * @param threshold the maximum number of points, e.g. the width of the canvas in pixels
+     * @param downsampling the algorithm
+     * @return the downsampled series, or this series if it's not larger than the threshold
+     */
+    public NumericSeries downsample(int threshold, Downsampling downsampling) {
+        if (threshold < 3 || size() <= threshold) {
+            return this;
+        }
+
+        return downsampling == Downsampling.MIN_MAX ? downsampleMinMax(threshold) : downsampleLttb(threshold);
+    }
+
+    protected NumericSeries downsampleLttb(int threshold) {
+        int size = size();
+        double[] sampledX = new double[threshold];
+        double[] sampledY = new double[threshold];
+
+        // first and last point are always kept, the others are split into threshold - 2 buckets
+        double bucketSize = (double) (size - 2) / (threshold - 2);
+        int selected = 0;
+        sampledX[0] = getX(0);
+        sampledY[0] = y[0];
+
+        for (int bucket = 0; bucket < threshold - 2; bucket++) {
+            // average of the next bucket as third point of the triangle
+            int nextStart = (int) Math.floor((bucket + 1) * bucketSize) + 1;
+            int nextEnd = Math.min((int) Math.floor((bucket + 2) * bucketSize) + 1, size);
+            double avgX = 0;
+            double avgY = 0;
+            for (int i = nextStart; i < nextEnd; i++) {
+                avgX += getX(i);
+                avgY += y[i];
+            }
+            int nextLength = nextEnd - nextStart;
+            avgX /= nextLength;
+            avgY /= nextLength;
+
+            // point of the current bucket with the largest triangle
+            int start = (int) Math.floor(bucket * bucketSize) + 1;
+            int end = (int) Math.floor((bucket + 1) * bucketSize) + 1;
+            double selectedX = getX(selected);
+            double selectedY = y[selected];
+            double maxArea = -1;
+            int maxIndex = start;
+            for (int i = start; i < end; i++) {
+                double area = Math.abs((selectedX - avgX) * (y[i] - selectedY) - (selectedX - getX(i)) * (avgY - selectedY));
+                if (area > maxArea) {
+                    maxArea = area;
+                    maxIndex = i;
+                }
+            }
+
+            sampledX[bucket + 1] = getX(maxIndex);
+            sampledY[bucket + 1] = y[maxIndex];
+            selected = maxIndex;
+        }
+
+        sampledX[threshold - 1] = getX(size - 1);
+        sampledY[threshold - 1] = y[size - 1];
+
+        return new NumericSeries(sampledX, sampledY);
+    }
+
+    protected NumericSeries downsampleMinMax(int threshold) {
+        int size = size();
+        int buckets = threshold / 2;
+        double bucketSize = (double) size / buckets;
+        double[] sampledX = new double[buckets * 2];
+        double[] sampledY = new double[buckets * 2];
+        int count = 0;
+
+        for (int bucket = 0; bucket < buckets; bucket++) {
+            int start = (int) Math.floor(bucket * bucketSize);
+            int end = Math.min((int) Math.floor((bucket + 1) * bucketSize), size);
+            if (start >= end) {
+                continue;
+            }
+
+            int min = start;
+            int max = start;
+            for (int i = start + 1; i < end; i++) {
+                if (y[i] < y[min]) {
+                    min = i;
+                }
+                if (y[i] > y[max]) {
+                    max = i;
+                }
+            }
+
+            // keep the order of the x values
+            int first = Math.min(min, max);
+            int second = Math.max(min, max);
+            sampledX[count] = getX(first);
+            sampledY[count++] = y[first];
+            if (second != first) {
+                sampledX[count] = getX(second);
+                sampledY[count++] = y[second];
+            }
+        }
+
+        if (count < sampledX.length) {
+            double[] trimmedX = new double[count];
+            double[] trimmedY = new double[count];
+            System.arraycopy(sampledX, 0, trimmedX, 0, count);
+            System.arraycopy(sampledY, 0, trimmedY, 0, count);
+            return new NumericSeries(trimmedX, trimmedY);
+        }
+
+        return new NumericSeries(sampledX, sampledY);
+    }
+}
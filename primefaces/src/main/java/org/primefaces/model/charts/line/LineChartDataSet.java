@@ -24,9 +24,11 @@
 package org.primefaces.model.charts.line;
 
 import java.io.IOException;
+import java.io.Writer;
 import java.util.List;
 
 import org.primefaces.model.charts.ChartDataSet;
+import org.primefaces.model.charts.data.NumericSeries;
 import org.primefaces.util.ChartUtils;
 import org.primefaces.util.FastStringWriter;
 
@@ -39,6 +41,9 @@ public class LineChartDataSet extends ChartDataSet {
     private static final long serialVersionUID = 1L;
 
     private List<Object> data;
+    private NumericSeries series;
+    private int downsampleThreshold;
+    private NumericSeries.Downsampling downsampling = NumericSeries.Downsampling.LTTB;
     private String label;
     private String xaxisID;
     private String yaxisID;
@@ -84,6 +89,61 @@ public class LineChartDataSet extends ChartDataSet {
         this.data = data;
     }
 
+    /**
+     * Gets the primitive backed data of this dataSet, used if no list of data is set
+     *
+     * @return the series
+     */
+    public NumericSeries getSeries() {
+        return series;
+    }
+
+    /**
+     * Sets primitive backed data, used instead of {@link #setData(List)} for large datasets
+     *
+     * @param series the series
+     */
+    public void setSeries(NumericSeries series) {
+        this.series = series;
+    }
+
+    /**
+     * Gets the maximum number of points of the series sent to the client
+     *
+     * @return the threshold, 0 if the series isn't downsampled
+     */
+    public int getDownsampleThreshold() {
+        return downsampleThreshold;
+    }
+
+    /**
+     * Sets the maximum number of points of the series sent to the client, e.g. the width of the canvas in pixels.
+     * Larger series are downsampled on the server. Default is 0 which disables downsampling.
+     *
+     * @param downsampleThreshold the threshold
+     */
+    public void setDownsampleThreshold(int downsampleThreshold) {
+        this.downsampleThreshold = downsampleThreshold;
+    }
+
+    /**
+     * Gets the downsampling algorithm
+     *
+     * @return the algorithm
+     */
+    public NumericSeries.Downsampling getDownsampling() {
+        return downsampling;
+    }
+
+    /**
+     * Sets the downsampling algorithm. Default is {@link NumericSeries.Downsampling#LTTB}.
+     *
+     * @param downsampling the algorithm
+     */
+    public void setDownsampling(NumericSeries.Downsampling downsampling) {
+        this.downsampling = downsampling;
+    }
+
     /**
      * Gets the label
      *
@@ -570,41 +630,52 @@ public class LineChartDataSet extends ChartDataSet {
     @Override
     public String encode() throws IOException {
         try (FastStringWriter fsw = new FastStringWriter()) {
-            fsw.write("{");
-
-            ChartUtils.writeDataValue(fsw, "type", "line", false);
-            ChartUtils.writeDataValue(fsw, "data", this.data, true);
-            ChartUtils.writeDataValue(fsw, "label", this.label, true);
-            ChartUtils.writeDataValue(fsw, "hidden", this.isHidden(), true);
-            ChartUtils.writeDataValue(fsw, "xAxisID", this.xaxisID, true);
-            ChartUtils.writeDataValue(fsw, "yAxisID", this.yaxisID, true);
-            ChartUtils.writeDataValue(fsw, "backgroundColor", this.backgroundColor, true);
-            ChartUtils.writeDataValue(fsw, "borderColor", this.borderColor, true);
-            ChartUtils.writeDataValue(fsw, "borderWidth", this.borderWidth, true);
-            ChartUtils.writeDataValue(fsw, "borderDash", this.borderDash, true);
-            ChartUtils.writeDataValue(fsw, "borderDashOffset", this.borderDashOffset, true);
-            ChartUtils.writeDataValue(fsw, "borderCapStyle", this.borderCapStyle, true);
-            ChartUtils.writeDataValue(fsw, "borderJoinStyle", this.borderJoinStyle, true);
-            ChartUtils.writeDataValue(fsw, "cubicInterpolationMode", this.cubicInterpolationMode, true);
-            ChartUtils.writeDataValue(fsw, "fill", this.fill, true);
-            ChartUtils.writeDataValue(fsw, "tension", this.tension, true);
-            ChartUtils.writeDataValue(fsw, "pointBackgroundColor", this.pointBackgroundColor, true);
-            ChartUtils.writeDataValue(fsw, "pointBorderColor", this.pointBorderColor, true);
-            ChartUtils.writeDataValue(fsw, "pointBorderWidth", this.pointBorderWidth, true);
-            ChartUtils.writeDataValue(fsw, "pointRadius", this.pointRadius, true);
-            ChartUtils.writeDataValue(fsw, "pointStyle", this.pointStyle, true);
-            ChartUtils.writeDataValue(fsw, "pointHitRadius", this.pointHitRadius, true);
-            ChartUtils.writeDataValue(fsw, "pointHoverBackgroundColor", this.pointHoverBackgroundColor, true);
-            ChartUtils.writeDataValue(fsw, "pointHoverBorderColor", this.pointHoverBorderColor, true);
-            ChartUtils.writeDataValue(fsw, "pointHoverBorderWidth", this.pointHoverBorderWidth, true);
-            ChartUtils.writeDataValue(fsw, "pointHoverRadius", this.pointHoverRadius, true);
-            ChartUtils.writeDataValue(fsw, "showLine", this.showLine, true);
-            ChartUtils.writeDataValue(fsw, "spanGaps", this.spanGaps, true);
-            ChartUtils.writeDataValue(fsw, "stepped", this.stepped, true);
-
-            fsw.write("}");
-
+            encode(fsw);
             return fsw.toString();
         }
     }
+
+    @Override
+    public void encode(Writer fsw) throws IOException {
+        fsw.write("{");
+
+        ChartUtils.writeDataValue(fsw, "type", "line", false);
+        ChartUtils.writeDataValue(fsw, "data", this.data != null ? this.data : getEncodedSeries(), true);
+        ChartUtils.writeDataValue(fsw, "label", this.label, true);
+        ChartUtils.writeDataValue(fsw, "hidden", this.isHidden(), true);
+        ChartUtils.writeDataValue(fsw, "xAxisID", this.xaxisID, true);
+        ChartUtils.writeDataValue(fsw, "yAxisID", this.yaxisID, true);
+        ChartUtils.writeDataValue(fsw, "backgroundColor", this.backgroundColor, true);
+        ChartUtils.writeDataValue(fsw, "borderColor", this.borderColor, true);
+        ChartUtils.writeDataValue(fsw, "borderWidth", this.borderWidth, true);
+        ChartUtils.writeDataValue(fsw, "borderDash", this.borderDash, true);
+        ChartUtils.writeDataValue(fsw, "borderDashOffset", this.borderDashOffset, true);
+        ChartUtils.writeDataValue(fsw, "borderCapStyle", this.borderCapStyle, true);
+        ChartUtils.writeDataValue(fsw, "borderJoinStyle", this.borderJoinStyle, true);
+        ChartUtils.writeDataValue(fsw, "cubicInterpolationMode", this.cubicInterpolationMode, true);
+        ChartUtils.writeDataValue(fsw, "fill", this.fill, true);
+        ChartUtils.writeDataValue(fsw, "tension", this.tension, true);
+        ChartUtils.writeDataValue(fsw, "pointBackgroundColor", this.pointBackgroundColor, true);
+        ChartUtils.writeDataValue(fsw, "pointBorderColor", this.pointBorderColor, true);
+        ChartUtils.writeDataValue(fsw, "pointBorderWidth", this.pointBorderWidth, true);
+        ChartUtils.writeDataValue(fsw, "pointRadius", this.pointRadius, true);
+        ChartUtils.writeDataValue(fsw, "pointStyle", this.pointStyle, true);
+        ChartUtils.writeDataValue(fsw, "pointHitRadius", this.pointHitRadius, true);
+        ChartUtils.writeDataValue(fsw, "pointHoverBackgroundColor", this.pointHoverBackgroundColor, true);
+        ChartUtils.writeDataValue(fsw, "pointHoverBorderColor", this.pointHoverBorderColor, true);
+        ChartUtils.writeDataValue(fsw, "pointHoverBorderWidth", this.pointHoverBorderWidth, true);
+        ChartUtils.writeDataValue(fsw, "pointHoverRadius", this.pointHoverRadius, true);
+        ChartUtils.writeDataValue(fsw, "showLine", this.showLine, true);
+        ChartUtils.writeDataValue(fsw, "spanGaps", this.spanGaps, true);
+        ChartUtils.writeDataValue(fsw, "stepped", this.stepped, true);
+
+        fsw.write("}");
+    }
+
+    protected NumericSeries getEncodedSeries() {
+        if (series == null || downsampleThreshold <= 0) {
+            return series;
+        }
+        return series.downsample(downsampleThreshold, downsampling);
+    }
 }
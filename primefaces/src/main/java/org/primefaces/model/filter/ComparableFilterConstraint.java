@@ -25,6 +25,7 @@ package org.primefaces.model.filter;
 
 import javax.faces.context.FacesContext;
 import java.util.Locale;
+import java.util.function.Predicate;
 
 public abstract class ComparableFilterConstraint extends StringFilterConstraint {
 
@@ -36,4 +37,20 @@ public abstract class ComparableFilterConstraint extends StringFilterConstraint
 
         return super.isMatching(ctxt, value, filter, locale);
     }
+
+    @Override
+    public Predicate<Object> toPredicate(FacesContext ctxt, Object filter, Locale locale) {
+        if (!FilterConstraints.isBuiltIn(this)) {
+            return super.toPredicate(ctxt, filter, locale);
+        }
+
+        Predicate<Object> predicate = super.toPredicate(ctxt, filter, locale);
+        return value -> {
+            if (!(value instanceof Comparable) || !(filter instanceof Comparable)) {
+                throw new IllegalArgumentException("Invalid type: " + value.getClass() + ". Valid type: " + Comparable.class.getName());
+            }
+
+            return predicate.test(value);
+        };
+    }
 }
@@ -26,9 +26,24 @@ package org.primefaces.model.filter;
 import javax.faces.context.FacesContext;
 import java.io.Serializable;
 import java.util.Locale;
+import java.util.function.Predicate;
 
 @FunctionalInterface
 public interface FilterConstraint extends Serializable {
 
     boolean isMatching(FacesContext ctxt, Object value, Object filter, Locale locale);
+
+    /**
+     * Creates a predicate which matches the given filter value against the values of multiple rows.
+     * Implementations should prepare the filter value (e.g. lower-casing or parsing) only once here,
+     * instead of on each {@link #isMatching(FacesContext, Object, Object, Locale)} call.
+     *
+     * @param ctxt the {@link FacesContext}
+     * @param filter the filter value
+     * @param locale the locale
+     * @return the predicate
+     */
+    default Predicate<Object> toPredicate(FacesContext ctxt, Object filter, Locale locale) {
+        return value -> isMatching(ctxt, value, filter, locale);
+    }
 }
@@ -0,0 +1,75 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2021 PrimeTek
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.model.filter;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+public final class FilterConstraints {
+
+    private static final Set<Class<?>> BUILT_IN = new HashSet<>(Arrays.asList(
+            ContainsFilterConstraint.class,
+            EndsWithFilterConstraint.class,
+            EqualsFilterConstraint.class,
+            ExactFilterConstraint.class,
+            StartsWithFilterConstraint.class,
+            GreaterThanFilterConstraint.class,
+            GreaterThanEqualsFilterConstraint.class,
+            LessThanFilterConstraint.class,
+            LessThanEqualsFilterConstraint.class,
+            InFilterConstraint.class,
+            RangeFilterConstraint.class,
+            GlobalFilterConstraint.class,
+            NegationFilterConstraintWrapper.class));
+
+    private FilterConstraints() {
+    }
+
+    /**
+     * The specialized predicates of the built-in constraints re-implement their matching logic.
+     * Application subclasses may override {@link FilterConstraint#isMatching}, so they must use the default predicate.
+     *
+     * @param constraint the constraint
+     * @return <code>true</code> if the constraint is one of the built-in ones (and not a subclass of them)
+     */
+    static boolean isBuiltIn(FilterConstraint constraint) {
+        return BUILT_IN.contains(constraint.getClass());
+    }
+
+    /**
+     * The built-in constraints neither depend on the current {@link javax.faces.context.FacesContext} nor on shared state,
+     * so their predicates can be evaluated on other threads. Custom constraints (e.g. a filterFunction evaluating EL)
+     * must run on the request thread.
+     *
+     * @param constraint the constraint
+     * @return <code>true</code> if the predicate of the constraint can be evaluated on other threads
+     */
+    public static boolean isThreadSafe(FilterConstraint constraint) {
+        if (constraint instanceof NegationFilterConstraintWrapper && isBuiltIn(constraint)) {
+            return isThreadSafe(((NegationFilterConstraintWrapper) constraint).getWrapped());
+        }
+        return isBuiltIn(constraint);
+    }
+}
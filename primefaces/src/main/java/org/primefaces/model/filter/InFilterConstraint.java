@@ -24,6 +24,7 @@
 package org.primefaces.model.filter;
 
 import java.util.*;
+import java.util.function.Predicate;
 import javax.faces.context.FacesContext;
 
 public class InFilterConstraint implements FilterConstraint {
@@ -34,18 +35,7 @@ public class InFilterConstraint implements FilterConstraint {
             return false;
         }
 
-        Collection<?> collection = null;
-        if (filter.getClass().isArray()) {
-            collection = Arrays.asList((Object[]) filter);
-        }
-        else if (filter instanceof Collection) {
-            collection = (Collection<?>) filter;
-        }
-        else {
-            collection = Collections.singletonList(filter);
-        }
-
-        for (Object o : collection) {
+        for (Object o : toCollection(filter)) {
             if (Objects.equals(value, o)) {
                 return true;
             }
@@ -53,4 +43,30 @@ public class InFilterConstraint implements FilterConstraint {
 
         return false;
     }
+
+    @Override
+    public Predicate<Object> toPredicate(FacesContext ctxt, Object filter, Locale locale) {
+        if (!FilterConstraints.isBuiltIn(this)) {
+            return FilterConstraint.super.toPredicate(ctxt, filter, locale);
+        }
+
+        if (filter == null) {
+            return value -> false;
+        }
+
+        Set<Object> set = new HashSet<>(toCollection(filter));
+        return value -> value != null && set.contains(value);
+    }
+
+    protected Collection<?> toCollection(Object filter) {
+        if (filter.getClass().isArray()) {
+            return Arrays.asList((Object[]) filter);
+        }
+        else if (filter instanceof Collection) {
+            return (Collection<?>) filter;
+        }
+        else {
+            return Collections.singletonList(filter);
+        }
+    }
 }
@@ -24,6 +24,7 @@
 package org.primefaces.model.filter;
 
 import java.util.Locale;
+import java.util.function.Predicate;
 import javax.faces.context.FacesContext;
 
 public class NegationFilterConstraintWrapper implements FilterConstraint {
@@ -38,4 +39,17 @@ public class NegationFilterConstraintWrapper implements FilterConstraint {
     public boolean isMatching(FacesContext ctxt, Object value, Object filter, Locale locale) {
         return !wrapped.isMatching(ctxt, value, filter, locale);
     }
+
+    @Override
+    public Predicate<Object> toPredicate(FacesContext ctxt, Object filter, Locale locale) {
+        if (!FilterConstraints.isBuiltIn(this)) {
+            return FilterConstraint.super.toPredicate(ctxt, filter, locale);
+        }
+
+        return wrapped.toPredicate(ctxt, filter, locale).negate();
+    }
+
+    FilterConstraint getWrapped() {
+        return wrapped;
+    }
 }
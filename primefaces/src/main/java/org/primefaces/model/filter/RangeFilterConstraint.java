@@ -26,6 +26,7 @@ package org.primefaces.model.filter;
 import javax.faces.context.FacesContext;
 import java.util.List;
 import java.util.Locale;
+import java.util.function.Predicate;
 
 public class RangeFilterConstraint implements FilterConstraint {
 
@@ -42,9 +43,32 @@ public class RangeFilterConstraint implements FilterConstraint {
         throw new IllegalArgumentException("Invalid type: " + value.getClass() + ". Valid type: " + Comparable.class.getName());
     }
 
+    @Override
+    public Predicate<Object> toPredicate(FacesContext ctxt, Object filter, Locale locale) {
+        if (!FilterConstraints.isBuiltIn(this)) {
+            return FilterConstraint.super.toPredicate(ctxt, filter, locale);
+        }
+
+        if (!(filter instanceof List) || ((List<?>) filter).size() != 2) {
+            return value -> false;
+        }
+
+        Comparable start = (Comparable) ((List) filter).get(0);
+        Comparable end = (Comparable) ((List) filter).get(1);
+        return value -> {
+            if (value instanceof Comparable) {
+                return isInRange((Comparable) value, start, end);
+            }
+
+            throw new IllegalArgumentException("Invalid type: " + value.getClass() + ". Valid type: " + Comparable.class.getName());
+        };
+    }
+
     protected boolean isInRange(Comparable value, List filter) {
-        Comparable start = (Comparable) filter.get(0);
-        Comparable end = (Comparable) filter.get(1);
+        return isInRange(value, (Comparable) filter.get(0), (Comparable) filter.get(1));
+    }
+
+    protected boolean isInRange(Comparable value, Comparable start, Comparable end) {
         return value.compareTo(start) >= 0 && value.compareTo(end) <= 0;
     }
 }
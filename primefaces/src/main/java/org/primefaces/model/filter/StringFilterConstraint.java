@@ -27,6 +27,7 @@ import javax.faces.context.FacesContext;
 import java.util.Locale;
 import java.util.Objects;
 import java.util.function.BiPredicate;
+import java.util.function.Predicate;
 
 public abstract class StringFilterConstraint implements FilterConstraint {
 
@@ -40,5 +41,18 @@ public abstract class StringFilterConstraint implements FilterConstraint {
         return val != null && predicate.test(val, str);
     }
 
+    @Override
+    public Predicate<Object> toPredicate(FacesContext ctxt, Object filter, Locale locale) {
+        if (!FilterConstraints.isBuiltIn(this)) {
+            return FilterConstraint.super.toPredicate(ctxt, filter, locale);
+        }
+
+        BiPredicate<String, String> predicate = getPredicate();
+        Objects.requireNonNull(predicate);
+
+        String str = filter == null ? null : filter.toString().trim().toLowerCase(locale);
+        return value -> value != null && predicate.test(value.toString().toLowerCase(locale), str);
+    }
+
     protected abstract BiPredicate<String, String> getPredicate();
 }
@@ -94,6 +94,11 @@ public class TimelineEvent<T> implements Serializable {
      */
     private String styleClass;
 
+    /**
+     * the index of the model this event has been added to, notified about changes of the dates and the group
+     */
+    private transient TimelineEventIndex<T> index;
+
     public TimelineEvent() {
         this.id = UUID.randomUUID().toString();
     }
@@ -117,6 +122,7 @@ public class TimelineEvent<T> implements Serializable {
     public void setStartDate(LocalDateTime startDate) {
         checkStartDate(startDate);
         this.startDate = startDate;
+        modified();
     }
 
     public LocalDateTime getEndDate() {
@@ -125,6 +131,7 @@ public class TimelineEvent<T> implements Serializable {
 
     public void setEndDate(LocalDateTime endDate) {
         this.endDate = endDate;
+        modified();
     }
 
     public Boolean isEditable() {
@@ -168,6 +175,7 @@ public class TimelineEvent<T> implements Serializable {
 
     public void setGroup(String group) {
         this.group = group;
+        modified();
     }
 
     public String getSubgroup() {
@@ -253,6 +261,20 @@ public class TimelineEvent<T> implements Serializable {
                 + '}';
     }
 
+    TimelineEventIndex<T> getIndex() {
+        return index;
+    }
+
+    void setIndex(TimelineEventIndex<T> index) {
+        this.index = index;
+    }
+
+    private void modified() {
+        if (index != null) {
+            index.modified(this);
+        }
+    }
+
     private void checkStartDate(LocalDateTime startDate) {
         if (startDate == null) {
             throw new IllegalArgumentException("Event start date can not be null!");
@@ -0,0 +1,282 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2021 PrimeTek
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.model.timeline;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Index of the events of a {@link TimelineModel}: a hash index by id and, per group, the events ordered by their start date.
+ * <p>
+ * Overlap and range queries only visit events starting within the queried range, widened by the longest event of the group,
+ * which is O(log n + k) as long as the events have comparable durations. The dates and the group are snapshotted on indexing.
+ * Indexed events notify their index about changes of the dates or the group, which are reindexed on the next query.
+ * An event only notifies the index it has been added to last, so events shared by multiple models still require
+ * {@link TimelineModel#update(TimelineEvent)}.
+ */
+class TimelineEventIndex<E> {
+
+    private static final Comparator<Entry<?>> ENTRY_COMPARATOR = Comparator.<Entry<?>, LocalDateTime>comparing(e -> e.start)
+            .thenComparingLong(e -> e.sequence);
+
+    private final Map<String, TimelineEvent<E>> eventsById = new HashMap<>();
+    private final Map<TimelineEvent<E>, Entry<E>> entries = new IdentityHashMap<>();
+    private final Map<String, Group<E>> groups = new HashMap<>();
+    private final Set<TimelineEvent<E>> undated = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Set<TimelineEvent<E>> modified = Collections.newSetFromMap(new IdentityHashMap<>());
+    private long sequence;
+    private boolean ambiguous;
+
+    /**
+     * The list and its modification count this index reflects.
+     */
+    private List<TimelineEvent<E>> indexedEvents;
+    private int indexedModificationCount;
+
+    TimelineEventIndex(List<TimelineEvent<E>> events) {
+        for (TimelineEvent<E> event : events) {
+            add(event);
+        }
+        synced(events);
+    }
+
+    /**
+     * @return <code>true</code> if the given list wasn't modified since the last {@link #synced(List)}.
+     */
+    boolean isSynced(List<TimelineEvent<E>> events) {
+        return events == indexedEvents && getModificationCount(events) == indexedModificationCount;
+    }
+
+    void synced(List<TimelineEvent<E>> events) {
+        indexedEvents = events;
+        indexedModificationCount = getModificationCount(events);
+    }
+
+    // other lists than TimelineEventList can be only checked by their size
+    private static int getModificationCount(List<?> events) {
+        return events instanceof TimelineEventList ? ((TimelineEventList<?>) events).getModificationCount() : events.size();
+    }
+
+    void add(TimelineEvent<E> event) {
+        if (event == null) {
+            return;
+        }
+
+        if (event.getId() == null || eventsById.putIfAbsent(event.getId(), event) != null) {
+            ambiguous = true;
+        }
+
+        event.setIndex(this);
+        if (event.getStartDate() == null) {
+            undated.add(event);
+        }
+        else if (!entries.containsKey(event)) {
+            addEntry(event);
+        }
+    }
+
+    private void addEntry(TimelineEvent<E> event) {
+        Entry<E> entry = new Entry<>(event, sequence++);
+        entries.put(event, entry);
+        groups.computeIfAbsent(entry.group, g -> new Group<>()).add(entry);
+    }
+
+    private void removeEntry(Entry<E> entry) {
+        entries.remove(entry.event);
+        Group<E> group = groups.get(entry.group);
+        group.entries.remove(entry);
+        if (group.entries.isEmpty()) {
+            groups.remove(entry.group);
+        }
+    }
+
+    /**
+     * Removes the given instance from this index.
+     */
+    void remove(TimelineEvent<E> event) {
+        if (event == null) {
+            return;
+        }
+
+        if (event.getId() != null && eventsById.get(event.getId()) == event) {
+            eventsById.remove(event.getId());
+        }
+
+        Entry<E> entry = entries.get(event);
+        if (entry != null) {
+            removeEntry(entry);
+        }
+        undated.remove(event);
+        modified.remove(event);
+
+        if (event.getIndex() == this) {
+            event.setIndex(null);
+        }
+    }
+
+    /**
+     * @return <code>true</code> if the indexed events contain duplicated or <code>null</code> ids, so an event removed
+     *         from the list by {@link TimelineEvent#equals(Object)} can't be identified in this index.
+     */
+    boolean isAmbiguous() {
+        return ambiguous;
+    }
+
+    /**
+     * Updates the snapshot of the dates and the group of an indexed event, does nothing if the event isn't indexed.
+     */
+    void reindex(TimelineEvent<E> event) {
+        modified.remove(event);
+
+        Entry<E> entry = entries.get(event);
+        if (entry != null) {
+            removeEntry(entry);
+        }
+        else if (!undated.remove(event)) {
+            return;
+        }
+
+        if (event.getStartDate() == null) {
+            undated.add(event);
+        }
+        else {
+            addEntry(event);
+        }
+    }
+
+    /**
+     * Called by an indexed event if its dates or its group have been changed.
+     */
+    void modified(TimelineEvent<E> event) {
+        modified.add(event);
+    }
+
+    /**
+     * Reindexes the events whose dates or group have been changed without {@link #reindex(TimelineEvent)}.
+     */
+    void validate() {
+        if (modified.isEmpty()) {
+            return;
+        }
+
+        List<TimelineEvent<E>> changed = new ArrayList<>(modified);
+        for (TimelineEvent<E> event : changed) {
+            reindex(event);
+        }
+    }
+
+    TimelineEvent<E> get(String id) {
+        return eventsById.get(id);
+    }
+
+    /**
+     * Collects the indexed events of the group which start before <code>end</code>
+     * and end (or start, if they don't have an end) after <code>start</code>, both inclusive.
+     */
+    List<TimelineEvent<E>> find(String group, LocalDateTime start, LocalDateTime end) {
+        validate();
+        List<TimelineEvent<E>> result = new ArrayList<>();
+        Group<E> g = groups.get(group);
+        if (g != null) {
+            g.find(start, end, result);
+        }
+        return result;
+    }
+
+    /**
+     * Collects the indexed events of all groups, see {@link #find(String, LocalDateTime, LocalDateTime)}.
+     */
+    List<TimelineEvent<E>> find(LocalDateTime start, LocalDateTime end) {
+        validate();
+        List<TimelineEvent<E>> result = new ArrayList<>();
+        for (Group<E> g : groups.values()) {
+            g.find(start, end, result);
+        }
+        return result;
+    }
+
+    private static final class Group<E> {
+
+        private final NavigableSet<Entry<E>> entries = new TreeSet<>(ENTRY_COMPARATOR);
+
+        // upper bound of the duration of the events, it isn't reduced on removal
+        private Duration maxDuration = Duration.ZERO;
+
+        void add(Entry<E> entry) {
+            entries.add(entry);
+            if (entry.end.isAfter(entry.start)) {
+                Duration duration = Duration.between(entry.start, entry.end);
+                if (duration.compareTo(maxDuration) > 0) {
+                    maxDuration = duration;
+                }
+            }
+        }
+
+        void find(LocalDateTime start, LocalDateTime end, List<TimelineEvent<E>> result) {
+            Entry<E> from = new Entry<>(start.minus(maxDuration), Long.MIN_VALUE);
+            Entry<E> to = new Entry<>(end, Long.MAX_VALUE);
+            for (Entry<E> entry : entries.subSet(from, true, to, true)) {
+                if (!entry.end.isBefore(start)) {
+                    result.add(entry.event);
+                }
+            }
+        }
+    }
+
+    private static final class Entry<E> {
+
+        private final TimelineEvent<E> event;
+        private final String group;
+        private final LocalDateTime start;
+        private final LocalDateTime end;
+        private final long sequence;
+
+        Entry(TimelineEvent<E> event, long sequence) {
+            this.event = event;
+            this.group = event.getGroup();
+            this.start = event.getStartDate();
+            this.end = event.getEndDate() != null && event.getEndDate().isAfter(start) ? event.getEndDate() : start;
+            this.sequence = sequence;
+        }
+
+        // bound for range queries
+        Entry(LocalDateTime start, long sequence) {
+            this.event = null;
+            this.group = null;
+            this.start = start;
+            this.end = start;
+            this.sequence = sequence;
+        }
+    }
+}
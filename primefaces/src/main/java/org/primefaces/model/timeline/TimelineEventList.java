@@ -0,0 +1,56 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2021 PrimeTek
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.model.timeline;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+/**
+ * List of events which counts its modifications, so the {@link TimelineModel} can detect changes which bypass the model,
+ * e.g. <code>model.getEvents().add(event)</code>.
+ */
+class TimelineEventList<E> extends ArrayList<TimelineEvent<E>> {
+
+    private static final long serialVersionUID = 1L;
+
+    private int replacements;
+
+    TimelineEventList() {
+        super();
+    }
+
+    TimelineEventList(Collection<? extends TimelineEvent<E>> events) {
+        super(events);
+    }
+
+    @Override
+    public TimelineEvent<E> set(int index, TimelineEvent<E> element) {
+        replacements++;
+        return super.set(index, element);
+    }
+
+    int getModificationCount() {
+        return modCount + replacements;
+    }
+}
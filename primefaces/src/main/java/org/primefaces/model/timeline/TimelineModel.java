@@ -43,12 +43,17 @@ public class TimelineModel<E, G> implements Serializable {
      */
     private List<TimelineGroup<G>> groups;
 
+    /**
+     * index of the events by id and start date, rebuilt on demand if the list of events was modified outside of the model
+     */
+    private transient TimelineEventIndex<E> index;
+
     public TimelineModel() {
-        events = new ArrayList<>();
+        events = new TimelineEventList<>();
     }
 
     public TimelineModel(List<TimelineEvent<E>> events) {
-        this.events = new ArrayList<>();
+        this.events = new TimelineEventList<>();
 
         if (events != null && !events.isEmpty()) {
             for (TimelineEvent<E> event : events) {
@@ -68,7 +73,7 @@ public class TimelineModel<E, G> implements Serializable {
      * @param event event to be added
      */
     public void add(TimelineEvent<E> event) {
-        events.add(event);
+        add(event, null);
     }
 
     /**
@@ -91,7 +96,10 @@ public class TimelineModel<E, G> implements Serializable {
      * @param timelineUpdater TimelineUpdater instance to add the event in UI
      */
     public void add(TimelineEvent<E> event, TimelineUpdater timelineUpdater) {
+        TimelineEventIndex<E> eventIndex = getIndex();
         events.add(event);
+        eventIndex.add(event);
+        eventIndex.synced(events);
 
         if (timelineUpdater != null) {
             // update UI
@@ -145,12 +153,18 @@ public class TimelineModel<E, G> implements Serializable {
     }
 
     /**
-     * Updates a given event in the model with UI update.
+     * Updates a given event in the model with UI update. Changed dates or groups of the events of this model are also reindexed
+     * by the next call of {@link #getOverlappedEvents(TimelineEvent)} or {@link #getEvents(LocalDateTime, LocalDateTime)},
+     * but this method is still required for events which have been added to multiple models.
      *
      * @param event           event to be added
      * @param timelineUpdater TimelineUpdater instance to update the event in UI
      */
     public void update(TimelineEvent<E> event, TimelineUpdater timelineUpdater) {
+        if (event != null) {
+            getIndex().reindex(event);
+        }
+
         if (timelineUpdater != null) {
             // update UI
             timelineUpdater.update(event);
@@ -196,7 +210,10 @@ public class TimelineModel<E, G> implements Serializable {
      * @param timelineUpdater TimelineUpdater instance to delete the event in UI
      */
     public void delete(TimelineEvent<E> event, TimelineUpdater timelineUpdater) {
-        events.remove(event);
+        TimelineEventIndex<E> eventIndex = getIndex();
+        if (events.remove(event)) {
+            removeFromIndex(eventIndex, Collections.singleton(event));
+        }
 
         if (timelineUpdater != null) {
             // update UI
@@ -221,8 +238,37 @@ public class TimelineModel<E, G> implements Serializable {
      */
     public void deleteAll(Collection<TimelineEvent<E>> events, TimelineUpdater timelineUpdater) {
         if (events != null && !events.isEmpty()) {
+            if (events.size() == 1) {
+                delete(events.iterator().next(), timelineUpdater);
+                return;
+            }
+
+            // remove in a single pass instead of one linear removal per event
+            TimelineEventIndex<E> eventIndex = getIndex();
+            Map<TimelineEvent<E>, Integer> toRemove = new HashMap<>();
             for (TimelineEvent<E> event : events) {
-                delete(event, timelineUpdater);
+                toRemove.merge(event, 1, Integer::sum);
+            }
+            this.events.removeIf(e -> {
+                Integer count = toRemove.get(e);
+                if (count == null) {
+                    return false;
+                }
+                if (count == 1) {
+                    toRemove.remove(e);
+                }
+                else {
+                    toRemove.put(e, count - 1);
+                }
+                return true;
+            });
+            removeFromIndex(eventIndex, events);
+
+            if (timelineUpdater != null) {
+                // update UI
+                for (TimelineEvent<E> event : events) {
+                    timelineUpdater.delete(event.getId());
+                }
             }
         }
     }
@@ -244,7 +290,7 @@ public class TimelineModel<E, G> implements Serializable {
      * Clears the timeline model without UI update (no events are available after that)
      */
     public void clear() {
-        events.clear();
+        clear(null);
     }
 
     /**
@@ -254,6 +300,7 @@ public class TimelineModel<E, G> implements Serializable {
      */
     public void clear(TimelineUpdater timelineUpdater) {
         events.clear();
+        index = null;
 
         if (timelineUpdater != null) {
             // update UI
@@ -261,6 +308,22 @@ public class TimelineModel<E, G> implements Serializable {
         }
     }
 
+    /**
+     * Gets all events which overlap the given time range, e.g. the visible window of a lazy loaded timeline. Events without
+     * end date overlap the range if their start date is within the range, range boundaries are inclusive.
+     *
+     * @param startDate start of the time range
+     * @param endDate   end of the time range
+     * @return List&lt;TimelineEvent&lt;E&gt;&gt; events overlapping the range, ordered by their start dates within a group
+     */
+    public List<TimelineEvent<E>> getEvents(LocalDateTime startDate, LocalDateTime endDate) {
+        if (startDate == null || endDate == null || endDate.isBefore(startDate)) {
+            return Collections.emptyList();
+        }
+
+        return getIndex().find(startDate, endDate);
+    }
+
     /**
      * Gets all overlapped events to the given one. The given and overlapped events belong to the same group. Events are ordered
      * by their start dates - first events with more recent start dates and then events with older start dates. If start dates are
@@ -271,23 +334,21 @@ public class TimelineModel<E, G> implements Serializable {
      * @return TreeSet&lt;TimelineEvent&lt;E&gt;&gt; ordered overlapped events or null if no overlapping exist
      */
     public Set<TimelineEvent<E>> getOverlappedEvents(TimelineEvent<E> event) {
-        if (event == null) {
+        if (event == null || event.getStartDate() == null) {
             return Collections.emptySet();
         }
 
+        LocalDateTime startDate = event.getStartDate();
+        LocalDateTime endDate = event.getEndDate() != null && event.getEndDate().isAfter(startDate) ? event.getEndDate() : startDate;
+
+        // only events of the same group starting within the range are candidates
         List<TimelineEvent<E>> overlappedEvents = null;
-        for (TimelineEvent<E> e : events) {
+        for (TimelineEvent<E> e : getIndex().find(event.getGroup(), startDate, endDate)) {
             if (e.equals(event)) {
                 // given event should not be included
                 continue;
             }
 
-            if (event.getGroup() == null && e.getGroup() != null
-                    || (event.getGroup() != null && !event.getGroup().equals(e.getGroup()))) {
-                // ignore different groups
-                continue;
-            }
-
             if (isOverlapping(event, e)) {
                 if (overlappedEvents == null) {
                     overlappedEvents = new ArrayList<>();
@@ -395,6 +456,7 @@ public class TimelineModel<E, G> implements Serializable {
      */
     public void setEvents(List<TimelineEvent<E>> events) {
         this.events = events;
+        this.index = null;
     }
 
     /**
@@ -423,10 +485,7 @@ public class TimelineModel<E, G> implements Serializable {
      */
     public TimelineEvent<E> getEvent(String id) {
         if (id != null) {
-            return events.stream()
-                    .filter(event -> id.equals(event.getId()))
-                    .findAny()
-                    .orElse(null);
+            return getIndex().get(id);
         }
         return null;
     }
@@ -437,7 +496,36 @@ public class TimelineModel<E, G> implements Serializable {
      * @return
      */
     public boolean hasEvent(TimelineEvent<E> event) {
-        return events.contains(event);
+        if (event == null || event.getId() == null) {
+            return events.contains(event);
+        }
+        return getIndex().get(event.getId()) != null;
+    }
+
+    /**
+     * Gets the index of the events, (re)builds it if the list of events was modified outside of this model.
+     */
+    private TimelineEventIndex<E> getIndex() {
+        if (index == null || !index.isSynced(events)) {
+            index = new TimelineEventIndex<>(events);
+        }
+        return index;
+    }
+
+    private void removeFromIndex(TimelineEventIndex<E> eventIndex, Collection<TimelineEvent<E>> removed) {
+        if (eventIndex.isAmbiguous()) {
+            // the removed instances can't be identified by their ids
+            index = null;
+            return;
+        }
+
+        for (TimelineEvent<E> event : removed) {
+            TimelineEvent<E> stored = eventIndex.get(event.getId());
+            if (stored != null) {
+                eventIndex.remove(stored);
+            }
+        }
+        eventIndex.synced(events);
     }
 
     private boolean isOverlapping(TimelineEvent<E> event1, TimelineEvent<E> event2) {
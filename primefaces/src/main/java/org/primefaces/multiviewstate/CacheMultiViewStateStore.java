@@ -0,0 +1,121 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2021 PrimeTek
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.multiviewstate;
+
+import java.util.Map;
+import java.util.UUID;
+
+import javax.faces.context.ExternalContext;
+import javax.faces.context.FacesContext;
+
+import org.primefaces.cache.CacheProvider;
+import org.primefaces.context.PrimeApplicationContext;
+import org.primefaces.util.Constants;
+
+/**
+ * {@link MultiViewStateStore} which keeps the states in the configured {@link CacheProvider}, e.g. a distributed cache,
+ * so the session only holds the (small) keys of the states.
+ * <p>
+ * The cache should expire the entries, as states of expired sessions or evicted keys are not removed from the cache.
+ */
+public class CacheMultiViewStateStore extends SessionMultiViewStateStore {
+
+    public static final String CACHE_REGION = "primefaces.multiViewState";
+
+    private static final String SESSION_KEY = CacheMultiViewStateStore.class.getName() + ".SESSION_KEY";
+
+    @Override
+    public Object get(FacesContext context, String windowId, MultiViewStateKey key) {
+        Map<MultiViewStateKey, Object> keys = getWindow(context, windowId, false);
+        if (keys == null || !keys.containsKey(key)) {
+            return null;
+        }
+        return getCacheProvider(context).get(CACHE_REGION, getCacheKey(context, windowId, key));
+    }
+
+    @Override
+    public void put(FacesContext context, String windowId, MultiViewStateKey key, Object state) {
+        getCacheProvider(context).put(CACHE_REGION, getCacheKey(context, windowId, key), state);
+
+        Map<MultiViewStateKey, Object> keys = getWindow(context, windowId, true);
+        if (keys.put(key, Boolean.TRUE) == null) {
+            markDirty(context);
+        }
+    }
+
+    @Override
+    public boolean remove(FacesContext context, String windowId, MultiViewStateKey key) {
+        getCacheProvider(context).remove(CACHE_REGION, getCacheKey(context, windowId, key));
+        return super.remove(context, windowId, key);
+    }
+
+    @Override
+    public void clear(FacesContext context) {
+        Map<String, Object> sessionMap = context.getExternalContext().getSessionMap();
+        Map<String, Map<MultiViewStateKey, Object>> windows = (Map) sessionMap.get(Constants.MULTI_VIEW_STATES);
+        if (windows != null) {
+            CacheProvider cacheProvider = getCacheProvider(context);
+            synchronized (windows) {
+                for (Map.Entry<String, Map<MultiViewStateKey, Object>> window : windows.entrySet()) {
+                    for (MultiViewStateKey key : getKeys(context, window.getKey())) {
+                        cacheProvider.remove(CACHE_REGION, getCacheKey(context, window.getKey(), key));
+                    }
+                }
+            }
+        }
+        super.clear(context);
+    }
+
+    protected CacheProvider getCacheProvider(FacesContext context) {
+        return PrimeApplicationContext.getCurrentInstance(context).getCacheProvider();
+    }
+
+    protected String getCacheKey(FacesContext context, String windowId, MultiViewStateKey key) {
+        return getSessionKey(context) + '\u0000' + windowId + '\u0000' + key.getViewId() + '\u0000'
+                + key.getClientId();
+    }
+
+    /**
+     * Gets a random key stored in the session. Unlike the session id it stays the same when the id is changed
+     * to prevent session fixation, e.g. on login.
+     *
+     * @param context the {@link FacesContext}
+     * @return the key of the current session
+     */
+    protected String getSessionKey(FacesContext context) {
+        ExternalContext externalContext = context.getExternalContext();
+        Map<String, Object> sessionMap = externalContext.getSessionMap();
+        String sessionKey = (String) sessionMap.get(SESSION_KEY);
+        if (sessionKey == null) {
+            synchronized (externalContext.getSession(true)) {
+                sessionKey = (String) sessionMap.get(SESSION_KEY);
+                if (sessionKey == null) {
+                    sessionKey = UUID.randomUUID().toString();
+                    sessionMap.put(SESSION_KEY, sessionKey);
+                }
+            }
+        }
+        return sessionKey;
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2021 PrimeTek
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.multiviewstate;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * Identifies the multi view state of a component in a view.
+ */
+public final class MultiViewStateKey implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String viewId;
+    private final String clientId;
+
+    private MultiViewStateKey(String viewId, String clientId) {
+        this.viewId = viewId;
+        this.clientId = clientId;
+    }
+
+    public static MultiViewStateKey of(String viewId, String clientId) {
+        return new MultiViewStateKey(viewId, clientId);
+    }
+
+    public String getViewId() {
+        return viewId;
+    }
+
+    public String getClientId() {
+        return clientId;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 7;
+        hash = 23 * hash + Objects.hashCode(viewId);
+        hash = 23 * hash + Objects.hashCode(clientId);
+        return hash;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        MultiViewStateKey other = (MultiViewStateKey) obj;
+        return Objects.equals(viewId, other.viewId) && Objects.equals(clientId, other.clientId);
+    }
+
+    @Override
+    public String toString() {
+        return "MultiViewStateKey{" +
+                "viewId='" + viewId + '\'' +
+                ", clientId='" + clientId + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2021 PrimeTek
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.multiviewstate;
+
+import java.util.Set;
+
+import javax.faces.context.FacesContext;
+
+/**
+ * Storage of the multi view states of the current session, configured via <code>primefaces.MULTI_VIEW_STATE_PROVIDER</code>.
+ * <p>
+ * States are grouped by window: the id of the client window, or "session" if the states are stored per session
+ * (see <code>primefaces.MULTI_VIEW_STATE_STORE</code>). Components change their state after getting it, so the states
+ * changed in a request are passed to {@link #put(FacesContext, String, MultiViewStateKey, Object)} again at the end of the request.
+ * <p>
+ * Implementations must be thread-safe and have a public no-arg constructor.
+ */
+public interface MultiViewStateStore {
+
+    /**
+     * @param context the {@link FacesContext}
+     * @param windowId the window
+     * @param key the view and component
+     * @return the state or <code>null</code>
+     */
+    Object get(FacesContext context, String windowId, MultiViewStateKey key);
+
+    /**
+     * Stores or updates a state.
+     *
+     * @param context the {@link FacesContext}
+     * @param windowId the window
+     * @param key the view and component
+     * @param state the state
+     */
+    void put(FacesContext context, String windowId, MultiViewStateKey key, Object state);
+
+    /**
+     * @param context the {@link FacesContext}
+     * @param windowId the window
+     * @param key the view and component
+     * @return <code>true</code> if a state was removed
+     */
+    boolean remove(FacesContext context, String windowId, MultiViewStateKey key);
+
+    /**
+     * @param context the {@link FacesContext}
+     * @param windowId the window
+     * @return a snapshot of the keys of the stored states
+     */
+    Set<MultiViewStateKey> getKeys(FacesContext context, String windowId);
+
+    /**
+     * Removes all states of all windows of the current session.
+     *
+     * @param context the {@link FacesContext}
+     */
+    void clear(FacesContext context);
+}
@@ -0,0 +1,133 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2021 PrimeTek
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.multiviewstate;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import javax.faces.context.ExternalContext;
+import javax.faces.context.FacesContext;
+
+import org.primefaces.context.PrimeApplicationContext;
+import org.primefaces.util.Constants;
+import org.primefaces.util.LimitedSizeHashMap;
+
+/**
+ * Default {@link MultiViewStateStore}, stores the states in the HTTP session.
+ * <p>
+ * The least recently used states are evicted if a window holds more than <code>primefaces.MULTI_VIEW_STATE_MAX_ENTRIES</code>
+ * states, the least recently used windows if the session holds more than {@value #MAX_WINDOWS} windows.
+ */
+public class SessionMultiViewStateStore implements MultiViewStateStore {
+
+    public static final int MAX_WINDOWS = 32;
+
+    @Override
+    public Object get(FacesContext context, String windowId, MultiViewStateKey key) {
+        Map<MultiViewStateKey, Object> states = getWindow(context, windowId, false);
+        return states == null ? null : states.get(key);
+    }
+
+    @Override
+    public void put(FacesContext context, String windowId, MultiViewStateKey key, Object state) {
+        Map<MultiViewStateKey, Object> states = getWindow(context, windowId, true);
+        states.put(key, state);
+        markDirty(context);
+    }
+
+    @Override
+    public boolean remove(FacesContext context, String windowId, MultiViewStateKey key) {
+        Map<MultiViewStateKey, Object> states = getWindow(context, windowId, false);
+        if (states != null && states.remove(key) != null) {
+            markDirty(context);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public Set<MultiViewStateKey> getKeys(FacesContext context, String windowId) {
+        Map<MultiViewStateKey, Object> states = getWindow(context, windowId, false);
+        if (states == null) {
+            return Collections.emptySet();
+        }
+        synchronized (states) {
+            return new HashSet<>(states.keySet());
+        }
+    }
+
+    @Override
+    public void clear(FacesContext context) {
+        context.getExternalContext().getSessionMap().remove(Constants.MULTI_VIEW_STATES);
+    }
+
+    /**
+     * Gets the states of a window.
+     *
+     * @param context the {@link FacesContext}
+     * @param windowId the window
+     * @param create if the window (and the session) should be created if it doesn't exist
+     * @return the states of the window, synchronized and limited in size, or <code>null</code>
+     */
+    protected Map<MultiViewStateKey, Object> getWindow(FacesContext context, String windowId, boolean create) {
+        ExternalContext externalContext = context.getExternalContext();
+        Map<String, Object> sessionMap = externalContext.getSessionMap();
+
+        Map<String, Map<MultiViewStateKey, Object>> windows = (Map) sessionMap.get(Constants.MULTI_VIEW_STATES);
+        if (windows == null) {
+            if (!create) {
+                return null;
+            }
+            synchronized (externalContext.getSession(true)) {
+                windows = (Map) sessionMap.get(Constants.MULTI_VIEW_STATES);
+                if (windows == null) {
+                    windows = Collections.synchronizedMap(new LimitedSizeHashMap<>(MAX_WINDOWS, true));
+                    sessionMap.put(Constants.MULTI_VIEW_STATES, windows);
+                }
+            }
+        }
+
+        if (!create) {
+            return windows.get(windowId);
+        }
+
+        int maxEntries = PrimeApplicationContext.getCurrentInstance(context).getConfig().getMultiViewStateMaxEntries();
+        return windows.computeIfAbsent(windowId, k -> Collections.synchronizedMap(new LimitedSizeHashMap<>(maxEntries, true)));
+    }
+
+    /**
+     * Sets the session attribute again, so the changed states get replicated.
+     *
+     * @param context the {@link FacesContext}
+     */
+    protected void markDirty(FacesContext context) {
+        Map<String, Object> sessionMap = context.getExternalContext().getSessionMap();
+        Object windows = sessionMap.get(Constants.MULTI_VIEW_STATES);
+        if (windows != null) {
+            sessionMap.put(Constants.MULTI_VIEW_STATES, windows);
+        }
+    }
+}
@@ -29,6 +29,7 @@ import java.util.List;
 
 import org.primefaces.model.charts.data.BubblePoint;
 import org.primefaces.model.charts.data.NumericPoint;
+import org.primefaces.model.charts.data.NumericSeries;
 
 /**
  * Utilities for Chart components that use chartJs
@@ -52,38 +53,52 @@ public class ChartUtils {
             return;
         }
 
-        boolean isList = value instanceof List;
-
         if (hasComma) {
             fsw.write(",");
         }
 
-        fsw.write("\"" + optionName + "\":");
-        if (isList) {
+        fsw.write("\"");
+        fsw.write(optionName);
+        fsw.write("\":");
+        if (value instanceof NumericSeries) {
+            writeNumericSeries(fsw, (NumericSeries) value);
+        }
+        else if (value instanceof List) {
+            List<?> list = (List<?>) value;
             fsw.write("[");
-            for (int i = 0; i < ((List<?>) value).size(); i++) {
-                Object item = ((List<?>) value).get(i);
-                Object writeText;
+            for (int i = 0; i < list.size(); i++) {
+                Object item = list.get(i);
+
+                if (i != 0) {
+                    fsw.write(",");
+                }
 
                 if (item instanceof BubblePoint) {
                     BubblePoint point = (BubblePoint) item;
-                    writeText = (i == 0) ? Constants.EMPTY_STRING : ",";
-                    writeText += "{\"x\":" + point.getX() + ",\"y\":" + point.getY() + ",\"r\":" + point.getR() + "}";
+                    fsw.write("{\"x\":");
+                    fsw.write(String.valueOf(point.getX()));
+                    fsw.write(",\"y\":");
+                    fsw.write(String.valueOf(point.getY()));
+                    fsw.write(",\"r\":");
+                    fsw.write(String.valueOf(point.getR()));
+                    fsw.write("}");
                 }
                 else if (item instanceof NumericPoint) {
                     NumericPoint point = (NumericPoint) item;
-                    writeText = (i == 0) ? Constants.EMPTY_STRING : ",";
-                    writeText += "{\"x\":" + point.getX() + ",\"y\":" + point.getY() + "}";
+                    fsw.write("{\"x\":");
+                    fsw.write(String.valueOf(point.getX()));
+                    fsw.write(",\"y\":");
+                    fsw.write(String.valueOf(point.getY()));
+                    fsw.write("}");
                 }
                 else if (item instanceof String) {
-                    String escapedText = EscapeUtils.forJavaScript((String) item);
-                    writeText = (i == 0) ? "\"" + escapedText + "\"" : ",\"" + escapedText + "\"";
+                    fsw.write("\"");
+                    fsw.write(EscapeUtils.forJavaScript((String) item));
+                    fsw.write("\"");
                 }
                 else {
-                    writeText = (i == 0) ? item : "," + item;
+                    fsw.write(String.valueOf(item));
                 }
-
-                fsw.write(Constants.EMPTY_STRING + writeText);
             }
             fsw.write("]");
         }
@@ -96,4 +111,60 @@ public class ChartUtils {
             }
         }
     }
+
+    /**
+     * Write a numeric series as array of numbers or, if it has x values, as array of points.
+     *
+     * @param fsw a writer object that use to write the series
+     * @param series the series
+     * @throws java.io.IOException if an I/O error occurs
+     */
+    public static void writeNumericSeries(Writer fsw, NumericSeries series) throws IOException {
+        fsw.write("[");
+        for (int i = 0; i < series.size(); i++) {
+            if (i != 0) {
+                fsw.write(",");
+            }
+
+            if (series.hasX()) {
+                fsw.write("{\"x\":");
+                writeNumber(fsw, series.getX(i));
+                fsw.write(",\"y\":");
+                writeNumber(fsw, series.getY(i));
+                fsw.write("}");
+            }
+            else {
+                writeNumber(fsw, series.getY(i));
+            }
+        }
+        fsw.write("]");
+    }
+
+    /**
+     * Write a number as JSON, integral values without fraction and NaN or infinite values as <code>null</code>.
+     *
+     * @param fsw a writer object that use to write the number
+     * @param value the number
+     * @throws java.io.IOException if an I/O error occurs
+     */
+    public static void writeNumber(Writer fsw, double value) throws IOException {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            fsw.write("null");
+        }
+        else if (value == (long) value) {
+            if (fsw instanceof FastStringWriter) {
+                // append to the buffer without an intermediate String
+                ((FastStringWriter) fsw).getBuffer().append((long) value);
+            }
+            else {
+                fsw.write(Long.toString((long) value));
+            }
+        }
+        else if (fsw instanceof FastStringWriter) {
+            ((FastStringWriter) fsw).getBuffer().append(value);
+        }
+        else {
+            fsw.write(Double.toString(value));
+        }
+    }
 }
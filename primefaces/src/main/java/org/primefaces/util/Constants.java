@@ -39,6 +39,10 @@ public class Constants {
         public static final String PFV_KEY = "primefaces.CLIENT_SIDE_VALIDATION";
         public static final String UPLOADER = "primefaces.UPLOADER";
         public static final String CACHE_PROVIDER = "primefaces.CACHE_PROVIDER";
+        public static final String CACHE_MAX_ENTRIES = "primefaces.CACHE_MAX_ENTRIES";
+        public static final String CACHE_MAX_TOTAL_ENTRIES = "primefaces.CACHE_MAX_TOTAL_ENTRIES";
+        public static final String CACHE_REGION_MAX_ENTRIES = "primefaces.CACHE_REGION_MAX_ENTRIES";
+        public static final String CACHE_EXPIRE_AFTER_WRITE = "primefaces.CACHE_EXPIRE_AFTER_WRITE";
         public static final String TRANSFORM_METADATA = "primefaces.TRANSFORM_METADATA";
         public static final String LEGACY_WIDGET_NAMESPACE = "primefaces.LEGACY_WIDGET_NAMESPACE";
         public static final String BEAN_VALIDATION_DISABLED = "javax.faces.validator.DISABLE_DEFAULT_BEAN_VALIDATOR";
@@ -49,6 +53,10 @@ public class Constants {
         public static final String CSP_POLICY = "primefaces.CSP_POLICY";
         public static final String EXCEPTION_TYPES_TO_IGNORE_IN_LOGGING = "primefaces.EXCEPTION_TYPES_TO_IGNORE_IN_LOGGING";
         public static final String MULTI_VIEW_STATE_STORE = "primefaces.MULTI_VIEW_STATE_STORE";
+        public static final String MULTI_VIEW_STATE_PROVIDER = "primefaces.MULTI_VIEW_STATE_PROVIDER";
+        public static final String MULTI_VIEW_STATE_MAX_ENTRIES = "primefaces.MULTI_VIEW_STATE_MAX_ENTRIES";
+        public static final String DYNAMIC_CONTENT_STATELESS = "primefaces.DYNAMIC_CONTENT_STATELESS";
+        public static final String DYNAMIC_CONTENT_SECRET = "primefaces.DYNAMIC_CONTENT_SECRET";
         public static final String MARK_INPUT_AS_INVALID_ON_ERROR_MSG = "primefaces.MARK_INPUT_AS_INVALID_ON_ERROR_MSG";
         public static final String COOKIES_SAME_SITE = "primefaces.COOKIES_SAME_SITE";
         public static final String FLEX = "primefaces.FLEX";
@@ -88,6 +96,7 @@ public class Constants {
     public static final String DYNAMIC_CONTENT_CACHE_PARAM = "pfdrid_c";
     public static final String DYNAMIC_CONTENT_TYPE_PARAM = "pfdrt";
     public static final String DYNAMIC_RESOURCES_MAPPING = "primefaces.dynamicResourcesMapping";
+    public static final String DYNAMIC_STREAMED_CONTENTS = "primefaces.dynamicStreamedContents";
 
     public static final String BARCODE_MAPPING = "primefaces.barcodeMapping";
 
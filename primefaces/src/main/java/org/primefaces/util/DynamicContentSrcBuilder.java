@@ -33,6 +33,7 @@ import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Consumer;
 import javax.el.ValueExpression;
 import javax.faces.FacesException;
@@ -41,6 +42,7 @@ import javax.faces.component.UIComponent;
 import javax.faces.component.UIParameter;
 import javax.faces.context.FacesContext;
 import org.primefaces.application.resource.DynamicContentType;
+import org.primefaces.context.PrimeApplicationContext;
 import org.primefaces.el.ValueExpressionAnalyzer;
 import org.primefaces.model.StreamedContent;
 
@@ -102,26 +104,61 @@ public class DynamicContentSrcBuilder {
         return buildStreaming(context, null, valueExpression, cache);
     }
 
-    public static String buildStreaming(FacesContext context, UIComponent component, ValueExpression valueExpression, boolean cache) {
-
-        // just a dummy file for streaming
-        // JSF will also append the suffix (e.g. -> dynamiccontent.properties.xhtml)
-        // the real content type will be written to the response by the StreamedContentHandler
-        Resource resource = context.getApplication().getResourceHandler().createResource(
-                "dynamiccontent.properties", "primefaces", "text/plain");
-        String resourcePath = resource.getRequestPath();
+    /**
+     * Registers the given {@link StreamedContent} in the session and builds an URL, which streams it exactly once
+     * through the {@link org.primefaces.application.resource.StreamedContentHandler}.
+     * This allows to download already generated content via a separate GET request,
+     * instead of embedding it (e.g. Base64 encoded) into the current response.
+     *
+     * @param context the {@link FacesContext}
+     * @param streamedContent the content to stream
+     * @return the URL
+     */
+    public static String buildStreaming(FacesContext context, StreamedContent streamedContent) {
+        String resourcePath = getResourcePath(context);
 
         Map<String, Object> session = context.getExternalContext().getSessionMap();
-        Map<String, String> dynamicResourcesMapping = (Map) session.get(Constants.DYNAMIC_RESOURCES_MAPPING);
-        if (dynamicResourcesMapping == null) {
-            dynamicResourcesMapping = new LimitedSizeHashMap<>(200);
-            session.put(Constants.DYNAMIC_RESOURCES_MAPPING, dynamicResourcesMapping);
+        Map<String, StreamedContent> streamedContents = (Map) session.get(Constants.DYNAMIC_STREAMED_CONTENTS);
+        if (streamedContents == null) {
+            streamedContents = new StreamedContentRegistry(20);
+            session.put(Constants.DYNAMIC_STREAMED_CONTENTS, streamedContents);
         }
 
+        String resourceKey = UUID.randomUUID().toString();
+        synchronized (streamedContents) {
+            streamedContents.put(resourceKey, streamedContent);
+        }
+
+        String src = resourcePath
+                + "&" + Constants.DYNAMIC_CONTENT_PARAM + "=" + resourceKey
+                + "&" + Constants.DYNAMIC_CONTENT_TYPE_PARAM + "=" + DynamicContentType.STREAMED_CONTENT.toString();
+
+        return encodeResourceURL(context, src, false);
+    }
+
+    public static String buildStreaming(FacesContext context, UIComponent component, ValueExpression valueExpression, boolean cache) {
+        String resourcePath = getResourcePath(context);
+
         String expressionString = valueExpression.getExpressionString();
-        String resourceKey = md5(expressionString);
+        String resourceKey;
+
+        PrimeApplicationContext applicationContext = PrimeApplicationContext.getCurrentInstance(context);
+        if (applicationContext.getConfig().isDynamicContentStateless()) {
+            // the expression itself (signed) is part of the URL, no mapping required
+            resourceKey = applicationContext.getDynamicContentSigner().sign(expressionString);
+        }
+        else {
+            Map<String, Object> session = context.getExternalContext().getSessionMap();
+            Map<String, String> dynamicResourcesMapping = (Map) session.get(Constants.DYNAMIC_RESOURCES_MAPPING);
+            if (dynamicResourcesMapping == null) {
+                dynamicResourcesMapping = new LimitedSizeHashMap<>(200);
+                session.put(Constants.DYNAMIC_RESOURCES_MAPPING, dynamicResourcesMapping);
+            }
 
-        dynamicResourcesMapping.put(resourceKey, expressionString);
+            resourceKey = md5(expressionString);
+
+            dynamicResourcesMapping.put(resourceKey, expressionString);
+        }
 
         try {
             StringBuilder builder = SharedStringBuilder.get(context, SB_BUILD_STREAMING);
@@ -154,6 +191,15 @@ public class DynamicContentSrcBuilder {
         }
     }
 
+    protected static String getResourcePath(FacesContext context) {
+        // just a dummy file for streaming
+        // JSF will also append the suffix (e.g. -> dynamiccontent.properties.xhtml)
+        // the real content type will be written to the response by the StreamedContentHandler
+        Resource resource = context.getApplication().getResourceHandler().createResource(
+                "dynamiccontent.properties", "primefaces", "text/plain");
+        return resource.getRequestPath();
+    }
+
     public static String buildBase64(FacesContext context, InputStream is) {
         return buildBase64(context, toByteArray(is), null);
     }
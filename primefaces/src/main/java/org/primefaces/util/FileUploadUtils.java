@@ -43,6 +43,7 @@ import javax.servlet.http.HttpServletRequest;
 
 import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.io.IOUtils;
+import org.primefaces.component.fileupload.ContentTypeDetector;
 import org.primefaces.component.fileupload.FileUpload;
 import org.primefaces.component.fileupload.FileUploadChunkDecoder;
 import org.primefaces.component.fileupload.FileUploadDecoder;
@@ -218,55 +219,99 @@ public class FileUploadUtils {
             return true;
         }
 
-        String tempFilePrefix = UUID.randomUUID().toString();
-        Path tempFile = Files.createTempFile(tempFilePrefix, null);
-
-        try {
-            try (InputStream in = new PushbackInputStream(new BufferedInputStream(stream))) {
-                try (OutputStream out = new FileOutputStream(tempFile.toFile())) {
-                    IOUtils.copyLarge(in, out);
-                }
-            }
-
-            String contentType = context.getFileTypeDetector().probeContentType(tempFile);
+        String contentType;
+        try (BufferedInputStream in = new BufferedInputStream(stream)) {
+            contentType = probeContentType(context, fileName, in);
+        }
 
-            if (contentType == null) {
-                if (LOGGER.isLoggable(Level.WARNING)) {
-                    LOGGER.warning(String.format("Could not determine content type of uploaded file %s, consider plugging in an adequate " +
-                            "FileTypeDetector implementation", fileName));
-                }
-                return false;
+        if (contentType == null) {
+            if (LOGGER.isLoggable(Level.WARNING)) {
+                LOGGER.warning(String.format("Could not determine content type of uploaded file %s, consider plugging in an adequate " +
+                        "FileTypeDetector implementation", fileName));
             }
+            return false;
+        }
 
-            //Comma-separated values: file_extension|audio/*|video/*|image/*|media_type (see https://www.w3schools.com/tags/att_input_accept.asp)
-            String[] accepts = fileUpload.getAccept().split(",");
-            boolean accepted = false;
-            for (String accept : accepts) {
-                accept = accept.trim().toLowerCase();
-                if (accept.startsWith(".") && fileName.toLowerCase().endsWith(accept)) {
-                    accepted = true;
-                    if (LOGGER.isLoggable(Level.FINE)) {
-                        LOGGER.fine(String.format("The file extension %s of the uploaded file %s is accepted", accept, fileName));
-                    }
-                    break;
-                }
-                //Now we have a media type that may contain wildcards
-                if (FilenameUtils.wildcardMatch(contentType.toLowerCase(), accept)) {
-                    accepted = true;
-                    if (LOGGER.isLoggable(Level.FINE)) {
-                        LOGGER.fine(String.format("The content type %s of the uploaded file %s is accepted by %s", contentType, fileName, accept));
-                    }
-                    break;
+        //Comma-separated values: file_extension|audio/*|video/*|image/*|media_type (see https://www.w3schools.com/tags/att_input_accept.asp)
+        String[] accepts = fileUpload.getAccept().split(",");
+        boolean accepted = false;
+        for (String accept : accepts) {
+            accept = accept.trim().toLowerCase();
+            if (accept.startsWith(".") && fileName.toLowerCase().endsWith(accept)) {
+                accepted = true;
+                if (LOGGER.isLoggable(Level.FINE)) {
+                    LOGGER.fine(String.format("The file extension %s of the uploaded file %s is accepted", accept, fileName));
                 }
+                break;
             }
-            if (!accepted) {
+            //Now we have a media type that may contain wildcards
+            if (FilenameUtils.wildcardMatch(contentType.toLowerCase(), accept)) {
+                accepted = true;
                 if (LOGGER.isLoggable(Level.FINE)) {
-                    LOGGER.fine(String.format("The uploaded file %s with content type %s does not match the accept specification %s", fileName, contentType,
-                            fileUpload.getAccept()));
+                    LOGGER.fine(String.format("The content type %s of the uploaded file %s is accepted by %s", contentType, fileName, accept));
                 }
-                return false;
+                break;
+            }
+        }
+        if (!accepted) {
+            if (LOGGER.isLoggable(Level.FINE)) {
+                LOGGER.fine(String.format("The uploaded file %s with content type %s does not match the accept specification %s", fileName, contentType,
+                        fileUpload.getAccept()));
+            }
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Determines the content type of an uploaded file. First the registered {@link ContentTypeDetector}s are asked,
+     * which only inspect the leading bytes of the stream; only if none of them answers, the stream is copied to a
+     * temporary file for the {@link java.nio.file.spi.FileTypeDetector}.
+     *
+     * @param context the {@link PrimeApplicationContext}
+     * @param fileName the name of the uploaded file
+     * @param in the content of the uploaded file, must support mark/reset
+     * @return the content type or <code>null</code>, if it could not be determined
+     * @throws IOException if the content could not be read
+     */
+    protected static String probeContentType(PrimeApplicationContext context, String fileName, InputStream in) throws IOException {
+        List<ContentTypeDetector> detectors = context.getContentTypeDetectors();
+
+        int headerSize = 0;
+        for (ContentTypeDetector detector : detectors) {
+            headerSize = Math.max(headerSize, detector.getHeaderSize());
+        }
+
+        in.mark(headerSize);
+        byte[] header = new byte[headerSize];
+        int length = IOUtils.read(in, header);
+        in.reset();
+        if (length < headerSize) {
+            header = Arrays.copyOf(header, length);
+        }
+
+        for (ContentTypeDetector detector : detectors) {
+            byte[] detectorHeader = header.length > detector.getHeaderSize() ? Arrays.copyOf(header, detector.getHeaderSize()) : header;
+            String contentType = detector.probeContentType(detectorHeader, fileName);
+            if (contentType != null) {
+                return contentType;
             }
         }
+
+        return probeContentTypeFromTempFile(context, in);
+    }
+
+    private static String probeContentTypeFromTempFile(PrimeApplicationContext context, InputStream in) throws IOException {
+        String tempFilePrefix = UUID.randomUUID().toString();
+        Path tempFile = Files.createTempFile(tempFilePrefix, null);
+
+        try {
+            try (OutputStream out = new FileOutputStream(tempFile.toFile())) {
+                IOUtils.copyLarge(in, out);
+            }
+
+            return context.getFileTypeDetector().probeContentType(tempFile);
+        }
         finally {
             try {
                 Files.delete(tempFile);
@@ -287,7 +332,6 @@ public class FileUploadUtils {
                 }
             }
         }
-        return true;
     }
 
     public static void performVirusScan(FacesContext facesContext, UploadedFile file) throws VirusException {
@@ -362,6 +406,11 @@ public class FileUploadUtils {
         return relativePath;
     }
 
+    /**
+     * @deprecated chunks are written into a single file now, see
+     * {@link org.primefaces.component.fileupload.AbstractFileUploadDecoder#writeChunk}
+     */
+    @Deprecated
     public static List<Path> listChunks(Path path) {
         try (Stream<Path> walk = Files.walk(path)) {
             return walk
@@ -374,6 +423,11 @@ public class FileUploadUtils {
         }
     }
 
+    /**
+     * @deprecated chunks are written into a single file now, see
+     * {@link org.primefaces.component.fileupload.AbstractFileUploadDecoder#writeChunk}
+     */
+    @Deprecated
     public static <T extends HttpServletRequest> List<Path> listChunks(T request) {
         Path chunkDir = getChunkDir(request);
         if (!Files.exists(chunkDir)) {
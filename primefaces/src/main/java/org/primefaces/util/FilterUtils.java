@@ -0,0 +1,91 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2021 PrimeTek
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.util;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Predicate;
+import javax.faces.context.FacesContext;
+
+import org.primefaces.model.FilterMeta;
+import org.primefaces.model.filter.FilterConstraints;
+
+/**
+ * Filtering by compiled filter predicates, shared by DataTable and TreeTable.
+ */
+public class FilterUtils {
+
+    private FilterUtils() {
+    }
+
+    /**
+     * Prepares the filter values of the active column filters only once, instead of once per row and column.
+     *
+     * @return the predicates per column key
+     */
+    public static Map<String, Predicate<Object>> compileFilters(FacesContext context, Map<String, FilterMeta> filterBy, Locale filterLocale) {
+        Map<String, Predicate<Object>> predicates = new HashMap<>(filterBy.size());
+        for (Map.Entry<String, FilterMeta> entry : filterBy.entrySet()) {
+            FilterMeta filter = entry.getValue();
+            if (filter.isActive() && !filter.isGlobalFilter()) {
+                predicates.put(entry.getKey(), filter.getConstraint().toPredicate(context, filter.getFilterValue(), filterLocale));
+            }
+        }
+        return predicates;
+    }
+
+    /**
+     * @param values the column values of a row
+     * @param predicates the predicates of the columns, <code>null</code> for columns without active filter
+     * @param globalPredicate the predicate of the global filter or <code>null</code>
+     * @return <code>true</code> if all column predicates and the global predicate (for any column) match
+     */
+    public static boolean isMatching(Object[] values, Predicate<Object>[] predicates, Predicate<Object> globalPredicate) {
+        boolean globalMatch = globalPredicate == null;
+
+        for (int i = 0; i < values.length; i++) {
+            if (!globalMatch) {
+                globalMatch = globalPredicate.test(values[i]);
+            }
+
+            if (predicates[i] != null && !predicates[i].test(values[i])) {
+                return false;
+            }
+        }
+
+        return globalMatch;
+    }
+
+    /**
+     * Only the predicates of the built-in constraints can be evaluated on other threads, see {@link FilterConstraints#isThreadSafe}.
+     *
+     * @return <code>true</code> if the active filters and the global filter only use built-in constraints
+     */
+    public static boolean isParallelizable(Map<String, FilterMeta> filterBy) {
+        return filterBy.values().stream()
+                .filter(f -> (f.isActive() || f.isGlobalFilter()) && f.getConstraint() != null)
+                .allMatch(f -> FilterConstraints.isThreadSafe(f.getConstraint()));
+    }
+}
@@ -36,6 +36,15 @@ public class LimitedSizeHashMap<K, V> extends LinkedHashMap<K, V> {
         this.maxSize = maxSize;
     }
 
+    /**
+     * @param maxSize the maximum number of entries
+     * @param accessOrder <code>true</code> to evict the least recently accessed instead of the eldest inserted entry
+     */
+    public LimitedSizeHashMap(int maxSize, boolean accessOrder) {
+        super(16, 0.75f, accessOrder);
+        this.maxSize = maxSize;
+    }
+
     @Override
     protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
         return size() > maxSize;
@@ -35,16 +35,20 @@ import java.security.PrivilegedActionException;
 import java.security.PrivilegedExceptionAction;
 import java.text.MessageFormat;
 import java.util.Locale;
+import java.util.Map;
 import java.util.MissingResourceException;
 import java.util.PropertyResourceBundle;
 import java.util.ResourceBundle;
 
 import javax.faces.application.Application;
 import javax.faces.application.FacesMessage;
+import javax.faces.application.ProjectStage;
 import javax.faces.component.UIComponent;
 import javax.faces.context.FacesContext;
 import javax.faces.context.FacesContextWrapper;
 
+import org.primefaces.context.PrimeApplicationContext;
+
 public class MessageFactory {
 
     private static final String DEFAULT_BUNDLE_BASENAME = "javax.faces.Messages";
@@ -62,85 +66,54 @@ public class MessageFactory {
     }
 
     public static FacesMessage getFacesMessage(Locale locale, String messageId, Object... params) {
-        String summary = null;
-        String detail = null;
-        FacesContext facesContext = FacesContext.getCurrentInstance();
-        Application application = facesContext.getApplication();
-        String userBundleName = application.getMessageBundle();
-        ResourceBundle bundle = null;
-        ClassLoader currentClassLoader = LangUtils.getCurrentClassLoader(application.getClass());
+        ResolvedMessage message = resolveMessage(FacesContext.getCurrentInstance(), locale, messageId);
 
-        // try user defined bundle first
-        if (userBundleName != null) {
-            try {
-                bundle = getBundle(userBundleName, locale, currentClassLoader, facesContext);
-                if (bundle.containsKey(messageId)) {
-                    summary = bundle.getString(messageId);
-                }
-            }
-            catch (MissingResourceException e) {
-                // No Op
-            }
-        }
+        return new FacesMessage(message.getSummary(params), message.getDetail(params));
+    }
 
-        // try primefaces bundle
-        if (summary == null) {
-            try {
-                bundle = getBundle(PRIMEFACES_BUNDLE_BASENAME, locale, currentClassLoader, facesContext);
-                if (bundle == null) {
-                    throw new NullPointerException();
-                }
-                if (bundle.containsKey(messageId)) {
-                    summary = bundle.getString(messageId);
-                }
-            }
-            catch (MissingResourceException e) {
-                // No Op
-            }
-        }
+    public static String getMessage(String messageId, Object... params) {
+        return getMessage(LocaleUtils.getCurrentLocale(), messageId, params);
+    }
 
-        // fallback to default jsf bundle
-        if (summary == null) {
-            try {
-                bundle = getBundle(DEFAULT_BUNDLE_BASENAME, locale, currentClassLoader, facesContext);
-                if (bundle == null) {
-                    throw new NullPointerException();
-                }
-                if (bundle.containsKey(messageId)) {
-                    summary = bundle.getString(messageId);
-                }
-            }
-            catch (MissingResourceException e) {
-                // No Op
-            }
+    public static String getMessage(Locale locale, String messageId, Object... params) {
+        return resolveMessage(FacesContext.getCurrentInstance(), locale, messageId).getSummary(params);
+    }
+
+    public static String getFormattedText(Locale locale, String message, Object... params) {
+        if ((params == null || params.length == 0) || LangUtils.isBlank(message)) {
+            return message;
         }
 
-        summary = getFormattedText(locale, summary, params);
+        return createMessageFormat(locale, message).format(params);
+    }
 
-        if (bundle != null) {
-            try {
-                String detailMessageId = messageId + DEFAULT_DETAIL_SUFFIX;
-                if (bundle.containsKey(detailMessageId)) {
-                    detail = getFormattedText(locale, bundle.getString(detailMessageId), params);
-                }
-            }
-            catch (MissingResourceException e) {
-                // NoOp
-            }
+    /**
+     * Resolves the patterns of a message from the user, PrimeFaces or JSF bundle.
+     * In production, they are cached per application, bundle, locale and message id.
+     */
+    private static ResolvedMessage resolveMessage(FacesContext facesContext, Locale locale, String messageId) {
+        Application application = facesContext.getApplication();
+        String userBundleName = application.getMessageBundle();
+
+        if (!facesContext.isProjectStage(ProjectStage.Production)) {
+            return lookupMessage(facesContext, application, userBundleName, locale, messageId);
         }
 
-        return new FacesMessage(summary, detail);
-    }
+        Map<String, ResolvedMessage> cache = PrimeApplicationContext.getCurrentInstance(facesContext).getMessageCacheMap();
+        String key = userBundleName + '|' + locale + '|' + messageId;
+        ResolvedMessage message = cache.get(key);
+        if (message == null) {
+            message = lookupMessage(facesContext, application, userBundleName, locale, messageId);
+            cache.put(key, message);
+        }
 
-    public static String getMessage(String messageId, Object... params) {
-        return getMessage(LocaleUtils.getCurrentLocale(), messageId, params);
+        return message;
     }
 
-    public static String getMessage(Locale locale, String messageId, Object... params) {
+    private static ResolvedMessage lookupMessage(FacesContext facesContext, Application application, String userBundleName,
+            Locale locale, String messageId) {
         String summary = null;
-        FacesContext facesContext = FacesContext.getCurrentInstance();
-        Application application = facesContext.getApplication();
-        String userBundleName = application.getMessageBundle();
+        String detail = null;
         ResourceBundle bundle = null;
         ClassLoader currentClassLoader = LangUtils.getCurrentClassLoader(application.getClass());
 
@@ -189,25 +162,28 @@ public class MessageFactory {
             }
         }
 
-        summary = getFormattedText(locale, summary, params);
+        if (bundle != null) {
+            try {
+                String detailMessageId = messageId + DEFAULT_DETAIL_SUFFIX;
+                if (bundle.containsKey(detailMessageId)) {
+                    detail = bundle.getString(detailMessageId);
+                }
+            }
+            catch (MissingResourceException e) {
+                // NoOp
+            }
+        }
 
-        return summary;
+        return new ResolvedMessage(locale, summary, detail);
     }
 
-    public static String getFormattedText(Locale locale, String message, Object... params) {
-        if ((params == null || params.length == 0) || LangUtils.isBlank(message)) {
-            return message;
-        }
-
-        MessageFormat messageFormat = null;
+    private static MessageFormat createMessageFormat(Locale locale, String message) {
         if (locale != null) {
-            messageFormat = new MessageFormat(message, locale);
+            return new MessageFormat(message, locale);
         }
         else {
-            messageFormat = new MessageFormat(message);
+            return new MessageFormat(message);
         }
-
-        return messageFormat.format(params);
     }
 
     public static Object getLabel(FacesContext facesContext, UIComponent component) {
@@ -268,6 +244,53 @@ public class MessageFactory {
         return unwrapFacesContext(unwrapped);
     }
 
+    /**
+     * The patterns of a message, with their {@link MessageFormat}s compiled on first use.
+     * As {@link MessageFormat} isn't thread safe, the compiled formats are cloned for every formatting.
+     */
+    public static final class ResolvedMessage {
+
+        private final Locale locale;
+        private final String summary;
+        private final String detail;
+        private volatile MessageFormat summaryFormat;
+        private volatile MessageFormat detailFormat;
+
+        ResolvedMessage(Locale locale, String summary, String detail) {
+            this.locale = locale;
+            this.summary = summary;
+            this.detail = detail;
+        }
+
+        public String getSummary(Object... params) {
+            if ((params == null || params.length == 0) || LangUtils.isBlank(summary)) {
+                return summary;
+            }
+
+            MessageFormat format = summaryFormat;
+            if (format == null) {
+                format = createMessageFormat(locale, summary);
+                summaryFormat = format;
+            }
+
+            return ((MessageFormat) format.clone()).format(params);
+        }
+
+        public String getDetail(Object... params) {
+            if ((params == null || params.length == 0) || LangUtils.isBlank(detail)) {
+                return detail;
+            }
+
+            MessageFormat format = detailFormat;
+            if (format == null) {
+                format = createMessageFormat(locale, detail);
+                detailFormat = format;
+            }
+
+            return ((MessageFormat) format.clone()).format(params);
+        }
+    }
+
     /**
      * Custom ResourceBundle.Control to handle loading resources as UTF-8 in Java8 and OSGI classloader issues.
      *
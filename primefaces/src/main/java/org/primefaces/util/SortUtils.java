@@ -0,0 +1,153 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2021 PrimeTek
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.util;
+
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Locale;
+import javax.faces.FacesException;
+
+import org.primefaces.model.SortMeta;
+
+/**
+ * Sorting by precomputed sort keys, shared by DataTable and TreeTable.
+ */
+public class SortUtils {
+
+    private SortUtils() {
+    }
+
+    /**
+     * If all values are strings, they are converted to {@link CollationKey}s, so they can be compared bitwise
+     * instead of running the {@link Collator} (and lower-casing them) on each comparison.
+     * The {@link Collator} must not be shared with other threads while converting.
+     *
+     * @param values the sort values, converted in place
+     * @return the sort keys
+     */
+    public static Object[] toSortKeys(Object[] values, SortMeta sortMeta, Collator collator, Locale locale) {
+        for (Object value : values) {
+            if (value != null && !(value instanceof String)) {
+                return values;
+            }
+        }
+
+        for (int i = 0; i < values.length; i++) {
+            String value = (String) values[i];
+            if (value != null) {
+                values[i] = collator.getCollationKey(sortMeta.isCaseSensitiveSort() ? value : value.toLowerCase(locale));
+            }
+        }
+
+        return values;
+    }
+
+    /**
+     * Sorts the indexes of the rows by their sort keys.
+     *
+     * @param sortMetas the active sort metas, in order of their priority
+     * @param sortKeys the sort keys per sort meta and row, <code>null</code> for sort metas to skip
+     * @param parallel if the indexes should be sorted on the common fork-join pool
+     * @return the sorted row indexes
+     */
+    public static Integer[] sortIndexes(SortMeta[] sortMetas, Object[][] sortKeys, Collator collator, Locale locale, boolean parallel) {
+        int length = 0;
+        for (Object[] keys : sortKeys) {
+            if (keys != null) {
+                length = keys.length;
+                break;
+            }
+        }
+
+        Integer[] indexes = new Integer[length];
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = i;
+        }
+
+        Comparator<Integer> comparator = (i1, i2) -> {
+            for (int i = 0; i < sortMetas.length; i++) {
+                Object[] keys = sortKeys[i];
+                if (keys == null) {
+                    continue;
+                }
+
+                SortMeta sortMeta = sortMetas[i];
+                int result = compareValues(sortMeta, keys[i1], keys[i2], collator, locale);
+                if (result != 0) {
+                    return sortMeta.getOrder().isAscending() ? result : -1 * result;
+                }
+            }
+
+            return 0;
+        };
+
+        try {
+            // the keys are already extracted, so sorting is pure CPU work now
+            // parallelSort is stable too, so the result is the same as with the sequential sort
+            if (parallel) {
+                Arrays.parallelSort(indexes, comparator);
+            }
+            else {
+                Arrays.sort(indexes, comparator);
+            }
+        }
+        catch (ClassCastException e) {
+            throw new FacesException(e);
+        }
+
+        return indexes;
+    }
+
+    public static int compareValues(SortMeta sortMeta, Object value1, Object value2, Collator collator, Locale locale) {
+        //Empty check
+        if (value1 == null && value2 == null) {
+            return 0;
+        }
+        else if (value1 == null) {
+            return sortMeta.getNullSortOrder();
+        }
+        else if (value2 == null) {
+            return -1 * sortMeta.getNullSortOrder();
+        }
+        else if (value1 instanceof CollationKey && value2 instanceof CollationKey) {
+            return ((CollationKey) value1).compareTo((CollationKey) value2);
+        }
+        else if (value1 instanceof String && value2 instanceof String) {
+            if (sortMeta.isCaseSensitiveSort()) {
+                return collator.compare(value1, value2);
+            }
+            else {
+                String str1 = (((String) value1).toLowerCase(locale));
+                String str2 = (((String) value2).toLowerCase(locale));
+
+                return collator.compare(str1, str2);
+            }
+        }
+        else {
+            return ((Comparable<Object>) value1).compareTo(value2);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2021 PrimeTek
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.servlet.http.HttpSessionBindingEvent;
+import javax.servlet.http.HttpSessionBindingListener;
+
+import org.primefaces.model.StreamedContent;
+
+/**
+ * Session map of the contents registered via {@link DynamicContentSrcBuilder#buildStreaming(javax.faces.context.FacesContext, StreamedContent)}.
+ * Contents implementing {@link AutoCloseable} (e.g. backed by a temporary file) are closed when they are evicted
+ * or when the session ends, as they will never be streamed then.
+ */
+public class StreamedContentRegistry extends LimitedSizeHashMap<String, StreamedContent> implements HttpSessionBindingListener {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final Logger LOGGER = Logger.getLogger(StreamedContentRegistry.class.getName());
+
+    public StreamedContentRegistry(int maxSize) {
+        super(maxSize);
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, StreamedContent> eldest) {
+        boolean remove = super.removeEldestEntry(eldest);
+        if (remove) {
+            release(eldest.getValue());
+        }
+        return remove;
+    }
+
+    @Override
+    public void valueUnbound(HttpSessionBindingEvent event) {
+        List<StreamedContent> contents;
+        synchronized (this) {
+            contents = new ArrayList<>(values());
+            clear();
+        }
+
+        for (StreamedContent content : contents) {
+            release(content);
+        }
+    }
+
+    public static void release(StreamedContent content) {
+        if (content instanceof AutoCloseable) {
+            try {
+                ((AutoCloseable) content).close();
+            }
+            catch (Exception e) {
+                LOGGER.log(Level.WARNING, "Could not release streamed content: " + content.getName(), e);
+            }
+        }
+    }
+}
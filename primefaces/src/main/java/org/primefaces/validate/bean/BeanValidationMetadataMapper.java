@@ -26,10 +26,12 @@ package org.primefaces.validate.bean;
 import java.io.IOException;
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -41,6 +43,7 @@ import javax.validation.MessageInterpolator;
 import javax.validation.metadata.ConstraintDescriptor;
 import org.primefaces.context.PrimeApplicationContext;
 import org.primefaces.metadata.BeanValidationMetadataExtractor;
+import org.primefaces.metadata.BeanValidationPropertyMetadata;
 import org.primefaces.util.MapBuilder;
 
 public class BeanValidationMetadataMapper {
@@ -73,109 +76,130 @@ public class BeanValidationMetadataMapper {
                     .put(SizeClientValidationConstraint.CONSTRAINT_CLASS_NAME, new SizeClientValidationConstraint())
                     .build();
 
+    // invalidates the cached client metadata when the mappings change
+    private static final AtomicInteger MAPPING_VERSION = new AtomicInteger();
+
     private BeanValidationMetadataMapper() {
     }
 
     public static BeanValidationMetadata resolveValidationMetadata(FacesContext context, UIComponent component, PrimeApplicationContext applicationContext)
             throws IOException {
 
+        try {
+            BeanValidationPropertyMetadata propertyMetadata = BeanValidationMetadataExtractor.extractPropertyMetadata(
+                    context, applicationContext, component, component.getValueExpression("value"));
+
+            if (propertyMetadata == null || propertyMetadata.getConstraintDescriptors().isEmpty()) {
+                return null;
+            }
+
+            // the client metadata only depends on the constraints, the mappings and the locale of interpolated messages
+            boolean interpolateClientSideValidationMessages = applicationContext.getConfig().isInterpolateClientSideValidationMessages();
+            String key = "csv:" + MAPPING_VERSION.get();
+            if (interpolateClientSideValidationMessages) {
+                key += ":" + context.getViewRoot().getLocale();
+            }
+
+            return propertyMetadata.getDerivedMetadata(key,
+                () -> resolveValidationMetadata(propertyMetadata.getConstraintDescriptors(), applicationContext, interpolateClientSideValidationMessages));
+        }
+        catch (PropertyNotFoundException e) {
+            String message = "Skip resolving of CSV BV metadata for component \"" + component.getClientId(context) + "\" because"
+                    + " the ValueExpression of the \"value\" attribute"
+                    + " isn't resolvable completely (e.g. a sub-expression returns null)";
+            LOGGER.log(Level.FINE, message);
+        }
+
+        return null;
+    }
+
+    protected static BeanValidationMetadata resolveValidationMetadata(Set<ConstraintDescriptor<?>> constraints, PrimeApplicationContext applicationContext,
+            boolean interpolateClientSideValidationMessages) {
+
         Map<String, Object> metadata = null;
         List<String> validatorIds = null;
 
-        try {
-            // get BV ConstraintDescriptors
-            Set<ConstraintDescriptor<?>> constraints = BeanValidationMetadataExtractor.extractAllConstraintDescriptors(
-                    context, applicationContext, component.getValueExpression("value"));
+        MessageInterpolator messageInterpolator = null;
+        if (interpolateClientSideValidationMessages) {
+            messageInterpolator = applicationContext.getValidatorFactory().getMessageInterpolator();
+        }
 
-            if (constraints != null && !constraints.isEmpty()) {
+        // loop BV ConstraintDescriptors
+        for (ConstraintDescriptor<?> constraintDescriptor : constraints) {
+            Class<?> annotationType = constraintDescriptor.getAnnotation().annotationType();
 
-                boolean interpolateClientSideValidationMessages =
-                        applicationContext.getConfig().isInterpolateClientSideValidationMessages();
+            // lookup ClientValidationConstraint by constraint annotation (e.g. @NotNull)
+            ClientValidationConstraint clientValidationConstraint = CONSTRAINT_MAPPING.get(annotationType.getName());
 
-                MessageInterpolator messageInterpolator = null;
-                if (interpolateClientSideValidationMessages) {
-                    messageInterpolator = applicationContext.getValidatorFactory().getMessageInterpolator();
-                }
+            // mapping available? Otherwise try to lookup custom constraint
+            if (clientValidationConstraint == null) {
+                // custom constraint must use @ClientConstraint to map the ClientValidationConstraint
+                ClientConstraint clientConstraint = annotationType.getAnnotation(ClientConstraint.class);
+
+                if (clientConstraint != null) {
+                    Class<?> resolvedBy = clientConstraint.resolvedBy();
 
-                // loop BV ConstraintDescriptors
-                for (ConstraintDescriptor<?> constraintDescriptor : constraints) {
-                    Class<?> annotationType = constraintDescriptor.getAnnotation().annotationType();
-
-                    // lookup ClientValidationConstraint by constraint annotation (e.g. @NotNull)
-                    ClientValidationConstraint clientValidationConstraint = CONSTRAINT_MAPPING.get(annotationType.getName());
-
-                    // mapping available? Otherwise try to lookup custom constraint
-                    if (clientValidationConstraint == null) {
-                        // custom constraint must use @ClientConstraint to map the ClientValidationConstraint
-                        ClientConstraint clientConstraint = annotationType.getAnnotation(ClientConstraint.class);
-
-                        if (clientConstraint != null) {
-                            Class<?> resolvedBy = clientConstraint.resolvedBy();
-
-                            if (resolvedBy != null) {
-                                try {
-                                    // TODO AppScoped instances? CDI?
-                                    // instantiate ClientValidationConstraint
-                                    clientValidationConstraint = (ClientValidationConstraint) resolvedBy.getConstructor().newInstance();
-                                }
-                                catch (Exception e) {
-                                    throw new FacesException("Could not instantiate ClientValidationConstraint!", e);
-                                }
-                            }
+                    if (resolvedBy != null) {
+                        try {
+                            // TODO AppScoped instances? CDI?
+                            // instantiate ClientValidationConstraint
+                            clientValidationConstraint = (ClientValidationConstraint) resolvedBy.getConstructor().newInstance();
+                        }
+                        catch (Exception e) {
+                            throw new FacesException("Could not instantiate ClientValidationConstraint!", e);
                         }
                     }
+                }
+            }
 
-                    if (clientValidationConstraint != null) {
+            if (clientValidationConstraint != null) {
 
-                        String validatorId = clientValidationConstraint.getValidatorId();
+                String validatorId = clientValidationConstraint.getValidatorId();
 
-                        Map<String, Object> constraintMetadata;
+                Map<String, Object> constraintMetadata;
 
-                        if (interpolateClientSideValidationMessages) {
-                            MessageInterpolatingConstraintWrapper interpolatingConstraint
-                                    = new MessageInterpolatingConstraintWrapper(messageInterpolator, constraintDescriptor);
-                            constraintMetadata = clientValidationConstraint.getMetadata(interpolatingConstraint);
-                        }
-                        else {
-                            constraintMetadata = clientValidationConstraint.getMetadata(constraintDescriptor);
-                        }
+                if (interpolateClientSideValidationMessages) {
+                    MessageInterpolatingConstraintWrapper interpolatingConstraint
+                            = new MessageInterpolatingConstraintWrapper(messageInterpolator, constraintDescriptor);
+                    constraintMetadata = clientValidationConstraint.getMetadata(interpolatingConstraint);
+                }
+                else {
+                    constraintMetadata = clientValidationConstraint.getMetadata(constraintDescriptor);
+                }
 
-                        if (constraintMetadata != null) {
-                            if (metadata == null) {
-                                metadata = new HashMap<>();
-                            }
-                            metadata.putAll(constraintMetadata);
-                        }
+                if (constraintMetadata != null) {
+                    if (metadata == null) {
+                        metadata = new HashMap<>();
+                    }
+                    metadata.putAll(constraintMetadata);
+                }
 
-                        if (validatorId != null) {
-                            if (validatorIds == null) {
-                                validatorIds = new ArrayList<>();
-                            }
-                            validatorIds.add(validatorId);
-                        }
+                if (validatorId != null) {
+                    if (validatorIds == null) {
+                        validatorIds = new ArrayList<>();
                     }
+                    validatorIds.add(validatorId);
                 }
             }
         }
-        catch (PropertyNotFoundException e) {
-            String message = "Skip resolving of CSV BV metadata for component \"" + component.getClientId(context) + "\" because"
-                    + " the ValueExpression of the \"value\" attribute"
-                    + " isn't resolvable completely (e.g. a sub-expression returns null)";
-            LOGGER.log(Level.FINE, message);
-        }
 
         if (metadata == null && validatorIds == null) {
             return null;
         }
 
-        return new BeanValidationMetadata(metadata, validatorIds);
+        return new BeanValidationMetadata(
+                metadata == null ? null : Collections.unmodifiableMap(metadata),
+                validatorIds == null ? null : Collections.unmodifiableList(validatorIds));
     }
 
     public static void registerConstraintMapping(Class<? extends Annotation> constraint, ClientValidationConstraint clientValidationConstraint) {
         CONSTRAINT_MAPPING.put(constraint.getName(), clientValidationConstraint);
+        MAPPING_VERSION.incrementAndGet();
     }
 
     public static ClientValidationConstraint removeConstraintMapping(Class<? extends Annotation> constraint) {
-        return CONSTRAINT_MAPPING.remove(constraint.getName());
+        ClientValidationConstraint removed = CONSTRAINT_MAPPING.remove(constraint.getName());
+        MAPPING_VERSION.incrementAndGet();
+        return removed;
     }
 }
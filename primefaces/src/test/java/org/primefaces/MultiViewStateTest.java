@@ -0,0 +1,137 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2021 PrimeTek
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.faces.context.ExternalContext;
+import javax.faces.context.FacesContext;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.primefaces.component.tabview.TabViewState;
+import org.primefaces.config.PrimeConfiguration;
+import org.primefaces.config.PrimeEnvironment;
+import org.primefaces.context.PrimeApplicationContext;
+import org.primefaces.multiviewstate.MultiViewStateKey;
+import org.primefaces.multiviewstate.SessionMultiViewStateStore;
+
+public class MultiViewStateTest {
+
+    private FacesContext context;
+    private ExternalContext externalContext;
+    private CountingStore store;
+    private PrimeFaces.MultiViewState multiViewState;
+
+    @BeforeEach
+    public void setup() {
+        store = new CountingStore();
+        PrimeConfiguration config = mock(PrimeConfiguration.class);
+        when(config.getMultiViewStateMaxEntries()).thenReturn(10);
+        PrimeApplicationContext applicationContext = mock(PrimeApplicationContext.class);
+        when(applicationContext.getMultiViewStateStore()).thenReturn(store);
+        when(applicationContext.getConfig()).thenReturn(config);
+        when(applicationContext.getEnvironment()).thenReturn(mock(PrimeEnvironment.class));
+
+        Map<String, Object> applicationMap = new HashMap<>();
+        applicationMap.put(PrimeApplicationContext.INSTANCE_KEY, applicationContext);
+        Object session = new Object();
+        externalContext = mock(ExternalContext.class);
+        when(externalContext.getApplicationMap()).thenReturn(applicationMap);
+        when(externalContext.getSessionMap()).thenReturn(new HashMap<>());
+        when(externalContext.getSession(true)).thenReturn(session);
+        when(externalContext.getSession(false)).thenReturn(session);
+        context = mock(FacesContext.class);
+        when(context.getExternalContext()).thenReturn(externalContext);
+
+        multiViewState = new PrimeFaces() {
+            @Override
+            protected FacesContext getFacesContext() {
+                return context;
+            }
+        }.multiViewState();
+    }
+
+    @Test
+    public void onlyChangedStatesStoredAgain() {
+        newRequest();
+        TabViewState state = multiViewState.get("/view.xhtml", "tabView", true, TabViewState::new);
+        state.setActiveIndex(1);
+        multiViewState.flush();
+        // stored on creation and again with the changes
+        assertEquals(2, store.puts);
+
+        // only read
+        newRequest();
+        assertNotNull(multiViewState.get("/view.xhtml", "tabView"));
+        assertNotNull(multiViewState.get("/view.xhtml", "tabView"));
+        multiViewState.flush();
+        assertEquals(2, store.puts);
+
+        // read, then changed
+        newRequest();
+        assertNotNull(multiViewState.get("/view.xhtml", "tabView"));
+        state = multiViewState.get("/view.xhtml", "tabView", true, TabViewState::new);
+        state.setActiveIndex(2);
+        multiViewState.flush();
+        assertEquals(3, store.puts);
+    }
+
+    @Test
+    public void flushWithoutSession() {
+        newRequest();
+        multiViewState.get("/view.xhtml", "tabView", true, TabViewState::new);
+        multiViewState.flush();
+        assertEquals(2, store.puts);
+
+        // e.g. invalidated during the request, the session must not be created again
+        newRequest();
+        TabViewState state = multiViewState.get("/view.xhtml", "tabView", true, TabViewState::new);
+        state.setActiveIndex(2);
+        when(externalContext.getSession(false)).thenReturn(null);
+        multiViewState.flush();
+        assertEquals(2, store.puts);
+    }
+
+    private void newRequest() {
+        when(context.getAttributes()).thenReturn(new HashMap<>());
+    }
+
+    private static class CountingStore extends SessionMultiViewStateStore {
+
+        private int puts;
+
+        @Override
+        public void put(FacesContext context, String windowId, MultiViewStateKey key, Object state) {
+            puts++;
+            super.put(context, windowId, key, state);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2021 PrimeTek
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.application.resource;
+
+import javax.faces.FacesException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class DynamicContentSignerTest {
+
+    private static final String SECRET = "0123456789abcdef0123456789abcdef";
+
+    @Test
+    public void signAndVerify() {
+        DynamicContentSigner signer = new DynamicContentSigner(SECRET);
+        String expression = "#{catalog.image(item.id)}";
+
+        String resourceKey = signer.sign(expression);
+
+        Assertions.assertTrue(DynamicContentSigner.isSigned(resourceKey));
+        Assertions.assertEquals(expression, signer.verify(resourceKey));
+        // stable, so the URLs can be cached
+        Assertions.assertEquals(resourceKey, signer.sign(expression));
+        // same secret on another node
+        Assertions.assertEquals(expression, new DynamicContentSigner(SECRET).verify(resourceKey));
+    }
+
+    @Test
+    public void rejectInvalidKeys() {
+        DynamicContentSigner signer = new DynamicContentSigner(SECRET);
+        String resourceKey = signer.sign("#{catalog.image}");
+        String forged = new DynamicContentSigner("fedcba9876543210fedcba9876543210").sign("#{catalog.delete()}");
+        String tampered = signer.sign("#{catalog.delete()}").substring(0, resourceKey.indexOf('.'))
+                + resourceKey.substring(resourceKey.indexOf('.'));
+
+        Assertions.assertNull(signer.verify(forged));
+        Assertions.assertNull(signer.verify(tampered));
+        Assertions.assertNull(signer.verify("abc.%%%"));
+        Assertions.assertNull(signer.verify("d41d8cd98f00b204e9800998ecf8427e"));
+        Assertions.assertNull(new DynamicContentSigner(null).verify(resourceKey));
+    }
+
+    @Test
+    public void rejectShortSecret() {
+        Assertions.assertThrows(FacesException.class, () -> new DynamicContentSigner("secret"));
+        Assertions.assertThrows(FacesException.class, () -> new DynamicContentSigner(SECRET.substring(1)));
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2021 PrimeTek
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.application.resource;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class StreamedContentHandlerTest {
+
+    @Test
+    public void parseSingleRanges() {
+        assertArrayEquals(new long[] {0, 99}, StreamedContentHandler.parseRanges("bytes=0-99", 1000, false).get(0));
+        assertArrayEquals(new long[] {500, 999}, StreamedContentHandler.parseRanges("bytes=500-", 1000, false).get(0));
+        assertArrayEquals(new long[] {900, 999}, StreamedContentHandler.parseRanges("bytes=-100", 1000, false).get(0));
+        assertArrayEquals(new long[] {900, 999}, StreamedContentHandler.parseRanges("bytes=900-5000", 1000, false).get(0));
+    }
+
+    @Test
+    public void parseMultipleRanges() {
+        List<long[]> ranges = StreamedContentHandler.parseRanges("bytes=0-9, 20-29", 100, false);
+        assertEquals(2, ranges.size());
+        assertArrayEquals(new long[] {20, 29}, ranges.get(1));
+
+        // overlapping ranges can only be served from random access content
+        assertNull(StreamedContentHandler.parseRanges("bytes=20-29,0-9", 100, false));
+        assertEquals(2, StreamedContentHandler.parseRanges("bytes=20-29,0-9", 100, true).size());
+    }
+
+    @Test
+    public void parseInvalidOrUnsatisfiableRanges() {
+        assertNull(StreamedContentHandler.parseRanges(null, 100, false));
+        assertNull(StreamedContentHandler.parseRanges("items=0-9", 100, false));
+        assertNull(StreamedContentHandler.parseRanges("bytes=abc", 100, false));
+        assertNull(StreamedContentHandler.parseRanges("bytes=9-0", 100, false));
+        assertTrue(StreamedContentHandler.parseRanges("bytes=100-199", 100, false).isEmpty());
+    }
+
+    @Test
+    public void matchETags() {
+        assertTrue(StreamedContentHandler.matchesETag("\"abc\"", "\"abc\"", true));
+        assertTrue(StreamedContentHandler.matchesETag("\"xyz\", W/\"abc\"", "\"abc\"", false));
+        assertFalse(StreamedContentHandler.matchesETag("W/\"abc\"", "\"abc\"", true));
+        assertFalse(StreamedContentHandler.matchesETag("\"abc\"", "W/\"abc\"", true));
+        assertTrue(StreamedContentHandler.matchesETag("*", "\"abc\"", false));
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2021 PrimeTek
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+public class BoundedCacheProviderTest {
+
+    @Test
+    public void evictsLeastRecentlyUsed() {
+        BoundedCacheProvider provider = new BoundedCacheProvider(3, Collections.emptyMap(), 0);
+        provider.put("r", "a", "A");
+        provider.put("r", "b", "B");
+        provider.put("r", "c", "C");
+
+        // promote "a" to the protected segment
+        assertEquals("A", provider.get("r", "a"));
+
+        provider.put("r", "d", "D");
+
+        assertEquals(3, provider.size("r"));
+        assertEquals("A", provider.get("r", "a"));
+        assertNull(provider.get("r", "b"));
+        assertEquals(1, provider.getEvictionCount());
+    }
+
+    @Test
+    public void regionLimits() {
+        BoundedCacheProvider provider = new BoundedCacheProvider(10, Collections.singletonMap("small", 1), 0);
+        provider.put("small", "a", "A");
+        provider.put("small", "b", "B");
+        provider.put("large", "a", "A");
+        provider.put("large", "b", "B");
+
+        assertEquals(1, provider.size("small"));
+        assertEquals(2, provider.size("large"));
+    }
+
+    @Test
+    public void totalLimit() {
+        BoundedCacheProvider provider = new BoundedCacheProvider(10, 4, Collections.emptyMap(), 0);
+        provider.put("/a.xhtml", "1", "A1");
+        provider.put("/a.xhtml", "2", "A2");
+        provider.put("/b.xhtml", "1", "B1");
+        provider.put("/b.xhtml", "2", "B2");
+        assertEquals("A1", provider.get("/a.xhtml", "1"));
+
+        // evicts from the least recently used region "/b.xhtml"
+        provider.put("/c.xhtml", "1", "C1");
+        provider.put("/c.xhtml", "2", "C2");
+
+        assertEquals(4, provider.size());
+        assertEquals(2, provider.size("/a.xhtml"));
+        assertEquals(0, provider.size("/b.xhtml"));
+        assertEquals(2, provider.size("/c.xhtml"));
+        assertEquals(2, provider.getEvictionCount());
+    }
+
+    @Test
+    public void emptyRegionsAreDropped() {
+        BoundedCacheProvider provider = new BoundedCacheProvider(10, Collections.emptyMap(), 0);
+        provider.put("r", "a", "A");
+        provider.remove("r", "a");
+        provider.put("r", "b", "B");
+        provider.clear();
+        provider.put("r", "c", "C");
+
+        assertEquals(1, provider.size());
+        assertEquals("C", provider.get("r", "c"));
+    }
+
+    @Test
+    public void expireAfterWrite() throws InterruptedException {
+        BoundedCacheProvider provider = new BoundedCacheProvider(10, Collections.emptyMap(), 1);
+        provider.put("r", "a", "A");
+        Thread.sleep(5);
+
+        assertNull(provider.get("r", "a"));
+        assertEquals(0, provider.size("r"));
+        assertEquals(1, provider.getMissCount());
+        assertEquals(1, provider.getEvictionCount());
+    }
+
+    @Test
+    public void invalidateTag() {
+        BoundedCacheProvider provider = new BoundedCacheProvider(10, Collections.emptyMap(), 0);
+        provider.put("r1", "a", "A", Arrays.asList("menu", "nav"));
+        provider.put("r2", "b", "B", Collections.singletonList("menu"));
+        provider.put("r2", "c", "C");
+
+        provider.invalidate("menu");
+
+        assertNull(provider.get("r1", "a"));
+        assertNull(provider.get("r2", "b"));
+        assertEquals("C", provider.get("r2", "c"));
+        assertEquals(1, provider.getHitCount());
+        assertEquals(2, provider.getMissCount());
+    }
+
+    @Test
+    public void parseRegionMaxEntries() {
+        assertEquals(Integer.valueOf(100), BoundedCacheProvider.parseRegionMaxEntries("/index.xhtml=100, menu=10").get("/index.xhtml"));
+        assertEquals(Integer.valueOf(10), BoundedCacheProvider.parseRegionMaxEntries("/index.xhtml=100, menu=10").get("menu"));
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2021 PrimeTek
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+public class DefaultCacheProviderTest {
+
+    @Test
+    public void invalidateTag() {
+        DefaultCacheProvider provider = new DefaultCacheProvider();
+        provider.put("r1", "a", "A", Arrays.asList("menu", "nav"));
+        provider.put("r2", "b", "B", Collections.singletonList("menu"));
+        provider.put("r2", "c", "C");
+
+        provider.invalidate("menu");
+
+        assertNull(provider.get("r1", "a"));
+        assertNull(provider.get("r2", "b"));
+        assertEquals("C", provider.get("r2", "c"));
+        assertEquals(0, provider.getTagCount());
+    }
+
+    @Test
+    public void pruneTagsOnRemove() {
+        DefaultCacheProvider provider = new DefaultCacheProvider();
+        provider.put("r", "a", "A", Arrays.asList("menu", "nav"));
+
+        provider.remove("r", "a");
+
+        assertEquals(0, provider.getTagCount());
+    }
+
+    @Test
+    public void pruneTagsOnOverwrite() {
+        DefaultCacheProvider provider = new DefaultCacheProvider();
+        provider.put("r", "a", "A", Arrays.asList("menu", "nav"));
+        provider.put("r", "a", "A2", Collections.singletonList("nav"));
+
+        assertEquals(1, provider.getTagCount());
+
+        provider.invalidate("menu");
+        assertEquals("A2", provider.get("r", "a"));
+
+        provider.put("r", "a", "A3");
+        assertEquals(0, provider.getTagCount());
+
+        provider.invalidate("nav");
+        assertEquals("A3", provider.get("r", "a"));
+    }
+}
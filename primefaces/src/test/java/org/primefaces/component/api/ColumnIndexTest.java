@@ -0,0 +1,181 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2021 PrimeTek
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.component.api;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.faces.FactoryFinder;
+import javax.faces.component.UINamingContainer;
+import javax.faces.component.UIViewRoot;
+import javax.faces.context.FacesContext;
+import javax.faces.event.PhaseId;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.primefaces.component.column.Column;
+import org.primefaces.component.datatable.DataTable;
+import org.primefaces.mock.FacesContextMock;
+import org.primefaces.mock.TestVisitContextFactory;
+
+public class ColumnIndexTest {
+
+    private PhaseAwareFacesContext context;
+    private AtomicInteger collected;
+    private DataTable table;
+    private Column name;
+    private Column repeated;
+
+    @BeforeEach
+    public void setup() {
+        Map<Object, Object> attributes = new HashMap<>();
+        attributes.put(UINamingContainer.SEPARATOR_CHAR_PARAM_NAME, ':');
+
+        context = new PhaseAwareFacesContext(attributes);
+        context.setViewRoot(new UIViewRoot());
+        FactoryFinder.setFactory(FactoryFinder.VISIT_CONTEXT_FACTORY, TestVisitContextFactory.class.getName());
+
+        collected = new AtomicInteger();
+        table = new DataTable() {
+            @Override
+            public Map<String, UIColumn> collectColumnIndex() {
+                collected.incrementAndGet();
+                return super.collectColumnIndex();
+            }
+        };
+        table.setId("tbl");
+        context.getViewRoot().getChildren().add(table);
+
+        name = new Column();
+        name.setId("name");
+        table.getChildren().add(name);
+
+        UIRepeat repeat = new UIRepeat();
+        repeat.setId("repeat");
+        table.getChildren().add(repeat);
+
+        repeated = new Column();
+        repeated.setId("repeated");
+        repeat.getChildren().add(repeated);
+    }
+
+    @Test
+    public void lookupIsKeptForThePhase() {
+        context.setCurrentPhaseId(PhaseId.INVOKE_APPLICATION);
+
+        Assertions.assertSame(name, table.findColumn("tbl:name"));
+        Assertions.assertSame(name, table.findColumn("tbl:name"));
+        Assertions.assertSame(name, invokeOnColumn("tbl:name"));
+        Assertions.assertEquals(1, collected.get());
+
+        context.setCurrentPhaseId(PhaseId.PROCESS_VALIDATIONS);
+        Assertions.assertSame(name, table.findColumn("tbl:name"));
+        Assertions.assertEquals(2, collected.get());
+    }
+
+    @Test
+    public void lookupIsCachedDuringRenderResponse() {
+        context.setCurrentPhaseId(PhaseId.RENDER_RESPONSE);
+
+        Assertions.assertSame(name, table.findColumn("tbl:name"));
+        Assertions.assertSame(name, invokeOnColumn("tbl:name"));
+        Assertions.assertEquals(1, collected.get());
+        Assertions.assertNull(context.getAttributes().get(ColumnIndex.class.getName()));
+    }
+
+    @Test
+    public void columnsInsideUIRepeatAreNotIndexed() {
+        context.setCurrentPhaseId(PhaseId.INVOKE_APPLICATION);
+
+        Assertions.assertFalse(table.getColumnIndex().containsKey(repeated.getColumnKey()));
+        Assertions.assertSame(repeated, invokeOnColumn(repeated.getColumnKey()));
+    }
+
+    @Test
+    public void noIndexInsideRowState() {
+        context.setCurrentPhaseId(PhaseId.INVOKE_APPLICATION);
+        table.setRowIndex(0);
+        try {
+            Assertions.assertTrue(table.getColumnIndex().isEmpty());
+            Assertions.assertEquals(0, collected.get());
+        }
+        finally {
+            table.setRowIndex(-1);
+        }
+    }
+
+    @Test
+    public void resetInvalidatesIndex() {
+        context.setCurrentPhaseId(PhaseId.INVOKE_APPLICATION);
+        Assertions.assertSame(name, table.findColumn("tbl:name"));
+
+        Column added = new Column();
+        added.setId("added");
+        table.getChildren().add(added);
+
+        table.resetColumnIndex();
+        Assertions.assertSame(added, table.findColumn("tbl:added"));
+        Assertions.assertEquals(2, collected.get());
+
+        context.setCurrentPhaseId(PhaseId.RENDER_RESPONSE);
+        Assertions.assertSame(added, table.findColumn("tbl:added"));
+        table.getChildren().remove(added);
+        table.setColumns(null);
+        Assertions.assertNull(table.getColumnIndex().get("tbl:added"));
+    }
+
+    private UIColumn invokeOnColumn(String columnKey) {
+        AtomicReference<UIColumn> found = new AtomicReference<>();
+        table.invokeOnColumn(columnKey, found::set);
+        return found.get();
+    }
+
+    /**
+     * Matched by its name like the ui:repeat of Mojarra and MyFaces.
+     */
+    public static class UIRepeat extends UINamingContainer {
+    }
+
+    private static class PhaseAwareFacesContext extends FacesContextMock {
+
+        private PhaseId phaseId;
+
+        PhaseAwareFacesContext(Map<Object, Object> attributes) {
+            super(attributes);
+        }
+
+        @Override
+        public PhaseId getCurrentPhaseId() {
+            return phaseId;
+        }
+
+        @Override
+        public void setCurrentPhaseId(PhaseId phaseId) {
+            this.phaseId = phaseId;
+        }
+    }
+}
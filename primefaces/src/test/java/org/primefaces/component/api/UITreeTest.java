@@ -0,0 +1,186 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2021 PrimeTek
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.component.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.faces.component.UINamingContainer;
+import javax.faces.component.UIViewRoot;
+import javax.faces.context.FacesContext;
+import javax.faces.event.PhaseId;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.primefaces.component.tree.Tree;
+import org.primefaces.mock.FacesContextMock;
+import org.primefaces.model.DefaultTreeNode;
+import org.primefaces.model.FilterMeta;
+import org.primefaces.model.LazyTreeModel;
+import org.primefaces.model.SortMeta;
+import org.primefaces.model.TreeNode;
+
+public class UITreeTest {
+
+    private FacesContext context;
+    private AtomicInteger walks;
+    private Tree tree;
+
+    @BeforeEach
+    public void setup() {
+        context = createContext();
+
+        walks = new AtomicInteger();
+        tree = new Tree() {
+            @Override
+            protected TreeNode<?> findTreeNode(TreeNode<?> searchRoot, String rowKey) {
+                walks.incrementAndGet();
+                return super.findTreeNode(searchRoot, rowKey);
+            }
+        };
+        tree.setId("tree");
+    }
+
+    @Test
+    public void resolveTreeNodeIgnoresDetachedNodes() {
+        TreeNode<String> root = new DefaultTreeNode<>("root", null);
+        TreeNode<String> first = new DefaultTreeNode<>("first", root);
+        TreeNode<String> second = new DefaultTreeNode<>("second", root);
+        TreeNode<String> third = new DefaultTreeNode<>("third", root);
+
+        assertSame(second, tree.resolveTreeNode(context, root, "1"));
+        assertSame(third, tree.resolveTreeNode(context, root, "2"));
+
+        // the detached node keeps its rowKey, the index must not return it anymore
+        root.getChildren().remove(second);
+        assertSame(third, tree.resolveTreeNode(context, root, "1"));
+        assertSame(first, tree.resolveTreeNode(context, root, "0"));
+
+        root.getChildren().remove(third);
+        assertNull(tree.resolveTreeNode(context, root, "1"));
+    }
+
+    @Test
+    public void resolveTreeNodeIgnoresNodesOfResetLazyModel() {
+        LazyTreeModel<String> model = new LazyTreeModel<String>("", 0) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public int countChildren(String parent, Map<String, FilterMeta> filterBy) {
+                return parent.isEmpty() ? 3 : 0;
+            }
+
+            @Override
+            public List<String> loadChildren(String parent, int first, int pageSize, Map<String, SortMeta> sortBy,
+                    Map<String, FilterMeta> filterBy) {
+                List<String> children = new ArrayList<>();
+                for (int i = first; i < countChildren(parent, filterBy); i++) {
+                    children.add(String.valueOf(i));
+                }
+                return children;
+            }
+        };
+        TreeNode<String> root = model.getRoot();
+
+        TreeNode<?> node = tree.resolveTreeNode(context, root, "1");
+        assertEquals("1", node.getData());
+
+        // the root stays the same, but its children are loaded again
+        model.reset();
+        TreeNode<?> reloaded = tree.resolveTreeNode(context, root, "1");
+        assertNotSame(node, reloaded);
+        assertSame(root.getChildren().get(1), reloaded);
+    }
+
+    @Test
+    public void resolveTreeNodeThroughBuiltRowKeys() {
+        TreeNode<String> root = new DefaultTreeNode<>("root", null);
+        TreeNode<String> first = new DefaultTreeNode<>("first", root);
+        first.setExpanded(true);
+        TreeNode<String> child = new DefaultTreeNode<>("child", first);
+
+        tree.buildRowKeys(root);
+        assertSame(first, tree.resolveTreeNode(context, root, "0"));
+        assertSame(child, tree.resolveTreeNode(context, root, "0_0"));
+        assertEquals(0, walks.get());
+    }
+
+    @Test
+    public void resolveTreeNodeAfterInvokeApplication() {
+        TreeNode<String> root = new DefaultTreeNode<>("root", null);
+        TreeNode<String> first = new DefaultTreeNode<>("first", root);
+        TreeNode<String> second = new DefaultTreeNode<>("second", root);
+        TreeNode<String> firstChild = new DefaultTreeNode<>("firstChild", first);
+        TreeNode<String> secondChild = new DefaultTreeNode<>("secondChild", second);
+
+        context.setCurrentPhaseId(PhaseId.APPLY_REQUEST_VALUES);
+        assertSame(firstChild, tree.resolveTreeNode(context, root, "0_0"));
+
+        // the decode phases share the index
+        context.setCurrentPhaseId(PhaseId.UPDATE_MODEL_VALUES);
+        assertSame(firstChild, tree.resolveTreeNode(context, root, "0_0"));
+        assertEquals(1, walks.get());
+
+        // an action removes the parent of an indexed node
+        context.setCurrentPhaseId(PhaseId.INVOKE_APPLICATION);
+        root.getChildren().remove(first);
+        assertSame(secondChild, tree.resolveTreeNode(context, root, "0_0"));
+
+        root.getChildren().add(0, first);
+        tree.resetRowKeyIndex();
+        assertSame(firstChild, tree.resolveTreeNode(context, root, "0_0"));
+    }
+
+    @Test
+    public void requestStateIsNotKeptByComponent() {
+        TreeNode<String> root = new DefaultTreeNode<>("root", null);
+        new DefaultTreeNode<>("first", root);
+
+        tree.resolveTreeNode(context, root, "0");
+        tree.resolveTreeNode(context, root, "0");
+        assertEquals(1, walks.get());
+
+        context = createContext();
+        tree.resolveTreeNode(context, root, "0");
+        assertEquals(2, walks.get());
+    }
+
+    private static FacesContext createContext() {
+        Map<Object, Object> attributes = new HashMap<>();
+        attributes.put(UINamingContainer.SEPARATOR_CHAR_PARAM_NAME, ':');
+
+        FacesContext context = new FacesContextMock(attributes);
+        context.setViewRoot(new UIViewRoot());
+        return context;
+    }
+}
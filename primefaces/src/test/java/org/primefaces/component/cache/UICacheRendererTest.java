@@ -0,0 +1,121 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2021 PrimeTek
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.component.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.faces.context.ExternalContext;
+import javax.faces.context.FacesContext;
+import javax.faces.context.ResponseWriter;
+
+import org.junit.jupiter.api.Test;
+import org.primefaces.cache.BoundedCacheProvider;
+import org.primefaces.context.PrimeApplicationContext;
+
+public class UICacheRendererTest {
+
+    private static final int THREADS = 8;
+
+    @Test
+    public void rendersOncePerKey() throws Exception {
+        List<String> written = Collections.synchronizedList(new ArrayList<>());
+        ResponseWriter writer = mock(ResponseWriter.class);
+        doAnswer(invocation -> written.add(invocation.getArgument(0))).when(writer).write(anyString());
+
+        PrimeApplicationContext applicationContext = mock(PrimeApplicationContext.class);
+        when(applicationContext.getCacheProvider()).thenReturn(new BoundedCacheProvider(10, Collections.emptyMap(), 0));
+        Map<String, Object> applicationMap = new HashMap<>();
+        applicationMap.put(PrimeApplicationContext.INSTANCE_KEY, applicationContext);
+        ExternalContext externalContext = mock(ExternalContext.class);
+        when(externalContext.getApplicationMap()).thenReturn(applicationMap);
+        FacesContext context = mock(FacesContext.class);
+        when(context.getExternalContext()).thenReturn(externalContext);
+        when(context.getResponseWriter()).thenReturn(writer);
+
+        UICache uiCache = mock(UICache.class);
+        when(uiCache.getRegion()).thenReturn("region");
+        when(uiCache.getKey()).thenReturn("key");
+
+        AtomicInteger renderings = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch arrived = new CountDownLatch(THREADS);
+        UICacheRenderer renderer = new UICacheRenderer() {
+            @Override
+            protected String renderToString(FacesContext context, UICache uiCache) throws IOException {
+                renderings.incrementAndGet();
+                try {
+                    // keep rendering until all other requests missed the cache
+                    arrived.await(5, TimeUnit.SECONDS);
+                    Thread.sleep(50);
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "output";
+            }
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    arrived.countDown();
+                    renderer.encodeChildren(context, uiCache);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        }
+        finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, renderings.get());
+        assertEquals(THREADS, written.size());
+        assertTrue(written.stream().allMatch("output"::equals));
+    }
+}
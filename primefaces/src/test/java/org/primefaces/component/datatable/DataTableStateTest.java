@@ -0,0 +1,89 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2021 PrimeTek
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.component.datatable;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.primefaces.model.FilterMeta;
+import org.primefaces.model.MatchMode;
+import org.primefaces.model.SortMeta;
+import org.primefaces.model.SortOrder;
+
+import javax.el.ValueExpression;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.mockito.Mockito.mock;
+
+public class DataTableStateTest {
+
+    @Test
+    public void serializeWithoutExpressions() throws Exception {
+        ValueExpression expression = mock(ValueExpression.class);
+
+        Map<String, SortMeta> sortBy = new HashMap<>();
+        sortBy.put("name", SortMeta.builder().field("name").sortBy(expression).order(SortOrder.DESCENDING).priority(2).build());
+        Map<String, FilterMeta> filterBy = new HashMap<>();
+        filterBy.put("name", FilterMeta.builder().field("name").filterBy(expression).filterValue("foo").matchMode(MatchMode.EXACT).build());
+
+        DataTableState state = new DataTableState();
+        state.setSortBy(sortBy);
+        state.setFilterBy(filterBy);
+        state.setFirst(20);
+        state.setRows(10);
+
+        DataTableState copy = roundTrip(state);
+
+        SortMeta sortMeta = copy.getSortBy().get("name");
+        Assertions.assertNull(sortMeta.getSortBy());
+        Assertions.assertEquals(SortOrder.DESCENDING, sortMeta.getOrder());
+        Assertions.assertEquals(2, sortMeta.getPriority());
+
+        FilterMeta filterMeta = copy.getFilterBy().get("name");
+        Assertions.assertNull(filterMeta.getFilterBy());
+        Assertions.assertEquals("foo", filterMeta.getFilterValue());
+        Assertions.assertEquals(MatchMode.EXACT, filterMeta.getMatchMode());
+
+        Assertions.assertEquals(20, copy.getFirst());
+        Assertions.assertEquals(10, copy.getRows());
+
+        // the live state must keep its expressions
+        Assertions.assertSame(expression, state.getSortBy().get("name").getSortBy());
+    }
+
+    private static DataTableState roundTrip(DataTableState state) throws IOException, ClassNotFoundException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(state);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return (DataTableState) in.readObject();
+        }
+    }
+}
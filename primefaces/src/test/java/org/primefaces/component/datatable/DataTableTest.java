@@ -31,11 +31,17 @@ import org.primefaces.component.column.Column;
 import org.primefaces.component.columns.Columns;
 import org.primefaces.el.MyBean;
 import org.primefaces.el.MyContainer;
+import org.primefaces.model.SelectableDataModel;
 import org.primefaces.mock.FacesContextMock;
 
 import javax.el.ExpressionFactory;
 import javax.el.ValueExpression;
 import javax.faces.context.FacesContext;
+import javax.faces.model.ListDataModel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 
 import static org.mockito.Mockito.*;
 
@@ -104,4 +110,58 @@ public class DataTableTest {
                 context.getELContext(), "#{i18n[row][column[property]]}", String.class);
         Assertions.assertNull(column.resolveField(context, exprVE));
     }
+
+    @Test
+    public void rowDataOfMultipleKeysWithSinglePass() {
+        List<String> scanned = new ArrayList<>();
+        DataTable table = new DataTable() {
+            @Override
+            public String getRowKey(Object object) {
+                scanned.add((String) object);
+                return (String) object;
+            }
+        };
+        table.setValue(Arrays.asList("a", "b", "c", "d", "e"));
+
+        Map<String, Object> rowData = table.getRowData(Arrays.asList("b", "d", "x"));
+        Assertions.assertEquals(2, rowData.size());
+        Assertions.assertEquals("b", rowData.get("b"));
+        Assertions.assertEquals("d", rowData.get("d"));
+        Assertions.assertEquals(5, scanned.size());
+
+        // stops once all keys are found
+        scanned.clear();
+        rowData = table.getRowData(Arrays.asList("a", "b"));
+        Assertions.assertEquals(2, rowData.size());
+        Assertions.assertEquals(Arrays.asList("a", "b"), scanned);
+    }
+
+    @Test
+    public void rowDataOfMultipleKeysViaSelectableDataModel() {
+        DataTable table = new DataTable();
+        table.setValue(new SelectableListDataModel(Arrays.asList("a", "b", "c")));
+
+        Map<String, Object> rowData = table.getRowData(Arrays.asList("A", "C", "X"));
+
+        Assertions.assertEquals(2, rowData.size());
+        Assertions.assertEquals("a", rowData.get("A"));
+        Assertions.assertEquals("c", rowData.get("C"));
+    }
+
+    private static class SelectableListDataModel extends ListDataModel<String> implements SelectableDataModel<String> {
+
+        SelectableListDataModel(List<String> list) {
+            super(list);
+        }
+
+        @Override
+        public String getRowKey(String object) {
+            return object.toUpperCase();
+        }
+
+        @Override
+        public String getRowData(String rowKey) {
+            return ((List<String>) getWrappedData()).stream().filter(s -> getRowKey(s).equals(rowKey)).findFirst().orElse(null);
+        }
+    }
 }
@@ -0,0 +1,141 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2021 PrimeTek
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.component.datatable.export;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.faces.context.FacesContext;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.primefaces.component.datatable.DataTable;
+import org.primefaces.component.export.ExportConfiguration;
+import org.primefaces.model.FilterMeta;
+import org.primefaces.model.LazyDataModel;
+import org.primefaces.model.SortMeta;
+
+public class DataTableExporterTest {
+
+    @Test
+    public void exportLazyInChunks() {
+        PagingModel model = new PagingModel(25);
+        DataTable table = mock(DataTable.class);
+        when(table.getActiveSortMeta()).thenReturn(Collections.emptyMap());
+        when(table.getActiveFilterMeta()).thenReturn(Collections.emptyMap());
+        RecordingExporter exporter = new RecordingExporter(model);
+
+        exporter.exportLazyChunks(table, null, model, 25, 10);
+
+        Assertions.assertEquals(IntStream.range(0, 25).boxed().collect(Collectors.toList()), exporter.exportedRows);
+        Assertions.assertEquals("0-10, 10-10, 20-10", String.join(", ", model.loads));
+        // only one chunk is kept in memory and it's released afterwards
+        Assertions.assertEquals(10, exporter.maxLoadedRows);
+        Assertions.assertNull(model.getWrappedData());
+    }
+
+    @Test
+    public void exportLazyInChunksStopsAtEnd() {
+        // e.g. rows were deleted since the row count was computed
+        PagingModel model = new PagingModel(12);
+        DataTable table = mock(DataTable.class);
+        RecordingExporter exporter = new RecordingExporter(model);
+
+        exporter.exportLazyChunks(table, null, model, 30, 10);
+
+        Assertions.assertEquals(12, exporter.exportedRows.size());
+        Assertions.assertEquals("0-10, 10-10, 20-10", String.join(", ", model.loads));
+    }
+
+    private static class PagingModel extends LazyDataModel<Integer> {
+
+        private final int size;
+        private final List<String> loads = new ArrayList<>();
+
+        PagingModel(int size) {
+            this.size = size;
+        }
+
+        @Override
+        public int count(Map<String, FilterMeta> filterBy) {
+            return size;
+        }
+
+        @Override
+        public List<Integer> load(int first, int pageSize, Map<String, SortMeta> sortBy, Map<String, FilterMeta> filterBy) {
+            loads.add(first + "-" + pageSize);
+            return IntStream.range(first, Math.min(first + pageSize, size)).boxed().collect(Collectors.toList());
+        }
+
+        @Override
+        public String getRowKey(Integer object) {
+            return String.valueOf(object);
+        }
+    }
+
+    private static class RecordingExporter extends DataTableExporter {
+
+        private final PagingModel model;
+        private final List<Integer> exportedRows = new ArrayList<>();
+        private int maxLoadedRows;
+
+        RecordingExporter(PagingModel model) {
+            this.model = model;
+        }
+
+        @Override
+        protected void exportRow(DataTable table, Object document, int rowIndex) {
+            exportedRows.add(rowIndex);
+            maxLoadedRows = Math.max(maxLoadedRows, model.getWrappedData().size());
+        }
+
+        @Override
+        protected void exportCells(DataTable table, Object document) {
+            // NOOP
+        }
+
+        @Override
+        protected void doExport(FacesContext facesContext, DataTable table, ExportConfiguration exportConfiguration, int index) throws IOException {
+            // NOOP
+        }
+
+        @Override
+        public String getContentType() {
+            return "text/plain";
+        }
+
+        @Override
+        public String getFileExtension() {
+            return ".txt";
+        }
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2021 PrimeTek
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.component.feedreader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class FeedCacheTest {
+
+    private FeedCache feedCache;
+    private Path feed;
+
+    @BeforeEach
+    public void setup() throws Exception {
+        feedCache = new FeedCache();
+        feed = Files.createTempFile("feed", ".xml");
+        writeFeed(2);
+    }
+
+    @AfterEach
+    public void teardown() throws Exception {
+        feedCache.release();
+        Files.deleteIfExists(feed);
+    }
+
+    private void writeFeed(int items) throws Exception {
+        StringBuilder xml = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?><rss version=\"2.0\"><channel>")
+                .append("<title>Test</title><link>https://www.primefaces.org</link><description>Test</description>");
+        for (int i = 0; i < items; i++) {
+            xml.append("<item><title>Item ").append(i).append("</title></item>");
+        }
+        xml.append("</channel></rss>");
+        Files.write(feed, xml.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void cachedUntilExpired() throws Exception {
+        String url = feed.toUri().toString();
+        List<?> entries = feedCache.getEntries(url, 60000);
+        assertEquals(2, entries.size());
+
+        writeFeed(3);
+        assertSame(entries, feedCache.getEntries(url, 60000));
+    }
+
+    @Test
+    public void staleWhileRefreshing() throws Exception {
+        String url = feed.toUri().toString();
+        List<?> entries = feedCache.getEntries(url, 60000);
+
+        writeFeed(3);
+        // expired, the stale entries are returned and the feed is refreshed in the background
+        assertSame(entries, feedCache.getEntries(url, 0));
+
+        long timeout = System.currentTimeMillis() + 5000;
+        while (feedCache.getEntries(url, 60000).size() != 3 && System.currentTimeMillis() < timeout) {
+            Thread.sleep(10);
+        }
+        assertEquals(3, feedCache.getEntries(url, 60000).size());
+    }
+
+    @Test
+    public void staleOnError() throws Exception {
+        String url = feed.toUri().toString();
+        List<?> entries = feedCache.getEntries(url, 60000);
+
+        Files.delete(feed);
+        assertSame(entries, feedCache.getEntries(url, 0));
+        Thread.sleep(200);
+        assertSame(entries, feedCache.getEntries(url, 60000));
+    }
+
+    @Test
+    public void failureCachedWithBackoff() throws Exception {
+        String url = feed.toUri().toString();
+        Files.delete(feed);
+
+        Exception failure = assertThrows(Exception.class, () -> feedCache.getEntries(url, 60000));
+
+        // the feed is available again, but the failure is cached until the backoff is over
+        writeFeed(2);
+        assertSame(failure, assertThrows(Exception.class, () -> feedCache.getEntries(url, 60000)));
+    }
+
+    @Test
+    public void concurrentFirstLoadsShareOneLoad() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        feedCache.release();
+        feedCache = new FeedCache() {
+            @Override
+            protected void load(CachedFeed feed) throws Exception {
+                loads.incrementAndGet();
+                Thread.sleep(200);
+                super.load(feed);
+            }
+        };
+
+        String url = feed.toUri().toString();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<List<?>>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return feedCache.getEntries(url, 60000);
+                }));
+            }
+            start.countDown();
+
+            List<?> entries = results.get(0).get(10, TimeUnit.SECONDS);
+            for (Future<List<?>> result : results) {
+                assertSame(entries, result.get(10, TimeUnit.SECONDS));
+            }
+        }
+        finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, loads.get());
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2021 PrimeTek
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.component.fileupload;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ChunkedUploadTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void rejectInvalidContentRange() throws IOException {
+        NativeFileUploadDecoder decoder = new NativeFileUploadDecoder();
+        FileUpload fileUpload = mock(FileUpload.class);
+        when(fileUpload.getMaxChunkSize()).thenReturn(100L);
+        when(fileUpload.getSizeLimit()).thenReturn(1000L);
+        Path chunksDir = tempDir.resolve("chunks");
+
+        decoder.validateContentRange(fileUpload, ContentRange.of("bytes 0-99/1000", 100), chunksDir);
+
+        // client claims a huge file, which would be preallocated
+        Assertions.assertThrows(IOException.class,
+                () -> decoder.validateContentRange(fileUpload, ContentRange.of("bytes 0-99/1099511627776", 100), chunksDir));
+        // chunk larger than maxChunkSize
+        Assertions.assertThrows(IOException.class,
+                () -> decoder.validateContentRange(fileUpload, ContentRange.of("bytes 0-199/1000", 100), chunksDir));
+        // gap after the uploaded bytes
+        Assertions.assertThrows(IOException.class,
+                () -> decoder.validateContentRange(fileUpload, ContentRange.of("bytes 500-599/1000", 100), chunksDir));
+        // range beyond the total size
+        Assertions.assertThrows(IOException.class,
+                () -> decoder.validateContentRange(fileUpload, ContentRange.of("bytes 0-99/50", 100), chunksDir));
+
+        Assertions.assertFalse(Files.exists(chunksDir));
+    }
+}
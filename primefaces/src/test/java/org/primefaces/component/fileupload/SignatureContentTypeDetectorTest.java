@@ -0,0 +1,145 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2021 PrimeTek
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.component.fileupload;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.Test;
+
+public class SignatureContentTypeDetectorTest {
+
+    private final SignatureContentTypeDetector detector = new SignatureContentTypeDetector();
+
+    @Test
+    public void detectImagesAndPdf() {
+        assertEquals("image/png", detector.probeContentType(bytes(0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A, 0, 0), "a.png"));
+        assertEquals("image/jpeg", detector.probeContentType(bytes(0xFF, 0xD8, 0xFF, 0xE0), "a.txt"));
+        assertEquals("image/gif", detector.probeContentType("GIF89a...".getBytes(StandardCharsets.US_ASCII), null));
+        assertEquals("image/webp", detector.probeContentType("RIFF\0\0\0\0WEBPVP8 ".getBytes(StandardCharsets.US_ASCII), null));
+        assertEquals("application/pdf", detector.probeContentType("%PDF-1.7".getBytes(StandardCharsets.US_ASCII), "a.png"));
+    }
+
+    @Test
+    public void detectZipBasedTypes() throws IOException {
+        assertEquals("application/vnd.openxmlformats-officedocument.wordprocessingml.document",
+                detector.probeContentType(zip("[Content_Types].xml", "word/document.xml"), "a.zip"));
+        assertEquals("application/vnd.oasis.opendocument.text",
+                detector.probeContentType(zip("mimetype"), "a.odt"));
+        assertEquals("application/java-archive", detector.probeContentType(zip("META-INF/MANIFEST.MF"), "a.zip"));
+    }
+
+    @Test
+    public void leaveContainersWithoutProvableSubtype() throws IOException {
+        // the FileTypeDetector decides, the file name is not used
+        assertNull(detector.probeContentType(zip("a.txt"), "a.zip"));
+        assertNull(detector.probeContentType(zip("a.txt"), "a.docx"));
+        assertNull(detector.probeContentType(zip("[Content_Types].xml"), "a.xlsx"));
+        assertNull(detector.probeContentType(zip("a.txt"), "a.jar"));
+    }
+
+    @Test
+    public void leaveOle2Documents() {
+        byte[] doc = new byte[512];
+        System.arraycopy(bytes(0xD0, 0xCF, 0x11, 0xE0, 0xA1, 0xB1, 0x1A, 0xE1), 0, doc, 0, 8);
+
+        assertNull(detector.probeContentType(doc, "a.doc"));
+    }
+
+    @Test
+    public void leaveLargeDocxWithContentTypesAfterHeader() throws IOException {
+        // e.g. a docx written by a tool which doesn't store [Content_Types].xml first
+        byte[] content = new byte[3 * detector.getHeaderSize()];
+        new Random(42).nextBytes(content);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(out)) {
+            zip.putNextEntry(new ZipEntry("media/image1.bin"));
+            zip.write(content);
+            zip.closeEntry();
+            zip.putNextEntry(new ZipEntry("[Content_Types].xml"));
+            zip.closeEntry();
+            zip.putNextEntry(new ZipEntry("word/document.xml"));
+            zip.closeEntry();
+        }
+        byte[] header = Arrays.copyOf(out.toByteArray(), detector.getHeaderSize());
+
+        assertNull(detector.probeContentType(header, "a.docx"));
+    }
+
+    @Test
+    public void detectBmpOnlyWithValidHeader() {
+        byte[] bmp = bytes('B', 'M', 0x46, 0, 0, 0, 0, 0, 0, 0, 0x36, 0, 0, 0, 40, 0, 0, 0, 1, 0);
+
+        assertEquals("image/bmp", detector.probeContentType(bmp, "a.txt"));
+        assertNull(detector.probeContentType("BMW 320d, 2019, 84000 km".getBytes(StandardCharsets.US_ASCII), "cars.txt"));
+        assertNull(detector.probeContentType("BM".getBytes(StandardCharsets.US_ASCII), "a.bmp"));
+    }
+
+    @Test
+    public void unknownContent() {
+        assertNull(detector.probeContentType("hello world".getBytes(StandardCharsets.US_ASCII), "a.txt"));
+        assertNull(detector.probeContentType(new byte[0], "a.png"));
+    }
+
+    private static byte[] bytes(int... values) {
+        byte[] bytes = new byte[values.length];
+        for (int i = 0; i < values.length; i++) {
+            bytes[i] = (byte) values[i];
+        }
+        return bytes;
+    }
+
+    private static byte[] zip(String... entries) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(out)) {
+            for (String entry : entries) {
+                if ("mimetype".equals(entry)) {
+                    byte[] mimetype = "application/vnd.oasis.opendocument.text".getBytes(StandardCharsets.US_ASCII);
+                    CRC32 crc = new CRC32();
+                    crc.update(mimetype);
+                    ZipEntry zipEntry = new ZipEntry(entry);
+                    zipEntry.setMethod(ZipEntry.STORED);
+                    zipEntry.setSize(mimetype.length);
+                    zipEntry.setCrc(crc.getValue());
+                    zip.putNextEntry(zipEntry);
+                    zip.write(mimetype);
+                }
+                else {
+                    zip.putNextEntry(new ZipEntry(entry));
+                }
+                zip.closeEntry();
+            }
+        }
+        return out.toByteArray();
+    }
+}
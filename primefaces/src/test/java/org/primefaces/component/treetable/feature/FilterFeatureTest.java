@@ -0,0 +1,221 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2021 PrimeTek
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.component.treetable.feature;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.el.ValueExpression;
+import javax.faces.component.UINamingContainer;
+import javax.faces.component.UIViewRoot;
+import javax.faces.context.ExternalContext;
+import javax.faces.context.FacesContext;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.primefaces.component.column.Column;
+import org.primefaces.component.treetable.TreeTable;
+import org.primefaces.mock.FacesContextMock;
+import org.primefaces.model.DefaultTreeNode;
+import org.primefaces.model.FilterMeta;
+import org.primefaces.model.MatchMode;
+import org.primefaces.model.TreeNode;
+
+public class FilterFeatureTest {
+
+    private Map<String, String> params;
+    private FacesContext context;
+    private AtomicInteger evaluations;
+    private TreeTable table;
+    private TreeNode<String> root;
+
+    @BeforeEach
+    public void setup() {
+        params = new HashMap<>();
+        Map<String, Object> requestMap = new HashMap<>();
+        ExternalContext externalContext = mock(ExternalContext.class);
+        when(externalContext.getRequestParameterMap()).thenReturn(params);
+        when(externalContext.getRequestMap()).thenReturn(requestMap);
+
+        Map<Object, Object> attributes = new HashMap<>();
+        attributes.put(UINamingContainer.SEPARATOR_CHAR_PARAM_NAME, ':');
+        context = new FacesContextMock(attributes) {
+            @Override
+            public ExternalContext getExternalContext() {
+                return externalContext;
+            }
+        };
+        context.setViewRoot(new UIViewRoot());
+        context.getViewRoot().setLocale(Locale.ENGLISH);
+
+        table = new TreeTable();
+        table.setId("tt");
+        table.setVar("item");
+        table.setIncrementalFiltering(true);
+        context.getViewRoot().getChildren().add(table);
+
+        Column column = new Column();
+        column.setId("name");
+        table.getChildren().add(column);
+
+        evaluations = new AtomicInteger();
+        ValueExpression filterBy = mock(ValueExpression.class);
+        when(filterBy.getValue(any())).thenAnswer(i -> {
+            evaluations.incrementAndGet();
+            return requestMap.get("item");
+        });
+
+        Map<String, FilterMeta> filters = new LinkedHashMap<>();
+        filters.put("tt:name", new FilterMeta("name", "tt:name", filterBy, MatchMode.CONTAINS, null));
+        filters.put(FilterMeta.GLOBAL_FILTER_KEY, FilterMeta.of(null, null));
+        table.setFilterByAsMap(filters);
+
+        root = new DefaultTreeNode<>("root", null);
+        for (String fruit : Arrays.asList("apple", "banana", "cherry", "grape")) {
+            new DefaultTreeNode<>(fruit, root);
+        }
+        table.setValue(root);
+    }
+
+    @Test
+    public void narrowingFiltersPreviousResult() {
+        filter("a", null);
+        assertEquals(Arrays.asList("apple", "banana", "grape"), filteredData());
+
+        assertEquals(Arrays.asList("apple", "grape"), filter("ap", null));
+        // only the previously filtered nodes are evaluated again
+        assertEquals(3, evaluations.get());
+    }
+
+    @Test
+    public void wideningFiltersWholeTree() {
+        filter("ap", null);
+        assertEquals(Arrays.asList("apple", "grape"), filteredData());
+
+        assertEquals(Arrays.asList("apple", "banana", "grape"), filter("a", null));
+        assertEquals(4, evaluations.get());
+    }
+
+    @Test
+    public void changedGlobalFilterFiltersWholeTree() {
+        filter("a", "an");
+        assertEquals(Arrays.asList("banana"), filteredData());
+
+        assertEquals(Arrays.asList("apple", "grape"), filter("a", "ap"));
+        assertEquals(4, evaluations.get());
+    }
+
+    @Test
+    public void narrowingKeepsSortedPreviousResult() {
+        filter("a", null);
+
+        // sorted descending, like SortFeature does after filtering
+        TreeNode<String> sorted = new DefaultTreeNode<>("root", null);
+        for (String fruit : Arrays.asList("grape", "banana", "apple")) {
+            new DefaultTreeNode<>(fruit, sorted);
+        }
+        table.updateFilteredValue(context, sorted);
+
+        assertEquals(Arrays.asList("grape", "apple"), filter("ap", null));
+        assertEquals(3, evaluations.get());
+    }
+
+    @Test
+    public void countNodesStopsAtLimit() {
+        new DefaultTreeNode<>("apple0", root.getChildren().get(0));
+        assertEquals(5, FilterFeature.getInstance().countNodes(root, 10));
+        assertEquals(2, FilterFeature.getInstance().countNodes(root, 2));
+    }
+
+    private List<String> filter(String value, String globalValue) {
+        params.clear();
+        params.put("tt_filtering", "true");
+        if (value != null) {
+            params.put("tt:name:filter", value);
+        }
+        if (globalValue != null) {
+            params.put("tt:globalFilter", globalValue);
+        }
+
+        FilterFeature.getInstance().decode(context, table);
+        evaluations.set(0);
+        FilterFeature.getInstance().filter(context, table, root);
+        return filteredData();
+    }
+
+    private List<String> filteredData() {
+        List<String> data = new ArrayList<>();
+        for (TreeNode<?> node : table.getFilteredValue().getChildren()) {
+            data.add((String) node.getData());
+        }
+        return data;
+    }
+
+    @Test
+    public void createFilteredValueFromRowKeys() {
+        TreeNode<String> root = new DefaultTreeNode<>("root", null);
+        TreeNode<String> a = new DefaultTreeNode<>("a", root);
+        TreeNode<String> a0 = new DefaultTreeNode<>("a0", a);
+        new DefaultTreeNode<>("a00", a0);
+        new DefaultTreeNode<>("a1", a);
+        TreeNode<String> b = new DefaultTreeNode<>("b", root);
+        new DefaultTreeNode<>("b0", b);
+        new DefaultTreeNode<>("c", root);
+
+        // matches "a_0" (a0) and "1" (b)
+        TreeNode<String> filtered = new DefaultTreeNode<>("root", null);
+        FilterFeature.getInstance().createFilteredValueFromRowKeys(null, root, filtered, Arrays.asList(a0.getRowKey(), b.getRowKey()));
+
+        assertEquals(2, filtered.getChildCount());
+
+        TreeNode<String> filteredA = filtered.getChildren().get(0);
+        assertEquals("a", filteredA.getData());
+        assertTrue(filteredA.isExpanded());
+        assertEquals(1, filteredA.getChildCount());
+
+        // matching nodes keep their whole subtree
+        TreeNode<String> filteredA0 = filteredA.getChildren().get(0);
+        assertEquals("a0", filteredA0.getData());
+        assertFalse(filteredA0.isExpanded());
+        assertEquals("a00", filteredA0.getChildren().get(0).getData());
+
+        TreeNode<String> filteredB = filtered.getChildren().get(1);
+        assertEquals("b", filteredB.getData());
+        assertEquals("b0", filteredB.getChildren().get(0).getData());
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2021 PrimeTek
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.metadata;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.el.ExpressionFactory;
+import javax.el.ValueExpression;
+import javax.faces.component.UIViewRoot;
+import javax.faces.component.html.HtmlInputText;
+import javax.faces.context.ExternalContext;
+import javax.faces.context.FacesContext;
+import javax.validation.Validator;
+
+import org.junit.jupiter.api.Test;
+import org.primefaces.context.PrimeApplicationContext;
+
+import de.odysseus.el.ExpressionFactoryImpl;
+import de.odysseus.el.util.SimpleContext;
+import de.odysseus.el.util.SimpleResolver;
+
+public class BeanValidationMetadataExtractorTest {
+
+    @Test
+    public void resolveMetadataPerBaseClass() {
+        SimpleContext elContext = new SimpleContext(new SimpleResolver());
+        Bean bean = new Bean();
+        bean.setAddress(new HomeAddress());
+        elContext.getELResolver().setValue(elContext, null, "bean", bean);
+
+        FacesContext context = mock(FacesContext.class);
+        ExternalContext externalContext = mock(ExternalContext.class);
+        UIViewRoot viewRoot = mock(UIViewRoot.class);
+        when(context.getELContext()).thenReturn(elContext);
+        when(context.getExternalContext()).thenReturn(externalContext);
+        when(context.getViewRoot()).thenReturn(viewRoot);
+        when(externalContext.getRequestMap()).thenReturn(new HashMap<>());
+        when(viewRoot.getViewId()).thenReturn("/index.xhtml");
+
+        Map<String, String[]> expressionCache = new ConcurrentHashMap<>();
+        PrimeApplicationContext applicationContext = mock(PrimeApplicationContext.class);
+        when(applicationContext.getBeanValidationExpressionCacheMap()).thenReturn(expressionCache);
+        when(applicationContext.getBeanValidationPropertyCacheMap()).thenReturn(new ConcurrentHashMap<>());
+        when(applicationContext.getValidator()).thenReturn(mock(Validator.class));
+
+        HtmlInputText component = new HtmlInputText();
+        component.setId("street");
+        ExpressionFactory factory = new ExpressionFactoryImpl(ExpressionFactoryImpl.Profile.JEE6);
+        ValueExpression ve = factory.createValueExpression(elContext, "#{bean.address.street}", String.class);
+
+        BeanValidationPropertyMetadata metadata = BeanValidationMetadataExtractor.extractPropertyMetadata(context, applicationContext, component, ve);
+        assertEquals(HomeAddress.class, metadata.getBeanClass());
+        assertEquals("street", metadata.getProperty());
+        assertEquals(1, expressionCache.size());
+
+        // the cached path must not pin the class of the first evaluation
+        bean.setAddress(new WorkAddress());
+        metadata = BeanValidationMetadataExtractor.extractPropertyMetadata(context, applicationContext, component, ve);
+        assertEquals(WorkAddress.class, metadata.getBeanClass());
+        assertEquals("street", metadata.getProperty());
+    }
+
+    public static class Bean {
+
+        private Address address;
+
+        public Address getAddress() {
+            return address;
+        }
+
+        public void setAddress(Address address) {
+            this.address = address;
+        }
+    }
+
+    public static class Address {
+
+        private String street;
+
+        public String getStreet() {
+            return street;
+        }
+
+        public void setStreet(String street) {
+            this.street = street;
+        }
+    }
+
+    public static class HomeAddress extends Address {
+    }
+
+    public static class WorkAddress extends Address {
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2021 PrimeTek
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.model;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.persistence.EntityManager;
+import javax.persistence.TypedQuery;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.metamodel.EntityType;
+import javax.persistence.metamodel.Metamodel;
+import javax.persistence.metamodel.SingularAttribute;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class JpaLazyDataModelTest {
+
+    private JpaLazyDataModel<Person> model;
+
+    @BeforeEach
+    public void setup() {
+        EntityType<Person> entityType = mock(EntityType.class);
+        SingularAttribute id = attribute(false);
+        SingularAttribute age = attribute(false);
+        SingularAttribute name = attribute(true);
+        when(entityType.getAttribute("id")).thenReturn(id);
+        when(entityType.getAttribute("age")).thenReturn(age);
+        when(entityType.getAttribute("name")).thenReturn(name);
+        when(entityType.getAttribute("unknown")).thenThrow(new IllegalArgumentException());
+
+        Metamodel metamodel = mock(Metamodel.class);
+        when(metamodel.managedType(Person.class)).thenReturn(entityType);
+        EntityManager entityManager = mock(EntityManager.class);
+        when(entityManager.getMetamodel()).thenReturn(metamodel);
+
+        model = new JpaLazyDataModel<>(Person.class, () -> entityManager, "id");
+        model.setKeysetPagination(true);
+    }
+
+    @Test
+    public void keysetSortOnNonNullableField() {
+        List<SortMeta> keysetSort = model.resolveKeysetSort(sortBy("age"));
+
+        Assertions.assertEquals(2, keysetSort.size());
+        Assertions.assertEquals("age", keysetSort.get(0).getField());
+        Assertions.assertEquals("id", keysetSort.get(1).getField());
+    }
+
+    @Test
+    public void offsetPaginationOnNullableField() {
+        // rows with a NULL name would never match "name > :lastName" and disappear from the following pages
+        Assertions.assertNull(model.resolveKeysetSort(sortBy("age", "name")));
+        Assertions.assertNull(model.resolveKeysetSort(sortBy("unknown")));
+    }
+
+    @Test
+    public void noBoundaryForNullSortValue() {
+        List<SortMeta> keysetSort = Arrays.asList(
+                SortMeta.builder().field("age").order(SortOrder.ASCENDING).build(),
+                SortMeta.builder().field("id").order(SortOrder.ASCENDING).build());
+
+        Assertions.assertArrayEquals(new Object[]{30, 1L}, model.extractKeysetValues(new Person(1L, 30, "Anna"), keysetSort));
+        Assertions.assertNull(model.extractKeysetValues(new Person(2L, null, null), keysetSort));
+    }
+
+    @Test
+    public void rowDataOfMultipleKeysInChunks() {
+        List<Person> persons = new ArrayList<>();
+        for (long i = 0; i < 1500; i++) {
+            persons.add(new Person(i, 30, "Person " + i));
+        }
+
+        // each IN query returns the persons of its chunk of ids
+        List<Collection<Long>> queriedIds = new ArrayList<>();
+        Root<Person> root = mock(Root.class);
+        Path<Object> idPath = mock(Path.class);
+        when(root.get("id")).thenReturn(idPath);
+        when(idPath.in(anyCollection())).thenAnswer(invocation -> {
+            queriedIds.add(new ArrayList<>(invocation.getArgument(0)));
+            return mock(Predicate.class);
+        });
+        CriteriaQuery<Person> cq = mock(CriteriaQuery.class);
+        when(cq.from(Person.class)).thenReturn(root);
+        when(cq.select(root)).thenReturn(cq);
+        when(cq.where(any(Predicate.class))).thenReturn(cq);
+        CriteriaBuilder criteriaBuilder = mock(CriteriaBuilder.class);
+        when(criteriaBuilder.createQuery(Person.class)).thenReturn(cq);
+        TypedQuery<Person> query = mock(TypedQuery.class);
+        when(query.getResultList()).thenAnswer(invocation -> persons.stream()
+                .filter(p -> queriedIds.get(queriedIds.size() - 1).contains(p.getId()))
+                .collect(Collectors.toList()));
+        EntityManager entityManager = mock(EntityManager.class);
+        when(entityManager.getCriteriaBuilder()).thenReturn(criteriaBuilder);
+        when(entityManager.createQuery(cq)).thenReturn(query);
+
+        JpaLazyDataModel<Person> model = new JpaLazyDataModel<Person>(Person.class, () -> entityManager, "id") {
+            @Override
+            protected <V> V convertToType(String value, Class<V> valueType) {
+                return valueType.cast(Long.valueOf(value));
+            }
+        };
+
+        List<String> rowKeys = new ArrayList<>();
+        for (int i = 0; i < 1200; i++) {
+            rowKeys.add(String.valueOf(i));
+        }
+        rowKeys.add("9999");
+
+        Map<String, Person> rowData = model.getRowData(rowKeys);
+
+        Assertions.assertEquals(2, queriedIds.size());
+        Assertions.assertEquals(JpaLazyDataModel.MAX_IN_PARAMETERS, queriedIds.get(0).size());
+        Assertions.assertEquals(201, queriedIds.get(1).size());
+        Assertions.assertEquals(1200, rowData.size());
+        Assertions.assertEquals("Person 1199", rowData.get("1199").getName());
+        Assertions.assertFalse(rowData.containsKey("9999"));
+    }
+
+    private static SingularAttribute attribute(boolean optional) {
+        SingularAttribute attribute = mock(SingularAttribute.class);
+        when(attribute.isOptional()).thenReturn(optional);
+        return attribute;
+    }
+
+    private static Map<String, SortMeta> sortBy(String... fields) {
+        Map<String, SortMeta> sortBy = new LinkedHashMap<>();
+        for (String field : fields) {
+            sortBy.put(field, SortMeta.builder().field(field).order(SortOrder.ASCENDING).build());
+        }
+        return sortBy;
+    }
+
+    public static class Person {
+
+        private Long id;
+        private Integer age;
+        private String name;
+
+        public Person(Long id, Integer age, String name) {
+            this.id = id;
+            this.age = age;
+            this.name = name;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public Integer getAge() {
+            return age;
+        }
+
+        public void setAge(Integer age) {
+            this.age = age;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2021 PrimeTek
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LazyTreeNodeTest {
+
+    /**
+     * Every node "x" has 5 children "x_0".."x_4", down to a depth of 3.
+     */
+    private static class CountingModel extends LazyTreeModel<String> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final List<String> loads = new ArrayList<>();
+
+        CountingModel(int pageSize) {
+            super("", pageSize);
+        }
+
+        @Override
+        public int countChildren(String parent, Map<String, FilterMeta> filterBy) {
+            return parent.split("_").length > 3 ? 0 : 5;
+        }
+
+        @Override
+        public List<String> loadChildren(String parent, int first, int pageSize, Map<String, SortMeta> sortBy, Map<String, FilterMeta> filterBy) {
+            loads.add(parent + "@" + first);
+            int count = countChildren(parent, filterBy);
+            int last = pageSize <= 0 ? count : Math.min(count, first + pageSize);
+            List<String> children = new ArrayList<>();
+            for (int i = first; i < last; i++) {
+                children.add(parent.isEmpty() ? String.valueOf(i) : parent + "_" + i);
+            }
+            return children;
+        }
+    }
+
+    @Test
+    public void shouldLoadOnlyExpandedNodes() {
+        CountingModel model = new CountingModel(0);
+        LazyTreeNode<String> root = model.getRoot();
+
+        assertEquals(5, root.getChildCount());
+        assertEquals(1, model.loads.size());
+
+        TreeNode<String> child = root.getChildren().get(2);
+        assertEquals("2", child.getRowKey());
+        assertEquals(0, child.getChildCount());
+        assertFalse(child.isLeaf());
+        assertEquals(1, model.loads.size());
+
+        child.setExpanded(true);
+        assertEquals(5, child.getChildCount());
+        assertEquals("2_4", child.getChildren().get(4).getRowKey());
+        assertEquals(2, model.loads.size());
+    }
+
+    @Test
+    public void shouldLoadChildrenPageByPage() {
+        CountingModel model = new CountingModel(2);
+        LazyTreeNode<String> root = model.getRoot();
+
+        assertEquals(5, root.getTotalChildCount());
+        assertEquals(2, root.getChildCount());
+        assertTrue(root.hasMoreChildren());
+
+        root.loadMoreChildren();
+        assertEquals(4, root.getChildCount());
+
+        root.loadChildren(10);
+        assertEquals(5, root.getChildCount());
+        assertFalse(root.hasMoreChildren());
+        assertEquals("4", root.getChildren().get(4).getRowKey());
+        assertEquals(3, model.loads.size());
+    }
+
+    @Test
+    public void shouldReloadWhenCriteriaChange() {
+        CountingModel model = new CountingModel(0);
+        LazyTreeNode<String> root = model.getRoot();
+        root.getChildren();
+
+        model.setSortBy(Collections.emptyMap());
+        assertTrue(root.isLoaded());
+
+        model.setSortBy(Collections.singletonMap("name", SortMeta.builder().field("name").order(SortOrder.DESCENDING).build()));
+        assertFalse(root.isLoaded());
+        assertEquals(5, root.getChildCount());
+        assertEquals(2, model.loads.size());
+    }
+}
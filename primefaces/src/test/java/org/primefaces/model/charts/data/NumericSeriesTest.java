@@ -0,0 +1,107 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2021 PrimeTek
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.model.charts.data;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+import org.primefaces.model.charts.line.LineChartDataSet;
+import org.primefaces.util.ChartUtils;
+import org.primefaces.util.FastStringWriter;
+
+public class NumericSeriesTest {
+
+	private static NumericSeries sine(int size) {
+		long[] x = new long[size];
+		double[] y = new double[size];
+		for (int i = 0; i < size; i++) {
+			x[i] = 1000L * i;
+			y[i] = Math.sin(i / 100.0);
+		}
+		y[size / 3] = 10;
+		return new NumericSeries(x, y);
+	}
+
+	@Test
+	public void downsampleLttb() {
+		NumericSeries series = sine(100000);
+		NumericSeries sampled = series.downsample(800, NumericSeries.Downsampling.LTTB);
+
+		assertEquals(800, sampled.size());
+		assertEquals(series.getX(0), sampled.getX(0));
+		assertEquals(series.getX(series.size() - 1), sampled.getX(sampled.size() - 1));
+		boolean peak = false;
+		for (int i = 0; i < sampled.size(); i++) {
+			peak |= sampled.getY(i) == 10;
+			if (i > 0) {
+				assertTrue(sampled.getX(i) > sampled.getX(i - 1));
+			}
+		}
+		assertTrue(peak);
+	}
+
+	@Test
+	public void downsampleMinMax() {
+		NumericSeries series = sine(100000);
+		NumericSeries sampled = series.downsample(800, NumericSeries.Downsampling.MIN_MAX);
+
+		assertEquals(800, sampled.size());
+		double max = Double.NEGATIVE_INFINITY;
+		for (int i = 0; i < sampled.size(); i++) {
+			max = Math.max(max, sampled.getY(i));
+			if (i > 0) {
+				assertTrue(sampled.getX(i) > sampled.getX(i - 1));
+			}
+		}
+		assertEquals(10, max);
+	}
+
+	@Test
+	public void downsampleSmallSeries() {
+		NumericSeries series = new NumericSeries(new double[] {1, 2, 3});
+		assertSame(series, series.downsample(800, NumericSeries.Downsampling.LTTB));
+	}
+
+	@Test
+	public void encode() throws IOException {
+		FastStringWriter fsw = new FastStringWriter();
+		ChartUtils.writeNumericSeries(fsw, new NumericSeries(new double[] {1, 2.5, Double.NaN}));
+		assertEquals("[1,2.5,null]", fsw.toString());
+
+		fsw = new FastStringWriter();
+		ChartUtils.writeNumericSeries(fsw, new NumericSeries(new long[] {1000L, 2000L}, new double[] {-1, 0.25}));
+		assertEquals("[{\"x\":1000,\"y\":-1},{\"x\":2000,\"y\":0.25}]", fsw.toString());
+
+		LineChartDataSet dataSet = new LineChartDataSet();
+		dataSet.setSeries(sine(10000));
+		dataSet.setDownsampleThreshold(100);
+		String json = dataSet.encode();
+		assertTrue(json.startsWith("{\"type\":\"line\",\"data\":[{\"x\":0,\"y\":0},"));
+		assertEquals(100, json.split("\\{\"x\"").length - 1);
+	}
+}
@@ -0,0 +1,75 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2021 PrimeTek
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.model.filter;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import javax.faces.context.FacesContext;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.function.Predicate;
+
+public class FilterConstraintTest {
+
+    @Test
+    public void builtInPredicates() {
+        Predicate<Object> contains = new ContainsFilterConstraint().toPredicate(null, " FOO ", Locale.ENGLISH);
+        Predicate<Object> in = new InFilterConstraint().toPredicate(null, Arrays.asList(1, 2), Locale.ENGLISH);
+        Predicate<Object> notIn = new NegationFilterConstraintWrapper(new InFilterConstraint()).toPredicate(null, Arrays.asList(1, 2), Locale.ENGLISH);
+
+        Assertions.assertTrue(contains.test("xfoox"));
+        Assertions.assertFalse(contains.test("bar"));
+        Assertions.assertTrue(in.test(2));
+        Assertions.assertFalse(notIn.test(2));
+    }
+
+    @Test
+    public void subclassOverridingIsMatching() {
+        // e.g. an application constraint, which also matches accented characters
+        FilterConstraint constraint = new ContainsFilterConstraint() {
+            @Override
+            public boolean isMatching(FacesContext ctxt, Object value, Object filter, Locale locale) {
+                return super.isMatching(ctxt, value.toString().replace('é', 'e'), filter, locale);
+            }
+        };
+
+        Predicate<Object> predicate = constraint.toPredicate(null, "cafe", Locale.ENGLISH);
+
+        Assertions.assertTrue(predicate.test("Café"));
+        Assertions.assertTrue(new NegationFilterConstraintWrapper(constraint).toPredicate(null, "tea", Locale.ENGLISH).test("Café"));
+    }
+
+    @Test
+    public void onlyBuiltInConstraintsAreThreadSafe() {
+        FilterConstraint custom = (ctxt, value, filter, locale) -> FacesContext.getCurrentInstance() != null;
+
+        Assertions.assertTrue(FilterConstraints.isThreadSafe(new ContainsFilterConstraint()));
+        Assertions.assertTrue(FilterConstraints.isThreadSafe(new GlobalFilterConstraint()));
+        Assertions.assertTrue(FilterConstraints.isThreadSafe(new NegationFilterConstraintWrapper(new InFilterConstraint())));
+        Assertions.assertFalse(FilterConstraints.isThreadSafe(custom));
+        Assertions.assertFalse(FilterConstraints.isThreadSafe(new NegationFilterConstraintWrapper(custom)));
+        Assertions.assertFalse(FilterConstraints.isThreadSafe(new FunctionFilterConstraint(null)));
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2021 PrimeTek
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.model.timeline;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class TimelineModelTest {
+
+	private static final LocalDateTime START = LocalDateTime.of(2020, 1, 1, 0, 0);
+
+	private static TimelineEvent<String> event(String id, String group, int startHour, Integer endHour) {
+		return TimelineEvent.<String>builder()
+				.id(id)
+				.group(group)
+				.startDate(START.plusHours(startHour))
+				.endDate(endHour != null ? START.plusHours(endHour) : null)
+				.build();
+	}
+
+	@Test
+	public void getOverlappedEvents() {
+		TimelineModel<String, Object> model = new TimelineModel<>();
+		TimelineEvent<String> event = event("e", "a", 10, 20);
+		model.add(event);
+		model.add(event("long", "a", 0, 100));
+		model.add(event("touching", "a", 20, 30));
+		model.add(event("point", "a", 15, null));
+		model.add(event("before", "a", 0, 9));
+		model.add(event("after", "a", 21, 22));
+		model.add(event("otherGroup", "b", 10, 20));
+
+		Set<TimelineEvent<String>> overlapped = model.getOverlappedEvents(event);
+
+		assertEquals(Arrays.asList("long", "point", "touching"),
+				overlapped.stream().map(TimelineEvent::getId).collect(Collectors.toList()));
+	}
+
+	@Test
+	public void updateAndDelete() {
+		TimelineModel<String, Object> model = new TimelineModel<>();
+		TimelineEvent<String> event = event("e", null, 10, 20);
+		TimelineEvent<String> other = event("other", null, 30, 40);
+		model.addAll(Arrays.asList(event, other));
+		assertTrue(model.getOverlappedEvents(event).isEmpty());
+
+		other.setStartDate(START.plusHours(15));
+		model.update(other);
+		assertEquals(1, model.getOverlappedEvents(event).size());
+
+		model.delete(event("other", null, 0, 1));
+		assertFalse(model.hasEvent(other));
+		assertNull(model.getEvent("other"));
+		assertTrue(model.getOverlappedEvents(event).isEmpty());
+		assertEquals(1, model.getEvents().size());
+	}
+
+	@Test
+	public void modificationsOfEventList() {
+		TimelineModel<String, Object> model = new TimelineModel<>();
+		TimelineEvent<String> event = event("e", null, 10, 20);
+		model.add(event);
+		assertSame(event, model.getEvent("e"));
+
+		TimelineEvent<String> added = event("added", null, 12, 13);
+		model.getEvents().add(added);
+		assertSame(added, model.getEvent("added"));
+		assertEquals(1, model.getOverlappedEvents(event).size());
+
+		TimelineEvent<String> replacement = event("replacement", null, 50, 60);
+		model.getEvents().set(1, replacement);
+		assertNull(model.getEvent("added"));
+		assertTrue(model.getOverlappedEvents(event).isEmpty());
+	}
+
+	@Test
+	public void getEventsInRange() {
+		TimelineModel<String, Object> model = new TimelineModel<>();
+		for (int i = 0; i < 1000; i++) {
+			model.add(event(String.valueOf(i), "g" + (i % 3), i, i + 2));
+		}
+		model.add(event("point", null, 500, null));
+
+		assertEquals(14, model.getEvents(START.plusHours(495), START.plusHours(505)).size());
+		assertEquals(2, model.getEvents(START.plusHours(-5), START.plusHours(1)).size());
+		assertTrue(model.getEvents(START.plusHours(2000), START.plusHours(3000)).isEmpty());
+
+		model.deleteAll(Arrays.asList(model.getEvent("500"), model.getEvent("501"), model.getEvent("point")));
+		assertEquals(11, model.getEvents(START.plusHours(495), START.plusHours(505)).size());
+		assertEquals(998, model.getEvents().size());
+	}
+
+	@Test
+	public void eventsChangedWithoutUpdate() {
+		TimelineModel<String, Object> model = new TimelineModel<>();
+		TimelineEvent<String> event = event("e", "a", 10, 20);
+		TimelineEvent<String> other = event("other", "a", 30, 40);
+		model.addAll(Arrays.asList(event, other));
+		assertTrue(model.getOverlappedEvents(event).isEmpty());
+
+		// moved into the range without model.update(other)
+		other.setStartDate(START.plusHours(15));
+		assertEquals(1, model.getOverlappedEvents(event).size());
+		assertEquals(2, model.getEvents(START.plusHours(16), START.plusHours(17)).size());
+
+		// moved to another group
+		other.setGroup("b");
+		assertTrue(model.getOverlappedEvents(event).isEmpty());
+
+		// moved out of the range by its end date
+		event.setEndDate(START.plusHours(11));
+		assertEquals(Arrays.asList("other"), model.getEvents(START.plusHours(16), START.plusHours(17)).stream()
+				.map(TimelineEvent::getId).collect(Collectors.toList()));
+	}
+
+	@Test
+	public void eventsOnlyNotifyTheirModel() {
+		TimelineModel<String, Object> model = new TimelineModel<>();
+		TimelineModel<String, Object> otherModel = new TimelineModel<>();
+		TimelineEvent<String> event = event("e", "a", 10, 20);
+		TimelineEvent<String> other = event("other", "a", 30, 40);
+		model.add(event);
+		otherModel.add(other);
+		assertTrue(model.getOverlappedEvents(event).isEmpty());
+
+		assertNotSame(event.getIndex(), other.getIndex());
+
+		// deleted events are detached from the index of the model
+		model.delete(event);
+		assertNull(event.getIndex());
+		event.setStartDate(START.plusHours(35));
+		assertTrue(model.getEvents(START, START.plusHours(100)).isEmpty());
+		assertEquals(Arrays.asList("other"), otherModel.getEvents(START.plusHours(35), START.plusHours(36)).stream()
+				.map(TimelineEvent::getId).collect(Collectors.toList()));
+	}
+}
@@ -0,0 +1,191 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2021 PrimeTek
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ListResourceBundle;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.faces.application.Application;
+import javax.faces.application.FacesMessage;
+import javax.faces.application.ProjectStage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.primefaces.context.PrimeApplicationContext;
+import org.primefaces.mock.ApplicationMock;
+import org.primefaces.mock.FacesContextMock;
+
+public class MessageFactoryTest {
+
+    private Map<String, MessageFactory.ResolvedMessage> cache;
+    private ProjectStage projectStage;
+    private FacesContextMock context;
+
+    @BeforeEach
+    public void setup() {
+        cache = new ConcurrentHashMap<>();
+        projectStage = ProjectStage.Production;
+
+        Application application = new ApplicationMock() {
+            @Override
+            public String getMessageBundle() {
+                return Messages.class.getName();
+            }
+        };
+        context = new FacesContextMock() {
+            @Override
+            public boolean isProjectStage(ProjectStage stage) {
+                return stage == projectStage;
+            }
+
+            @Override
+            public Application getApplication() {
+                return application;
+            }
+        };
+
+        PrimeApplicationContext applicationContext = mock(PrimeApplicationContext.class);
+        when(applicationContext.getMessageCacheMap()).thenReturn(cache);
+        context.getExternalContext().getApplicationMap().put(PrimeApplicationContext.INSTANCE_KEY, applicationContext);
+    }
+
+    @AfterEach
+    public void teardown() {
+        context.getExternalContext().getApplicationMap().remove(PrimeApplicationContext.INSTANCE_KEY);
+    }
+
+    @Test
+    public void cacheHit() {
+        assertEquals("Hello World", MessageFactory.getMessage(Locale.ENGLISH, "greeting", "World"));
+        assertEquals(1, cache.size());
+        MessageFactory.ResolvedMessage message = cache.values().iterator().next();
+
+        assertEquals("Hello Moon", MessageFactory.getMessage(Locale.ENGLISH, "greeting", "Moon"));
+        assertEquals(1, cache.size());
+        assertSame(message, cache.values().iterator().next());
+
+        // the cached patterns are used instead of the bundle
+        cache.replaceAll((k, v) -> new MessageFactory.ResolvedMessage(Locale.ENGLISH, "Cached {0}", null));
+        assertEquals("Cached Moon", MessageFactory.getMessage(Locale.ENGLISH, "greeting", "Moon"));
+    }
+
+    @Test
+    public void cachePerLocale() {
+        assertEquals("Hello World", MessageFactory.getMessage(Locale.ENGLISH, "greeting", "World"));
+        assertEquals("Hallo Welt", MessageFactory.getMessage(Locale.GERMAN, "greeting", "Welt"));
+        assertEquals(2, cache.size());
+        assertTrue(cache.keySet().stream().anyMatch(k -> k.contains("|de|greeting")));
+        assertTrue(cache.keySet().stream().anyMatch(k -> k.contains("|en|greeting")));
+    }
+
+    @Test
+    public void detailFallback() {
+        FacesMessage message = MessageFactory.getFacesMessage(Locale.ENGLISH, "greeting", "World");
+        assertEquals("Hello World", message.getSummary());
+        assertEquals("Welcome World", message.getDetail());
+
+        // the German bundle only overrides the summary, the detail comes from the parent bundle
+        message = MessageFactory.getFacesMessage(Locale.GERMAN, "greeting", "Welt");
+        assertEquals("Hallo Welt", message.getSummary());
+        assertEquals("Welcome Welt", message.getDetail());
+
+        // without a _detail message the summary is used
+        message = MessageFactory.getFacesMessage(Locale.ENGLISH, "summaryOnly", "World");
+        assertEquals("Only World", message.getSummary());
+        assertEquals("Only World", message.getDetail());
+
+        // messages missing in the user bundle are resolved from the PrimeFaces bundle, including the detail
+        message = MessageFactory.getFacesMessage(Locale.ENGLISH, "primefaces.tree.REQUIRED", "Tree");
+        assertEquals("Tree: Validation Error.", message.getSummary());
+        assertEquals("Selection is required.", message.getDetail());
+    }
+
+    @Test
+    public void cachedMessageFormatIsThreadSafe() throws Exception {
+        MessageFactory.ResolvedMessage message = new MessageFactory.ResolvedMessage(Locale.ENGLISH, "{0} of {1}", "{1} - {0}");
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                String first = "a" + i;
+                String second = "b" + i;
+                results.add(executor.submit(() -> (first + " of " + second).equals(message.getSummary(first, second))
+                        && (second + " - " + first).equals(message.getDetail(first, second))));
+            }
+
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get());
+            }
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void noCacheOutsideOfProduction() {
+        projectStage = ProjectStage.Development;
+
+        assertEquals("Hello World", MessageFactory.getMessage(Locale.ENGLISH, "greeting", "World"));
+        assertEquals("Hallo Welt", MessageFactory.getMessage(Locale.GERMAN, "greeting", "Welt"));
+        assertTrue(cache.isEmpty());
+    }
+
+    public static class Messages extends ListResourceBundle {
+
+        @Override
+        protected Object[][] getContents() {
+            return new Object[][] {
+                {"greeting", "Hello {0}"},
+                {"greeting_detail", "Welcome {0}"},
+                {"summaryOnly", "Only {0}"}
+            };
+        }
+    }
+
+    public static class Messages_de extends ListResourceBundle {
+
+        @Override
+        protected Object[][] getContents() {
+            return new Object[][] {
+                {"greeting", "Hallo {0}"}
+            };
+        }
+    }
+}
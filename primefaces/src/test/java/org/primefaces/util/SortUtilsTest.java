@@ -0,0 +1,106 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2021 PrimeTek
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.primefaces.model.SortMeta;
+import org.primefaces.model.SortOrder;
+
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.Locale;
+
+public class SortUtilsTest {
+
+    private static final Locale LOCALE = Locale.GERMAN;
+
+    @Test
+    public void sortStringsCaseInsensitiveWithLocale() {
+        SortMeta sortMeta = SortMeta.builder().field("name").order(SortOrder.ASCENDING).build();
+
+        Integer[] indexes = sort(sortMeta, "zebra", "Äpfel", "apfel", "Birne", "banane");
+
+        // umlauts are sorted next to their base letter, the case is ignored
+        Assertions.assertArrayEquals(new Integer[]{2, 1, 4, 3, 0}, indexes);
+    }
+
+    @Test
+    public void sortStringsCaseSensitive() {
+        SortMeta sortMeta = SortMeta.builder().field("name").order(SortOrder.DESCENDING).caseSensitiveSort(true).build();
+
+        Integer[] indexes = sort(sortMeta, "b", "B", "a");
+
+        Assertions.assertArrayEquals(new Integer[]{1, 0, 2}, indexes);
+    }
+
+    @Test
+    public void sortNulls() {
+        SortMeta nullsFirst = SortMeta.builder().field("name").order(SortOrder.ASCENDING).nullSortOrder(-1).build();
+        SortMeta nullsLast = SortMeta.builder().field("name").order(SortOrder.ASCENDING).nullSortOrder(1).build();
+
+        Assertions.assertArrayEquals(new Integer[]{1, 2, 0}, sort(nullsFirst, "b", null, "a"));
+        Assertions.assertArrayEquals(new Integer[]{2, 0, 1}, sort(nullsLast, "b", null, "a"));
+        Assertions.assertArrayEquals(new Integer[]{1, 2, 0}, sort(nullsFirst, 3, null, 1));
+    }
+
+    @Test
+    public void toSortKeys() {
+        SortMeta sortMeta = SortMeta.builder().field("name").build();
+        Collator collator = Collator.getInstance(LOCALE);
+
+        Object[] strings = SortUtils.toSortKeys(new Object[]{"a", null}, sortMeta, collator, LOCALE);
+        Object[] mixed = SortUtils.toSortKeys(new Object[]{"a", 1}, sortMeta, collator, LOCALE);
+
+        Assertions.assertTrue(strings[0] instanceof CollationKey);
+        Assertions.assertNull(strings[1]);
+        Assertions.assertEquals("a", mixed[0]);
+    }
+
+    @Test
+    public void multiSortIsStable() {
+        SortMeta byCity = SortMeta.builder().field("city").order(SortOrder.ASCENDING).build();
+        SortMeta byAge = SortMeta.builder().field("age").order(SortOrder.DESCENDING).build();
+        SortMeta[] sortMetas = {byCity, byAge};
+        Collator collator = Collator.getInstance(LOCALE);
+
+        Object[][] sortKeys = {
+            SortUtils.toSortKeys(new Object[]{"Wien", "Berlin", "wien", "Berlin", "Berlin"}, byCity, collator, LOCALE),
+            SortUtils.toSortKeys(new Object[]{30, 20, 40, 20, 50}, byAge, collator, LOCALE)
+        };
+
+        Integer[] sequential = SortUtils.sortIndexes(sortMetas, sortKeys, collator, LOCALE, false);
+        Integer[] parallel = SortUtils.sortIndexes(sortMetas, sortKeys, collator, LOCALE, true);
+
+        // equal keys keep their original order
+        Assertions.assertArrayEquals(new Integer[]{4, 1, 3, 2, 0}, sequential);
+        Assertions.assertArrayEquals(sequential, parallel);
+    }
+
+    private static Integer[] sort(SortMeta sortMeta, Object... values) {
+        Collator collator = Collator.getInstance(LOCALE);
+        Object[][] sortKeys = {SortUtils.toSortKeys(values, sortMeta, collator, LOCALE)};
+        return SortUtils.sortIndexes(new SortMeta[]{sortMeta}, sortKeys, collator, LOCALE, false);
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2021 PrimeTek
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.primefaces.model.StreamedContent;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+public class StreamedContentRegistryTest {
+
+    @Test
+    public void releaseEvictedContent() {
+        StreamedContentRegistry registry = new StreamedContentRegistry(2);
+        ClosableContent first = new ClosableContent();
+        ClosableContent second = new ClosableContent();
+
+        registry.put("1", first);
+        registry.put("2", second);
+        registry.put("3", new ClosableContent());
+
+        Assertions.assertTrue(first.closed);
+        Assertions.assertFalse(second.closed);
+        Assertions.assertEquals(2, registry.size());
+    }
+
+    @Test
+    public void releaseOnSessionEnd() {
+        StreamedContentRegistry registry = new StreamedContentRegistry(20);
+        ClosableContent content = new ClosableContent();
+        registry.put("1", content);
+
+        registry.valueUnbound(null);
+
+        Assertions.assertTrue(content.closed);
+        Assertions.assertTrue(registry.isEmpty());
+    }
+
+    private static class ClosableContent implements StreamedContent, AutoCloseable {
+
+        private boolean closed;
+
+        @Override
+        public String getName() {
+            return "export.csv";
+        }
+
+        @Override
+        public String getContentType() {
+            return "text/csv";
+        }
+
+        @Override
+        public String getContentEncoding() {
+            return null;
+        }
+
+        @Override
+        public Integer getContentLength() {
+            return null;
+        }
+
+        @Override
+        public Supplier<InputStream> getStream() {
+            return null;
+        }
+
+        @Override
+        public Consumer<OutputStream> getWriter() {
+            return null;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}